@@ -2,13 +2,24 @@ package com.study;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
 import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@SpringBootApplication(exclude = SecurityAutoConfiguration.class)
+@EnableScheduling
+@SpringBootApplication(exclude = {
+        SecurityAutoConfiguration.class,
+        HibernateJpaAutoConfiguration.class,       /* 데이터 접근은 MyBatis만 사용 (Hibernate 부트스트랩 제외) */
+        JpaRepositoriesAutoConfiguration.class     /* JPA Repository 스캔 제외 */
+})
 public class JpaBoardApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(JpaBoardApplication.class, args);
+        SpringApplication application = new SpringApplication(JpaBoardApplication.class);
+        application.setApplicationStartup(new BufferingApplicationStartup(10_000));    /* 시작 단계별 소요 시간 기록 (StartupReporter) */
+        application.run(args);
     }
 
 }
@@ -2,7 +2,7 @@ package com.study;
 
 import com.study.common.dto.SearchDto;
 import com.study.common.paging.PagingResponse;
-import com.study.domain.post.PostResponse;
+import com.study.domain.post.PostListResponse;
 import com.study.domain.post.PostService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,7 +15,7 @@ public class RestApiTestController {
     private final PostService postService;
 
     @GetMapping("/posts")
-    public PagingResponse<PostResponse> findAllPost() {
+    public PagingResponse<PostListResponse> findAllPost() {
         return postService.findAllPost(new SearchDto());
     }
 
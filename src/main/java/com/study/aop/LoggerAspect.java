@@ -15,6 +15,11 @@ public class LoggerAspect {
     @Around("execution(* com.study.domain..*Controller.*(..)) || execution(* com.study.domain..*Service.*(..)) || execution(* com.study.domain..*Mapper.*(..))")
     public Object printLog(ProceedingJoinPoint joinPoint) throws Throwable {
 
+        // DEBUG 로그가 기록되지 않는 요청(샘플링 제외)은 로그 메시지를 만들지 않음
+        if (log.isDebugEnabled() == false) {
+            return joinPoint.proceed();
+        }
+
         String name = joinPoint.getSignature().getDeclaringTypeName();
         String type =
                 StringUtils.contains(name, "Controller") ? "Controller ===> " :
@@ -22,7 +27,7 @@ public class LoggerAspect {
                                 StringUtils.contains(name, "Mapper") ? "Mapper ===> " :
                                         "";
 
-        log.debug(type + name + "." + joinPoint.getSignature().getName() + "()");
+        log.debug("{}{}.{}()", type, name, joinPoint.getSignature().getName());
         return joinPoint.proceed();
     }
 
@@ -0,0 +1,152 @@
+package com.study.common.bulkhead;
+
+import org.slf4j.MDC;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 벌크헤드 (작업 유형별 동시 실행 수 제한)
+ * 허용량(permit)을 넘는 요청은 대기시키지 않고 즉시 거부한다.
+ * 전용 스레드 풀이 있는 경우, 비동기 서블릿 응답(WebAsyncTask)으로 실행하여 서블릿 컨테이너 스레드를 점유하지 않는다.
+ */
+public class Bulkhead {
+
+    private final String name;
+    private final int maxConcurrent;
+    private final long timeoutMs;
+    private final Semaphore permits;
+    private final ThreadPoolExecutor executor;
+    private final AsyncTaskExecutor taskExecutor;
+
+    private final AtomicLong accepted = new AtomicLong();    // 누적 허용 수
+    private final AtomicLong rejected = new AtomicLong();    // 누적 거부 수
+    private final AtomicInteger peak = new AtomicInteger();  // 최대 동시 실행 수
+
+    /**
+     * @param name - 벌크헤드명
+     * @param maxConcurrent - 최대 동시 실행 수
+     * @param async - 전용 스레드 풀 사용 여부
+     * @param timeoutMs - 비동기 응답 제한 시간 (ms, 0 이하 : 제한 없음)
+     */
+    public Bulkhead(final String name, final int maxConcurrent, final boolean async, final long timeoutMs) {
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.timeoutMs = timeoutMs;
+        this.permits = new Semaphore(maxConcurrent);
+        if (async) {
+            AtomicInteger sequence = new AtomicInteger();
+            // 동시 실행 수는 허용량으로 제한되므로 큐는 스레드가 반환되기 전의 짧은 순간에만 사용된다.
+            // (SynchronousQueue는 작업을 마친 스레드가 풀로 돌아오기 전에 다음 작업을 거부할 수 있음)
+            // 거부된 작업(종료 중 등)은 실행되지 않으므로, 거부 시점에 허용량을 반환한다.
+            this.executor = new ThreadPoolExecutor(maxConcurrent, maxConcurrent, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, name + "-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }, (runnable, pool) -> {
+                release();
+                throw new RejectedExecutionException("bulkhead executor rejected task : " + name);
+            });
+            this.executor.allowCoreThreadTimeOut(true);
+            this.taskExecutor = new TaskExecutorAdapter(executor);
+        } else {
+            this.executor = null;
+            this.taskExecutor = null;
+        }
+    }
+
+    /**
+     * 실행 허용 요청 (허용량이 없는 경우 즉시 실패)
+     * @return 허용 여부
+     */
+    public boolean tryAcquire() {
+        if (permits.tryAcquire() == false) {
+            rejected.incrementAndGet();
+            return false;
+        }
+        accepted.incrementAndGet();
+        peak.accumulateAndGet(getActiveCount(), Math::max);
+        return true;
+    }
+
+    /**
+     * 실행 종료
+     */
+    public void release() {
+        permits.release();
+    }
+
+    /**
+     * 전용 스레드 풀에서 비동기 실행
+     * 요청 스레드의 MDC(correlation id 등)를 작업 스레드로 전달한다.
+     * @param callable - 작업
+     * @return 비동기 작업
+     * @throws BulkheadFullException 허용량이 없는 경우
+     */
+    public <T> WebAsyncTask<T> submit(final Callable<T> callable) {
+        if (taskExecutor == null) {
+            throw new IllegalStateException("bulkhead has no executor : " + name);
+        }
+        if (tryAcquire() == false) {
+            throw new BulkheadFullException(name);
+        }
+
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        return new WebAsyncTask<>(Math.max(0L, timeoutMs), taskExecutor, () -> {
+            if (context != null) {
+                MDC.setContextMap(context);
+            }
+            try {
+                return callable.call();
+            } finally {
+                MDC.clear();
+                release();
+            }
+        });
+    }
+
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int getActiveCount() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public double getSaturation() {
+        return (double) getActiveCount() / maxConcurrent;
+    }
+
+    public int getPeakCount() {
+        return peak.get();
+    }
+
+    public long getAcceptedCount() {
+        return accepted.get();
+    }
+
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+}
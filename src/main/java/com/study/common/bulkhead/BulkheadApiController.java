@@ -0,0 +1,34 @@
+package com.study.common.bulkhead;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@RestController
+@RequiredArgsConstructor
+public class BulkheadApiController {
+
+    private final BulkheadRegistry bulkheadRegistry;
+
+    // 벌크헤드 사용 현황 조회
+    @GetMapping("/bulkheads")
+    public List<Map<String, Object>> findAllBulkhead() {
+        return bulkheadRegistry.findAll().stream().map(bulkhead -> {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("name", bulkhead.getName());
+            stats.put("maxConcurrent", bulkhead.getMaxConcurrent());
+            stats.put("active", bulkhead.getActiveCount());
+            stats.put("peak", bulkhead.getPeakCount());
+            stats.put("saturation", bulkhead.getSaturation());
+            stats.put("accepted", bulkhead.getAcceptedCount());
+            stats.put("rejected", bulkhead.getRejectedCount());
+            return stats;
+        }).collect(Collectors.toList());
+    }
+
+}
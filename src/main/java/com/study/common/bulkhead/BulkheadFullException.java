@@ -0,0 +1,16 @@
+package com.study.common.bulkhead;
+
+public class BulkheadFullException extends RuntimeException {
+
+    private final String bulkhead;
+
+    public BulkheadFullException(final String bulkhead) {
+        super("bulkhead is full : " + bulkhead);
+        this.bulkhead = bulkhead;
+    }
+
+    public String getBulkhead() {
+        return bulkhead;
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.study.common.bulkhead;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.List;
+
+/**
+ * 벌크헤드 목록
+ * download : 첨부파일 다운로드 (전용 스레드 풀, 비동기 서블릿 응답)
+ *            큰 파일은 전송 시간이 길어지므로 응답 전체의 제한 시간은 두지 않고(0),
+ *            받지 않는 클라이언트는 소켓 쓰기 제한 시간(server.tomcat.connection-timeout)으로 끊는다.
+ * upload : 첨부파일 업로드 요청 (요청 본문을 읽기 전에 동시 실행 수 제한, 나머지 컨테이너 스레드는 페이지/API 요청 몫으로 남김)
+ * export : 내보내기 (실행 중 DB 커넥션을 하나씩 점유하므로, 커넥션 풀의 일부만 사용하도록 제한)
+ */
+@Component
+public class BulkheadRegistry {
+
+    private final Bulkhead download;
+    private final Bulkhead upload;
+    private final Bulkhead export;
+
+    public BulkheadRegistry(@Value("${board.bulkhead.download.max-concurrent:32}") final int downloadMaxConcurrent,
+                            @Value("${board.bulkhead.download.timeout-ms:0}") final long downloadTimeoutMs,
+                            @Value("${board.bulkhead.upload.max-concurrent:16}") final int uploadMaxConcurrent,
+                            @Value("${board.bulkhead.export.max-concurrent:2}") final int exportMaxConcurrent) {
+        this.download = new Bulkhead("download", downloadMaxConcurrent, true, downloadTimeoutMs);
+        this.upload = new Bulkhead("upload", uploadMaxConcurrent, false, 0L);
+        this.export = new Bulkhead("export", exportMaxConcurrent, false, 0L);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        download.shutdown();
+        upload.shutdown();
+        export.shutdown();
+    }
+
+    public Bulkhead getDownload() {
+        return download;
+    }
+
+    public Bulkhead getUpload() {
+        return upload;
+    }
+
+    public Bulkhead getExport() {
+        return export;
+    }
+
+    public List<Bulkhead> findAll() {
+        return List.of(download, upload, export);
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.study.common.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+/**
+ * CSV 내보내기 Writer (RFC 4180, UTF-8 BOM 포함)
+ */
+public class CsvExportWriter<T> implements ExportWriter<T> {
+
+    private final Writer writer;
+    private final Function<T, Object[]> extractor;
+
+    public CsvExportWriter(final OutputStream out, final String[] headers, final Function<T, Object[]> extractor) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 8192);
+        this.extractor = extractor;
+        writer.write('\uFEFF');    // 엑셀에서 한글이 깨지지 않도록 BOM 추가
+        writeLine(headers);
+    }
+
+    @Override
+    public void write(final T row) throws IOException {
+        writeLine(extractor.apply(row));
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+
+    // 1행 기록
+    private void writeLine(final Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeValue(values[i]);
+        }
+        writer.write("\r\n");
+    }
+
+    // 값 기록 (구분자, 따옴표, 줄바꿈이 포함된 경우 따옴표로 감싸고 따옴표는 두 번 기록)
+    private void writeValue(final Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        boolean quote = text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0;
+        if (quote == false) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+}
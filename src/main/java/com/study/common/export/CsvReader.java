@@ -0,0 +1,102 @@
+package com.study.common.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV Reader (RFC 4180, 따옴표 안의 구분자/줄바꿈 지원)
+ * 1행씩 읽으므로 파일 크기와 관계없이 메모리 사용량이 일정하다.
+ */
+public class CsvReader implements Closeable {
+
+    private final Reader reader;
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+
+    public CsvReader(final Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 1행 읽기
+     * @return 컬럼 값 배열, 더 이상 읽을 행이 없는 경우 null
+     */
+    public String[] readRow() throws IOException {
+        int ch = read();
+        if (ch == -1) {
+            return null;
+        }
+        if (ch == '\uFEFF') {    // UTF-8 BOM
+            ch = read();
+        }
+
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+
+        while (ch != -1) {
+            if (quoted) {
+                if (ch == '"') {
+                    int next = peek();
+                    if (next == '"') {
+                        value.append('"');
+                        read();
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    value.append((char) ch);
+                }
+            } else if (ch == '"') {
+                quoted = true;
+            } else if (ch == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else if (ch == '\r' || ch == '\n') {
+                if (ch == '\r' && peek() == '\n') {
+                    read();
+                }
+                break;
+            } else {
+                value.append((char) ch);
+            }
+            ch = read();
+        }
+
+        values.add(value.toString());
+        return values.toArray(new String[0]);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private int read() throws IOException {
+        if (fill() == false) {
+            return -1;
+        }
+        return buffer[position++];
+    }
+
+    private int peek() throws IOException {
+        if (fill() == false) {
+            return -1;
+        }
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+        if (position < limit) {
+            return true;
+        }
+        limit = reader.read(buffer, 0, buffer.length);
+        position = 0;
+        return limit > 0;
+    }
+
+}
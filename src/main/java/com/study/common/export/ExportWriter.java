@@ -0,0 +1,18 @@
+package com.study.common.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 내보내기 Writer (1건씩 출력 스트림에 기록)
+ * @param <T> - 내보낼 데이터 타입
+ */
+public interface ExportWriter<T> extends Closeable {
+
+    /**
+     * 데이터 1건 기록
+     * @param row - 데이터
+     */
+    void write(T row) throws IOException;
+
+}
@@ -0,0 +1,34 @@
+package com.study.common.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * NDJSON(줄 단위 JSON) 내보내기 Writer
+ */
+public class NdjsonExportWriter<T> implements ExportWriter<T> {
+
+    private final SequenceWriter writer;
+
+    public NdjsonExportWriter(final ObjectMapper objectMapper, final OutputStream out) throws IOException {
+        this.writer = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n")
+                .writeValues(out);
+    }
+
+    @Override
+    public void write(final T row) throws IOException {
+        writer.write(row);
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.study.common.file;
+
+import org.springframework.core.io.AbstractResource;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * ByteBuffer(메모리 매핑 영역 등) 기반 리소스
+ * 요청마다 독립된 position/limit을 갖도록 버퍼를 복제(duplicate)하여 읽는다.
+ */
+public class ByteBufferResource extends AbstractResource {
+
+    private final ByteBuffer buffer;
+    private final String description;
+
+    public ByteBufferResource(final ByteBuffer buffer, final String description) {
+        this.buffer = buffer.asReadOnlyBuffer();
+        this.description = description;
+    }
+
+    @Override
+    public String getDescription() {
+        return description;
+    }
+
+    @Override
+    public String getFilename() {
+        return description;
+    }
+
+    @Override
+    public long contentLength() {
+        return buffer.remaining();
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        ByteBuffer source = buffer.duplicate();
+        return new InputStream() {
+            @Override
+            public int read() {
+                return source.hasRemaining() ? (source.get() & 0xFF) : -1;
+            }
+
+            @Override
+            public int read(byte[] bytes, int offset, int length) {
+                if (source.hasRemaining() == false) {
+                    return -1;
+                }
+                int count = Math.min(length, source.remaining());
+                source.get(bytes, offset, count);
+                return count;
+            }
+
+            @Override
+            public int available() {
+                return source.remaining();
+            }
+        };
+    }
+
+}
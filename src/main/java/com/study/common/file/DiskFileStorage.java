@@ -0,0 +1,218 @@
+package com.study.common.file;
+
+import com.study.domain.file.FileRequest;
+import com.study.domain.file.FileResponse;
+import com.study.domain.file.StorageType;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 디스크 저장소 (업로드 1건 = 파일 1개)
+ * 저장 경로 : uploadPath/yyMMdd/ab/cd/저장파일명
+ */
+@Component
+public class DiskFileStorage implements FileStorage {
+
+    private final String uploadPath = Paths.get("C:", "develop", "upload-files").toString();
+    private final Set<String> createdDirectories = ConcurrentHashMap.newKeySet();    // 생성이 확인된 디렉터리 경로 (오늘 날짜 디렉터리 하위)
+    private volatile String createdDate = "";                                          // createdDirectories의 날짜 (yyMMdd)
+
+    @Override
+    public StorageType getType() {
+        return StorageType.DISK;
+    }
+
+    @Override
+    public FileRequest write(final MultipartFile multipartFile, final String saveName, final LocalDate date) throws IOException {
+        File uploadFile = new File(getUploadPath(formatDate(date), getShardPath(saveName)) + File.separator + saveName);
+
+        try {
+            multipartFile.transferTo(uploadFile);
+        } catch (IOException e) {
+            // 디렉터리가 외부에서 삭제된 경우를 대비해 캐시에서 제거
+            createdDirectories.remove(uploadFile.getParent());
+            throw e;
+        }
+
+        return FileRequest.builder()
+                .originalName(multipartFile.getOriginalFilename())
+                .saveName(saveName)
+                .size(multipartFile.getSize())
+                .storageType(StorageType.DISK)
+                .build();
+    }
+
+    /**
+     * 로컬 파일 복사 저장 (가져오기 용도)
+     * @param source - 원본 파일 경로
+     * @param originalName - 원본 파일명
+     * @param saveName - 저장 파일명
+     * @param date - 업로드 일자
+     * @return DB에 저장할 파일 정보
+     */
+    public FileRequest copy(final Path source, final String originalName, final String saveName, final LocalDate date) throws IOException {
+        Path target = getTargetPath(saveName, date);
+        Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+        return toFileRequest(target, originalName, saveName);
+    }
+
+    /**
+     * 로컬 파일 이동 (분할 업로드 완료 용도)
+     * 원본 파일은 업로드 최상위 경로 하위에 있으므로, 복사 없이 이름만 변경된다.
+     * @param source - 원본 파일 경로
+     * @param originalName - 원본 파일명
+     * @param saveName - 저장 파일명
+     * @param date - 업로드 일자
+     * @return DB에 저장할 파일 정보
+     */
+    public FileRequest move(final Path source, final String originalName, final String saveName, final LocalDate date) throws IOException {
+        Path target = getTargetPath(saveName, date);
+        Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        return toFileRequest(target, originalName, saveName);
+    }
+
+    private Path getTargetPath(final String saveName, final LocalDate date) {
+        return Paths.get(getUploadPath(formatDate(date), getShardPath(saveName)), saveName);
+    }
+
+    private FileRequest toFileRequest(final Path target, final String originalName, final String saveName) throws IOException {
+        return FileRequest.builder()
+                .originalName(originalName)
+                .saveName(saveName)
+                .size(Files.size(target))
+                .storageType(StorageType.DISK)
+                .build();
+    }
+
+    @Override
+    public Resource read(final FileResponse file) {
+        Path filePath = getFilePath(file);
+        if (filePath.toFile().isFile() == false) {
+            throw new RuntimeException("file not found : " + filePath.toString());
+        }
+        return new FileSystemResource(filePath);
+    }
+
+    @Override
+    public Resource read(final FileRequest file, final LocalDate date) {
+        return new FileSystemResource(resolvePath(uploadPath, formatDate(date), file.getSaveName()));
+    }
+
+    @Override
+    public long delete(final FileResponse file) {
+        File target = getFilePath(file).toFile();
+        if (target.exists() == false) {
+            return 0L;
+        }
+        long length = target.length();
+        return target.delete() ? length : 0L;
+    }
+
+    /**
+     * 첨부파일 경로 반환
+     * @param file - 첨부파일 상세정보
+     * @return 첨부파일 경로
+     */
+    public Path getFilePath(final FileResponse file) {
+        return resolvePath(uploadPath, formatDate(file.getCreatedDate().toLocalDate()), file.getSaveName());
+    }
+
+    /**
+     * 업로드 최상위 경로 반환
+     * @return 업로드 최상위 경로
+     */
+    public Path getRoot() {
+        return Paths.get(uploadPath);
+    }
+
+    /**
+     * 해시 분산 경로 반환 (저장 파일명의 앞 2자리 / 다음 2자리)
+     * 저장 파일명은 UUID(16진수) 기반이므로 날짜 디렉터리 하위에 256 x 256개의 디렉터리로 고르게 분산된다.
+     * @param saveName - 저장 파일명
+     * @return 분산 경로 (ex. "3f/a0")
+     */
+    public static String getShardPath(final String saveName) {
+        return saveName.substring(0, 2) + File.separator + saveName.substring(2, 4);
+    }
+
+    /**
+     * 파일 경로 반환 (분산 경로 우선, 분산 경로에 없는 경우 이전 경로(날짜 디렉터리) 확인)
+     * @param root - 최상위 경로
+     * @param addPath - 추가 경로 (날짜)
+     * @param filename - 파일명
+     * @return 파일 경로 (파일이 없는 경우 분산 경로)
+     */
+    public static Path resolvePath(final String root, final String addPath, final String filename) {
+        Path shardedPath = Paths.get(root, addPath, getShardPath(filename), filename);
+        if (shardedPath.toFile().exists()) {
+            return shardedPath;
+        }
+        Path legacyPath = Paths.get(root, addPath, filename);
+        return legacyPath.toFile().exists() ? legacyPath : shardedPath;
+    }
+
+    /**
+     * 날짜 디렉터리명 반환
+     * @param date - 일자
+     * @return 날짜 디렉터리명 (yyMMdd)
+     */
+    public static String formatDate(final LocalDate date) {
+        return date.format(DateTimeFormatter.ofPattern("yyMMdd"));
+    }
+
+    /**
+     * 업로드 경로 반환
+     * @param dateDir - 날짜 디렉터리명
+     * @param shardPath - 분산 경로
+     * @return 업로드 경로
+     */
+    private String getUploadPath(final String dateDir, final String shardPath) {
+        return makeDirectories(dateDir, uploadPath + File.separator + dateDir + File.separator + shardPath);
+    }
+
+    /**
+     * 업로드 폴더(디렉터리) 생성
+     * 한 번 생성(확인)된 디렉터리는 기억해 두고, 이후 요청에서는 파일 시스템을 확인하지 않는다.
+     * 새 파일은 대부분 오늘 날짜 디렉터리에 저장되므로 오늘 날짜 디렉터리 하위의 경로만 기억하며 (최대 256 x 256개),
+     * 날짜가 바뀌면 이전 날짜의 경로는 모두 삭제한다.
+     * @param dateDir - 날짜 디렉터리명
+     * @param path - 업로드 경로
+     * @return 업로드 경로
+     */
+    private String makeDirectories(final String dateDir, final String path) {
+        String today = formatDate(LocalDate.now());
+        if (today.equals(createdDate) == false) {
+            synchronized (createdDirectories) {
+                if (today.equals(createdDate) == false) {
+                    createdDirectories.clear();
+                    createdDate = today;
+                }
+            }
+        }
+        if (createdDirectories.contains(path)) {
+            return path;
+        }
+        File dir = new File(path);
+        if (dir.exists() == false) {
+            dir.mkdirs();
+        }
+        if (dateDir.equals(today)) {
+            createdDirectories.add(path);
+        }
+        return dir.getPath();
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.study.common.file;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.regex.Pattern;
+
+/**
+ * 첨부파일 저장 구조 마이그레이션
+ * 이전 구조(uploadPath/yyMMdd/파일)의 파일을 분산 구조(uploadPath/yyMMdd/ab/cd/파일)로 이동한다.
+ * 실행 : java -jar jpa-board.jar --migrate-file-layout
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FileLayoutMigrator implements ApplicationRunner {
+
+    private static final String OPTION = "migrate-file-layout";
+    private static final Pattern DATE_DIRECTORY = Pattern.compile("\\d{6}");
+
+    private final FileUtils fileUtils;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (args.containsOption(OPTION) == false) {
+            return;
+        }
+        long uploads = migrate(fileUtils.getUploadRoot());
+        long thumbnails = migrate(fileUtils.getThumbnailRoot());
+        log.info("FileLayoutMigrator ===> moved files : " + uploads + ", thumbnails : " + thumbnails);
+    }
+
+    /**
+     * 최상위 경로 하위의 날짜 디렉터리별 파일 이동
+     * @param root - 최상위 경로
+     * @return 이동한 파일 수
+     */
+    public long migrate(final Path root) {
+        if (Files.isDirectory(root) == false) {
+            return 0L;
+        }
+
+        long moved = 0;
+        try (DirectoryStream<Path> dates = Files.newDirectoryStream(root, path -> Files.isDirectory(path) && DATE_DIRECTORY.matcher(path.getFileName().toString()).matches())) {
+            for (Path date : dates) {
+                moved += migrateDirectory(date);
+            }
+        } catch (IOException e) {
+            log.error("FileLayoutMigrator ===> migration failed : " + root, e);
+        }
+        return moved;
+    }
+
+    /**
+     * 날짜 디렉터리 바로 아래의 파일을 분산 경로로 이동
+     * @param date - 날짜 디렉터리
+     * @return 이동한 파일 수
+     */
+    private long migrateDirectory(final Path date) throws IOException {
+        long moved = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(date, Files::isRegularFile)) {
+            for (Path file : files) {
+                String filename = file.getFileName().toString();
+                if (filename.length() < 4) {
+                    continue;
+                }
+                Path target = date.resolve(DiskFileStorage.getShardPath(filename)).resolve(filename);
+                Files.createDirectories(target.getParent());
+                Files.move(file, target, StandardCopyOption.ATOMIC_MOVE);
+                moved++;
+            }
+        }
+        log.info("FileLayoutMigrator ===> " + date + " : " + moved);
+        return moved;
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.study.common.file;
+
+import com.study.domain.file.FileRequest;
+import com.study.domain.file.FileResponse;
+import com.study.domain.file.StorageType;
+import org.springframework.core.io.Resource;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * 첨부파일 저장소
+ */
+public interface FileStorage {
+
+    /**
+     * 저장소 유형 반환
+     * @return 저장소 유형
+     */
+    StorageType getType();
+
+    /**
+     * 파일 저장
+     * @param multipartFile - 파일 객체
+     * @param saveName - 저장 파일명
+     * @param date - 업로드 일자
+     * @return DB에 저장할 파일 정보 (저장 위치 포함)
+     */
+    FileRequest write(MultipartFile multipartFile, String saveName, LocalDate date) throws IOException;
+
+    /**
+     * 저장된 파일 조회 (as Resource)
+     * @param file - 첨부파일 상세정보
+     * @return 첨부파일(리소스)
+     */
+    Resource read(FileResponse file);
+
+    /**
+     * 저장된 파일 조회 (as Resource)
+     * @param file - 저장 직후의 파일 정보
+     * @param date - 업로드 일자
+     * @return 첨부파일(리소스)
+     */
+    Resource read(FileRequest file, LocalDate date);
+
+    /**
+     * 파일 삭제
+     * @param file - 첨부파일 상세정보
+     * @return 회수된(회수 예정) 용량 (byte)
+     */
+    long delete(FileResponse file);
+
+}
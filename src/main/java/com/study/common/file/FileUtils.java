@@ -1,7 +1,11 @@
 package com.study.common.file;
 
+import com.study.common.jfr.FileTransferEvent;
 import com.study.domain.file.FileRequest;
 import com.study.domain.file.FileResponse;
+import com.study.domain.file.StorageType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Component;
@@ -12,18 +16,21 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.File;
 import java.io.IOException;
 import java.net.MalformedURLException;
+import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+@Slf4j
 @Component
+@RequiredArgsConstructor
 public class FileUtils {
 
-    private final String uploadPath = Paths.get("C:", "develop", "upload-files").toString();
+    private final DiskFileStorage diskFileStorage;
+    private final PackFileStorage packFileStorage;
+    private final ThumbnailService thumbnailService;
 
     /**
      * 다중 파일 업로드
@@ -43,6 +50,7 @@ public class FileUtils {
 
     /**
      * 단일 파일 업로드
+     * 작은 파일은 팩 저장소, 그 외의 파일은 디스크 저장소에 저장한다.
      * @param multipartFile - 파일 객체
      * @return DB에 저장할 파일 정보
      */
@@ -53,62 +61,92 @@ public class FileUtils {
         }
 
         String saveName = generateSaveFilename(multipartFile.getOriginalFilename());
-        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("yyMMdd")).toString();
-        String uploadPath = getUploadPath(today) + File.separator + saveName;
-        File uploadFile = new File(uploadPath);
+        LocalDate today = LocalDate.now();
+        FileStorage storage = packFileStorage.accepts(multipartFile.getSize()) ? packFileStorage : diskFileStorage;
 
+        FileRequest file;
+        FileTransferEvent event = new FileTransferEvent();
+        event.begin();
         try {
-            multipartFile.transferTo(uploadFile);
+            file = storage.write(multipartFile, saveName, today);
         } catch (IOException e) {
+            event.finish(FileTransferEvent.UPLOAD, storage.getType().name(), saveName, multipartFile.getSize(), true);
             throw new RuntimeException(e);
         }
+        event.finish(FileTransferEvent.UPLOAD, storage.getType().name(), saveName, multipartFile.getSize(), false);
 
-        return FileRequest.builder()
-                .originalName(multipartFile.getOriginalFilename())
-                .saveName(saveName)
-                .size(multipartFile.getSize())
-                .build();
+        // 이미지인 경우 썸네일 생성 (비동기)
+        if (thumbnailService.isImage(saveName)) {
+            thumbnailService.generateAsync(storage.read(file, today), getThumbnailDirectory(today, saveName), saveName);
+        }
+
+        return file;
     }
 
     /**
-     * 저장 파일명 생성
-     * @param filename 원본 파일명
-     * @return 디스크에 저장할 파일명
+     * 로컬 파일 업로드 (대량 가져오기 용도)
+     * @param source - 원본 파일 경로
+     * @param originalName - 원본 파일명 (없는 경우 원본 파일 경로의 파일명)
+     * @param date - 업로드 일자
+     * @return DB에 저장할 파일 정보
      */
-    private String generateSaveFilename(final String filename) {
-        String uuid = UUID.randomUUID().toString().replaceAll("-", "");
-        String extension = StringUtils.getFilenameExtension(filename);
-        return uuid + "." + extension;
+    public FileRequest importFile(final Path source, final String originalName, final LocalDate date) throws IOException {
+        String name = StringUtils.hasText(originalName) ? originalName : source.getFileName().toString();
+        return diskFileStorage.copy(source, name, generateSaveFilename(name), date);
     }
 
     /**
-     * 업로드 경로 반환
-     * @return 업로드 경로
+     * 가져온 파일 삭제 (가져오기 트랜잭션이 롤백된 경우)
+     * @param files - 가져온 파일 정보 List
+     * @param date - 업로드 일자
      */
-    private String getUploadPath() {
-        return makeDirectories(uploadPath);
+    public void deleteImportedFiles(final List<FileRequest> files, final LocalDate date) {
+        for (FileRequest file : files) {
+            try {
+                Files.deleteIfExists(diskFileStorage.read(file, date).getFile().toPath());
+            } catch (IOException e) {
+                log.error("FileUtils ===> imported file delete failed : " + file.getSaveName(), e);
+            }
+        }
     }
 
     /**
-     * 업로드 경로 반환
-     * @param addPath - 추가 경로
-     * @return 업로드 경로
+     * 로컬 파일 등록 (분할 업로드 완료 용도)
+     * 분할 업로드 경로의 파일을 디스크 저장소로 이동하고, 이미지인 경우 썸네일을 생성한다.
+     * @param source - 분할 업로드 파일 경로
+     * @param originalName - 원본 파일명
+     * @return DB에 저장할 파일 정보
      */
-    private String getUploadPath(final String addPath) {
-        return makeDirectories(uploadPath + File.separator + addPath);
+    public FileRequest moveFile(final Path source, final String originalName) throws IOException {
+        String saveName = generateSaveFilename(originalName);
+        LocalDate today = LocalDate.now();
+        FileRequest file = diskFileStorage.move(source, originalName, saveName, today);
+
+        // 이미지인 경우 썸네일 생성 (비동기)
+        if (thumbnailService.isImage(saveName)) {
+            thumbnailService.generateAsync(diskFileStorage.read(file, today), getThumbnailDirectory(today, saveName), saveName);
+        }
+        return file;
     }
 
     /**
-     * 업로드 폴더(디렉터리) 생성
-     * @param path - 업로드 경로
-     * @return 업로드 경로
+     * 저장 파일명 생성
+     * @param filename 원본 파일명
+     * @return 디스크에 저장할 파일명
      */
-    private String makeDirectories(final String path) {
-        File dir = new File(path);
-        if (dir.exists() == false) {
-            dir.mkdirs();
-        }
-        return dir.getPath();
+    private String generateSaveFilename(final String filename) {
+        String uuid = UUID.randomUUID().toString().replaceAll("-", "");
+        String extension = StringUtils.getFilenameExtension(filename);
+        return uuid + "." + extension;
+    }
+
+    /**
+     * 파일 저장소 반환
+     * @param file - 첨부파일 상세정보
+     * @return 파일 저장소
+     */
+    private FileStorage getStorage(final FileResponse file) {
+        return (file.getStorageType() == StorageType.PACK) ? packFileStorage : diskFileStorage;
     }
 
     /**
@@ -120,30 +158,77 @@ public class FileUtils {
             return;
         }
         for (FileResponse file : files) {
-            String uploadedDate = file.getCreatedDate().toLocalDate().format(DateTimeFormatter.ofPattern("yyMMdd"));
-            deleteFile(uploadedDate, file.getSaveName());
+            deleteFile(file);
         }
     }
 
     /**
      * 파일 삭제 (from Disk)
-     * @param addPath - 추가 경로
-     * @param filename - 파일명
+     * @param file - 삭제할 파일 정보
+     * @return 회수된 디스크 용량 (byte)
      */
-    private void deleteFile(final String addPath, final String filename) {
-        String filePath = Paths.get(uploadPath, addPath, filename).toString();
-        deleteFile(filePath);
+    public long deleteFile(final FileResponse file) {
+        deleteThumbnails(file);
+        return getStorage(file).delete(file);
     }
 
     /**
-     * 파일 삭제 (from Disk)
-     * @param filePath - 파일 경로
+     * 썸네일 삭제 (from Disk)
+     * @param file - 첨부파일 상세정보
      */
-    private void deleteFile(final String filePath) {
-        File file = new File(filePath);
-        if (file.exists()) {
-            file.delete();
+    private void deleteThumbnails(final FileResponse file) {
+        if (thumbnailService.isImage(file.getSaveName()) == false) {
+            return;
         }
+        String uploadedDate = DiskFileStorage.formatDate(file.getCreatedDate().toLocalDate());
+        for (int size : thumbnailService.getSizes()) {
+            File thumbnail = DiskFileStorage.resolvePath(getThumbnailRoot().toString(), uploadedDate, thumbnailService.getThumbnailName(file.getSaveName(), size)).toFile();
+            if (thumbnail.exists()) {
+                thumbnail.delete();
+            }
+        }
+    }
+
+    /**
+     * 썸네일 저장 경로 반환
+     * @param date - 업로드 일자
+     * @param saveName - 저장 파일명
+     * @return 썸네일 저장 경로
+     */
+    private Path getThumbnailDirectory(final LocalDate date, final String saveName) {
+        return getThumbnailRoot().resolve(DiskFileStorage.formatDate(date)).resolve(DiskFileStorage.getShardPath(saveName));
+    }
+
+    /**
+     * 썸네일 최상위 경로 반환
+     * @return 썸네일 최상위 경로
+     */
+    public Path getThumbnailRoot() {
+        return diskFileStorage.getRoot().resolve("thumbnails");
+    }
+
+    /**
+     * 분할 업로드 경로 반환 (업로드 중인 파일)
+     * @return 분할 업로드 경로
+     */
+    public Path getChunkRoot() {
+        return diskFileStorage.getRoot().resolve("chunks");
+    }
+
+    /**
+     * 업로드 최상위 경로 반환
+     * @return 업로드 최상위 경로
+     */
+    public Path getUploadRoot() {
+        return diskFileStorage.getRoot();
+    }
+
+    /**
+     * 업로드 최상위 경로 하위의 내부 관리 경로 반환 (썸네일, 팩 세그먼트, 분할 업로드)
+     * @return 내부 관리 경로 List
+     */
+    public List<Path> getReservedRoots() {
+        return List.of(getThumbnailRoot(), packFileStorage.getRoot(), getChunkRoot());
     }
 
     /**
@@ -152,18 +237,33 @@ public class FileUtils {
      * @return 첨부파일(리소스)
      */
     public Resource readFileAsResource(final FileResponse file) {
-        String uploadedDate = file.getCreatedDate().toLocalDate().format(DateTimeFormatter.ofPattern("yyMMdd"));
-        String filename = file.getSaveName();
-        Path filePath = Paths.get(uploadPath, uploadedDate, filename);
-        try {
-            Resource resource = new UrlResource(filePath.toUri());
-            if (resource.exists() == false || resource.isFile() == false) {
-                throw new RuntimeException("file not found : " + filePath.toString());
+        return getStorage(file).read(file);
+    }
+
+    /**
+     * 썸네일(리소스) 조회 (as Resource)
+     * 썸네일이 없는 경우(썸네일 도입 이전 파일 등) 썸네일 작업 스레드에 생성을 요청하고 null을 반환한다. (요청 스레드에서 디코딩하지 않음)
+     * @param file - 첨부파일 상세정보
+     * @param size - 썸네일 크기
+     * @return 썸네일(리소스), 이미지가 아니거나 아직 생성되지 않은 경우 null
+     */
+    public Resource readThumbnailAsResource(final FileResponse file, final int size) {
+        if (thumbnailService.isImage(file.getSaveName()) == false) {
+            return null;
+        }
+
+        String uploadedDate = DiskFileStorage.formatDate(file.getCreatedDate().toLocalDate());
+        int thumbnailSize = thumbnailService.resolveSize(size);
+        Path thumbnail = DiskFileStorage.resolvePath(getThumbnailRoot().toString(), uploadedDate, thumbnailService.getThumbnailName(file.getSaveName(), thumbnailSize));
+        if (Files.exists(thumbnail)) {
+            try {
+                return new UrlResource(thumbnail.toUri());
+            } catch (MalformedURLException e) {
+                throw new RuntimeException("thumbnail not found : " + thumbnail.toString());
             }
-            return resource;
-        } catch (MalformedURLException e) {
-            throw new RuntimeException("file not found : " + filePath.toString());
         }
+        thumbnailService.generateAsync(readFileAsResource(file), thumbnail, thumbnailSize);
+        return null;
     }
 
 }
@@ -0,0 +1,417 @@
+package com.study.common.file;
+
+import com.study.domain.file.FileMapper;
+import com.study.domain.file.FileRequest;
+import com.study.domain.file.FileResponse;
+import com.study.domain.file.PackUsage;
+import com.study.domain.file.StorageType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * 팩 저장소 (작은 파일을 큰 세그먼트 파일에 이어 붙여 저장)
+ * 저장 경로 : uploadPath/packs/segment-000001.pack
+ * 파일 위치는 tb_file의 (pack_id, pack_offset, size)로 관리한다.
+ * 기록 중인 활성 세그먼트는 FileChannel 위치 지정 읽기로, 더 이상 늘어나지 않는(sealed) 세그먼트는 한 번만 메모리 매핑하여 읽는다.
+ * 삭제된 파일이 차지하던 공간은 백그라운드 압축(compaction) 시 회수한다.
+ *
+ * 파일 데이터는 DB 커밋 전에 세그먼트에 기록되므로, 최근에 기록된 세그먼트는 유예 시간(compact-grace-ms) 동안 압축하지 않는다.
+ * 압축된 세그먼트는 바로 삭제하지 않고 폐기 표시(.retired)만 남겨, 이전 위치를 조회한 요청이 끝날 때까지(retire-delay-ms) 읽을 수 있게 한다.
+ * 매핑 해제는 GC에 맡기므로, 매핑이 남아 삭제할 수 없는 경우(Windows) 폐기 표시를 유지하고 다음 압축 때 다시 삭제한다.
+ */
+@Slf4j
+@Component
+public class PackFileStorage implements FileStorage {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".pack";
+    private static final String RETIRED_SUFFIX = ".retired";
+
+    private final FileMapper fileMapper;
+    private final Path root;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Map<Long, MappedByteBuffer> mappings = new ConcurrentHashMap<>();    // 세그먼트 번호 : 매핑 영역 (sealed 세그먼트만)
+    private final AtomicLong reclaimedBytes = new AtomicLong();    // 누적 회수 용량 (byte, 세그먼트 삭제 시점)
+    private final AtomicInteger pendingDeleteSegments = new AtomicInteger();    // 삭제 대기 세그먼트 수 (유예 시간이 지났지만 삭제 실패)
+    private volatile ActiveSegment active;    // 활성 세그먼트 (번호와 채널을 함께 교체)
+
+    @Value("${board.file.pack.enabled:true}")
+    private boolean enabled;
+
+    @Value("${board.file.pack.max-file-size:131072}")
+    private long maxFileSize;
+
+    @Value("${board.file.pack.max-segment-size:268435456}")
+    private long maxSegmentSize;
+
+    @Value("${board.file.pack.compact-threshold:0.5}")
+    private double compactThreshold;
+
+    @Value("${board.file.pack.compact-grace-ms:3600000}")
+    private long compactGraceMs;
+
+    @Value("${board.file.pack.retire-delay-ms:900000}")
+    private long retireDelayMs;
+
+    public PackFileStorage(final FileMapper fileMapper, final DiskFileStorage diskFileStorage) {
+        this.fileMapper = fileMapper;
+        this.root = diskFileStorage.getRoot().resolve("packs");
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        if (enabled == false) {
+            return;
+        }
+        Files.createDirectories(root);
+        long lastSegmentId = findSegmentIds().stream().mapToLong(Long::longValue).max().orElse(1L);
+        openSegment(lastSegmentId);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (active != null) {
+            active.channel.close();
+        }
+    }
+
+    @Override
+    public StorageType getType() {
+        return StorageType.PACK;
+    }
+
+    /**
+     * 팩 저장소 저장 대상 여부 확인
+     * @param size - 파일 크기
+     * @return 저장 대상 여부
+     */
+    public boolean accepts(final long size) {
+        return enabled && size <= maxFileSize;
+    }
+
+    /**
+     * 팩 저장소 경로 반환
+     * @return 팩 저장소 경로
+     */
+    public Path getRoot() {
+        return root;
+    }
+
+    @Override
+    public FileRequest write(final MultipartFile multipartFile, final String saveName, final LocalDate date) throws IOException {
+        long[] location = append(multipartFile.getBytes());
+        return FileRequest.builder()
+                .originalName(multipartFile.getOriginalFilename())
+                .saveName(saveName)
+                .size(multipartFile.getSize())
+                .storageType(StorageType.PACK)
+                .packId(location[0])
+                .packOffset(location[1])
+                .build();
+    }
+
+    @Override
+    public Resource read(final FileResponse file) {
+        return read(file.getPackId(), file.getPackOffset(), file.getSize(), file.getSaveName());
+    }
+
+    @Override
+    public Resource read(final FileRequest file, final LocalDate date) {
+        return read(file.getPackId(), file.getPackOffset(), file.getSize(), file.getSaveName());
+    }
+
+    /**
+     * 파일 삭제
+     * 세그먼트의 공간은 즉시 회수되지 않으며(회수 용량 0), 압축된 세그먼트가 삭제될 때 회수된다.
+     */
+    @Override
+    public long delete(final FileResponse file) {
+        return 0L;
+    }
+
+    /**
+     * 누적 회수 용량 반환 (압축된 세그먼트 삭제 시점 기준)
+     * @return 누적 회수 용량 (byte)
+     */
+    public long getReclaimedBytes() {
+        return reclaimedBytes.get();
+    }
+
+    /**
+     * 삭제 대기 세그먼트 수 반환 (마지막 압축 기준, 삭제에 실패하여 다음 압축 때 다시 삭제할 세그먼트)
+     * @return 삭제 대기 세그먼트 수
+     */
+    public int getPendingDeleteSegments() {
+        return pendingDeleteSegments.get();
+    }
+
+    /**
+     * 활성 세그먼트에 데이터 추가
+     * @param bytes - 파일 데이터
+     * @return [0] 세그먼트 번호, [1] 세그먼트 내 위치
+     */
+    private long[] append(final byte[] bytes) throws IOException {
+        writeLock.lock();
+        try {
+            if (active.channel.size() > 0 && active.channel.size() + bytes.length > maxSegmentSize) {
+                FileChannel sealed = active.channel;
+                openSegment(active.id + 1);
+                sealed.close();
+            }
+
+            FileChannel channel = active.channel;
+            long offset = channel.size();
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, offset + buffer.position());
+            }
+            channel.force(false);
+            return new long[] { active.id, offset };
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 세그먼트 열기 (쓰기, 활성 세그먼트 읽기 용도)
+    private void openSegment(final long segmentId) throws IOException {
+        active = new ActiveSegment(segmentId, FileChannel.open(getSegmentPath(segmentId), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE));
+    }
+
+    /**
+     * 세그먼트 영역 조회
+     * 활성 세그먼트는 위치 지정 읽기로 복사하고, sealed 세그먼트는 매핑 영역을 그대로 사용한다.
+     * @param segmentId - 세그먼트 번호
+     * @param offset - 세그먼트 내 위치
+     * @param length - 길이
+     * @param name - 리소스명
+     * @return 첨부파일(리소스)
+     */
+    private Resource read(final Long segmentId, final Long offset, final long length, final String name) {
+        if (segmentId == null || offset == null) {
+            throw new RuntimeException("file not found : " + name);
+        }
+        return new ByteBufferResource(readRegion(segmentId, offset, length), name);
+    }
+
+    // 세그먼트 영역 조회 (활성 세그먼트가 읽는 중에 교체된 경우, sealed 세그먼트로 다시 조회)
+    private ByteBuffer readRegion(final long segmentId, final long offset, final long length) {
+        ActiveSegment current = active;
+        if (segmentId == current.id) {
+            FileChannel channel = current.channel;
+            try {
+                ByteBuffer region = ByteBuffer.allocate(Math.toIntExact(length));
+                while (region.hasRemaining()) {
+                    if (channel.read(region, offset + region.position()) < 0) {
+                        throw new IOException("unexpected end of segment : " + segmentId);
+                    }
+                }
+                region.flip();
+                return region;
+            } catch (ClosedChannelException e) {
+                // 새 세그먼트로 교체되어 닫힌 채널 (이제 sealed 세그먼트)
+            } catch (IOException e) {
+                throw new UncheckedIOException("segment read failed : " + segmentId, e);
+            }
+        }
+
+        ByteBuffer region = map(segmentId).duplicate();
+        region.position(Math.toIntExact(offset));
+        region.limit(Math.toIntExact(offset + length));
+        return region.slice();
+    }
+
+    /**
+     * sealed 세그먼트 매핑 영역 반환
+     * sealed 세그먼트는 크기가 바뀌지 않으므로 세그먼트당 한 번만 매핑한다. (다시 매핑하지 않음)
+     * @param segmentId - 세그먼트 번호
+     * @return 매핑 영역
+     */
+    private MappedByteBuffer map(final long segmentId) {
+        return mappings.computeIfAbsent(segmentId, id -> {
+            try (FileChannel channel = FileChannel.open(getSegmentPath(id), StandardOpenOption.READ)) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            } catch (IOException e) {
+                throw new UncheckedIOException("segment not found : " + id, e);
+            }
+        });
+    }
+
+    /**
+     * 세그먼트 압축
+     * 1. 폐기 표시 후 유예 시간이 지난 세그먼트 삭제
+     * 2. 살아있는 파일이 없는 세그먼트 폐기
+     * 3. 살아있는 파일의 비율이 기준 미만인 세그먼트의 파일을 활성 세그먼트로 옮긴 후 폐기
+     * 활성 세그먼트, 폐기된 세그먼트, 최근에 기록된 세그먼트(커밋 전 파일이 있을 수 있음)는 대상에서 제외한다.
+     */
+    @Scheduled(fixedDelayString = "${board.file.pack.compact-interval-ms:3600000}", initialDelayString = "${board.file.pack.compact-initial-delay-ms:600000}")
+    public void compact() {
+        if (enabled == false) {
+            return;
+        }
+
+        deleteRetiredSegments();
+
+        Map<Long, Long> liveBytes = fileMapper.findAllPackUsage().stream()
+                .collect(Collectors.toMap(PackUsage::getPackId, PackUsage::getLiveBytes));
+
+        long graceThreshold = System.currentTimeMillis() - compactGraceMs;
+        for (Long segmentId : findSegmentIds()) {
+            Path segment = getSegmentPath(segmentId);
+            try {
+                if (segmentId == active.id || Files.exists(getRetiredPath(segmentId))
+                        || Files.getLastModifiedTime(segment).toMillis() > graceThreshold) {
+                    continue;
+                }
+                long segmentSize = Files.size(segment);
+                long live = liveBytes.getOrDefault(segmentId, 0L);
+                if (live == 0L) {
+                    retireSegment(segmentId, 0L);
+                } else if (live < segmentSize * compactThreshold) {
+                    long moved = compactSegment(segmentId);
+                    retireSegment(segmentId, moved);
+                    log.info("PackFileStorage ===> compacted segment : " + segmentId + ", reclaimable bytes : " + (segmentSize - moved));
+                }
+            } catch (IOException e) {
+                log.error("PackFileStorage ===> compaction failed : " + segmentId, e);
+            }
+        }
+    }
+
+    // 세그먼트의 살아있는 파일을 활성 세그먼트로 이동 (옮긴 용량 반환)
+    private long compactSegment(final long segmentId) throws IOException {
+        long moved = 0;
+        List<FileResponse> files = fileMapper.findAllByPackId(segmentId);
+        for (FileResponse file : files) {
+            ByteBuffer region = readRegion(segmentId, file.getPackOffset(), file.getSize());
+            byte[] bytes = new byte[region.remaining()];
+            region.get(bytes);
+
+            long[] location = append(bytes);
+            fileMapper.updatePackLocation(file.getId(), location[0], location[1]);
+            moved += bytes.length;
+        }
+        return moved;
+    }
+
+    // 세그먼트 폐기 표시 (세그먼트는 유예 시간 동안 남겨 두고, 표시 파일에 옮긴 용량을 기록)
+    private void retireSegment(final long segmentId, final long moved) throws IOException {
+        Files.write(getRetiredPath(segmentId), String.valueOf(moved).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * 폐기 표시 후 유예 시간이 지난 세그먼트 삭제
+     * 매핑 영역은 맵에서 제거한 뒤 GC가 해제하므로, 매핑이 남아 삭제가 거부되면(Windows) 폐기 표시를 유지하고 다음 압축 때 다시 삭제한다.
+     * 회수 용량은 세그먼트가 실제로 삭제된 경우에만 반영한다.
+     */
+    private void deleteRetiredSegments() {
+        long threshold = System.currentTimeMillis() - retireDelayMs;
+        int pending = 0;
+        try (DirectoryStream<Path> retired = Files.newDirectoryStream(root, "*" + RETIRED_SUFFIX)) {
+            for (Path marker : retired) {
+                try {
+                    if (Files.getLastModifiedTime(marker).toMillis() > threshold) {
+                        continue;
+                    }
+                    Path segment = marker.resolveSibling(marker.getFileName().toString().replace(RETIRED_SUFFIX, ""));
+                    if (Files.exists(segment)) {
+                        long size = Files.size(segment);
+                        long moved = readMovedBytes(marker);
+                        mappings.remove(parseSegmentId(segment.getFileName().toString()));
+                        try {
+                            Files.delete(segment);
+                        } catch (FileSystemException e) {
+                            pending++;
+                            log.warn("PackFileStorage ===> retired segment still in use, retry on next compaction : " + segment + " (" + e.getMessage() + ")");
+                            continue;
+                        }
+                        reclaimedBytes.addAndGet(Math.max(0L, size - moved));
+                    }
+                    Files.deleteIfExists(marker);
+                } catch (IOException | RuntimeException e) {
+                    pending++;
+                    log.warn("PackFileStorage ===> retired segment delete failed, retry on next compaction : " + marker, e);
+                }
+            }
+        } catch (IOException e) {
+            log.error("PackFileStorage ===> retired segment scan failed : " + root, e);
+        }
+        pendingDeleteSegments.set(pending);
+    }
+
+    // 폐기 표시 파일에 기록된 옮긴 용량 (이전 버전의 표시 파일 등 읽을 수 없는 경우 0)
+    private long readMovedBytes(final Path marker) throws IOException {
+        String content = new String(Files.readAllBytes(marker), StandardCharsets.US_ASCII).trim();
+        return content.matches("\\d+") ? Long.parseLong(content) : 0L;
+    }
+
+    // 세그먼트 번호 리스트 조회
+    private List<Long> findSegmentIds() {
+        try (DirectoryStream<Path> segments = Files.newDirectoryStream(root, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            return StreamSupport.stream(segments.spliterator(), false)
+                    .map(path -> parseSegmentId(path.getFileName().toString()))
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 세그먼트 번호 반환 (세그먼트 파일명)
+    private static long parseSegmentId(final String filename) {
+        return Long.parseLong(filename.substring(SEGMENT_PREFIX.length(), filename.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    // 세그먼트 경로 반환
+    private Path getSegmentPath(final long segmentId) {
+        return root.resolve(String.format("%s%06d%s", SEGMENT_PREFIX, segmentId, SEGMENT_SUFFIX));
+    }
+
+    // 세그먼트 폐기 표시 경로 반환
+    private Path getRetiredPath(final long segmentId) {
+        Path segment = getSegmentPath(segmentId);
+        return segment.resolveSibling(segment.getFileName() + RETIRED_SUFFIX);
+    }
+
+    // 활성 세그먼트 (읽기 요청이 번호와 다른 세그먼트의 채널을 함께 보지 않도록 한 번에 교체)
+    private static class ActiveSegment {
+
+        private final long id;
+        private final FileChannel channel;
+
+        ActiveSegment(final long id, final FileChannel channel) {
+            this.id = id;
+            this.channel = channel;
+        }
+
+    }
+
+}
@@ -0,0 +1,248 @@
+package com.study.common.file;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.annotation.PreDestroy;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class ThumbnailService {
+
+    private static final Set<String> IMAGE_EXTENSIONS = Set.of("jpg", "jpeg", "png", "gif", "bmp");
+
+    private final List<Integer> sizes;
+    private final ThreadPoolExecutor executor;
+    private final Set<Path> pending = ConcurrentHashMap.newKeySet();    // 생성 대기/진행 중인 썸네일 경로 (요청 시점 생성)
+
+    public ThumbnailService(@Value("${board.file.thumbnail.sizes:200,640}") final String sizes,
+                            @Value("${board.file.thumbnail.threads:2}") final int threads,
+                            @Value("${board.file.thumbnail.queue-capacity:200}") final int queueCapacity) {
+        this.sizes = Arrays.stream(sizes.split(","))
+                .map(String::trim)
+                .map(Integer::valueOf)
+                .sorted()
+                .collect(Collectors.toUnmodifiableList());
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "thumbnail-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 썸네일 크기 리스트 반환
+     * @return 썸네일 크기 리스트 (오름차순)
+     */
+    public List<Integer> getSizes() {
+        return sizes;
+    }
+
+    /**
+     * 썸네일 생성 대상(이미지) 여부 확인
+     * @param filename - 파일명
+     * @return 이미지 여부
+     */
+    public boolean isImage(final String filename) {
+        String extension = StringUtils.getFilenameExtension(filename);
+        return extension != null && IMAGE_EXTENSIONS.contains(extension.toLowerCase());
+    }
+
+    /**
+     * 요청 크기에 해당하는 썸네일 크기 반환 (설정된 크기 중 요청 크기 이상인 가장 작은 크기)
+     * @param size - 요청 크기
+     * @return 썸네일 크기
+     */
+    public int resolveSize(final int size) {
+        for (int candidate : sizes) {
+            if (candidate >= size) {
+                return candidate;
+            }
+        }
+        return sizes.get(sizes.size() - 1);
+    }
+
+    /**
+     * 썸네일 파일명 반환
+     * @param saveName - 저장 파일명
+     * @param size - 썸네일 크기
+     * @return 썸네일 파일명
+     */
+    public String getThumbnailName(final String saveName, final int size) {
+        String extension = StringUtils.getFilenameExtension(saveName);
+        String format = ("png".equalsIgnoreCase(extension) || "gif".equalsIgnoreCase(extension)) ? "png" : "jpg";
+        return StringUtils.stripFilenameExtension(saveName) + "_" + size + "." + format;
+    }
+
+    /**
+     * 설정된 전체 크기의 썸네일 생성 (비동기)
+     * 작업 큐가 가득 찬 경우 생성을 건너뛰며, 이후 썸네일 요청 시 생성된다.
+     * @param source - 원본 이미지
+     * @param targetDir - 썸네일 저장 경로
+     * @param saveName - 저장 파일명
+     */
+    public void generateAsync(final Resource source, final Path targetDir, final String saveName) {
+        try {
+            executor.execute(() -> {
+                for (int size : sizes) {
+                    try {
+                        generate(source, targetDir.resolve(getThumbnailName(saveName, size)), size);
+                    } catch (IOException | RuntimeException e) {
+                        log.warn("Thumbnail ===> generation failed : " + saveName + " (" + size + ")");
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Thumbnail ===> queue full, skipped : " + saveName);
+        }
+    }
+
+    /**
+     * 요청한 크기의 썸네일 생성 (비동기)
+     * 같은 썸네일이 이미 생성 대기/진행 중이거나 작업 큐가 가득 찬 경우 건너뛰며, 다음 요청 시 다시 시도한다.
+     * 디코딩할 수 없는 이미지(손상, 지원하지 않는 형식)는 썸네일 없음으로 처리한다.
+     * @param source - 원본 이미지
+     * @param target - 썸네일 경로
+     * @param size - 썸네일 크기
+     */
+    public void generateAsync(final Resource source, final Path target, final int size) {
+        if (pending.add(target) == false) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(source, target, size);
+                } catch (IOException | RuntimeException e) {
+                    log.warn("Thumbnail ===> generation failed : " + target.getFileName() + " (" + e.getMessage() + ")");
+                } finally {
+                    pending.remove(target);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.remove(target);
+            log.debug("Thumbnail ===> queue full, skipped : " + target.getFileName());
+        }
+    }
+
+    /**
+     * 썸네일 생성
+     * 원본을 서브샘플링으로 읽어 디코딩 메모리를 줄이고, 임시 파일에 쓴 후 이동한다.
+     * @param source - 원본 이미지
+     * @param target - 썸네일 경로
+     * @param size - 썸네일 크기 (가로/세로 최대 길이)
+     * @return 썸네일 경로
+     */
+    public Path generate(final Resource source, final Path target, final int size) throws IOException {
+        if (Files.exists(target)) {
+            return target;
+        }
+
+        BufferedImage image = read(source, size);
+        if (image == null) {
+            throw new IOException("unsupported image : " + source.getDescription());
+        }
+
+        String format = StringUtils.getFilenameExtension(target.getFileName().toString());
+        BufferedImage thumbnail = resize(image, size, "png".equals(format));
+
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), "thumb", ".tmp");
+        try {
+            ImageIO.write(thumbnail, format, temp.toFile());
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return target;
+    }
+
+    // 원본 이미지 읽기 (썸네일 크기의 2배 이상을 유지하는 범위에서 서브샘플링)
+    private BufferedImage read(final Resource source, final int size) throws IOException {
+        try (InputStream stream = source.getInputStream();
+             ImageInputStream input = ImageIO.createImageInputStream(stream)) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (readers.hasNext() == false) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int longest = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int subsampling = Math.max(1, longest / (size * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 가로/세로 비율을 유지하여 크기 조정 (단계적으로 절반씩 축소하여 품질 유지)
+    private BufferedImage resize(final BufferedImage image, final int size, final boolean alpha) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        double scale = Math.min(1.0, (double) size / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+        int type = alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage current = image;
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+
+            BufferedImage next = new BufferedImage(width, height, type);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+
+        return current;
+    }
+
+}
@@ -0,0 +1,142 @@
+package com.study.common.jfr;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * 상시 JFR 녹화 (board.jfr.enabled=true인 경우)
+ * 번들된 설정(jfr/board.jfc)으로 게시판 이벤트와 주요 JDK 이벤트를 보관 기간/크기 제한 안에서 계속 녹화하고,
+ * 종료 시(또는 요청 시) 덤프 경로에 파일로 남긴다. 실행 중에는 jcmd <pid> JFR.dump name=board 로도 덤프할 수 있다.
+ *
+ * 녹화하지 않는 동안 게시판 이벤트는 비활성화(@Enabled(false)) 상태이므로, 이벤트 객체 생성과 활성화 여부 확인 외의 비용은 없다.
+ *
+ * 녹화는 시작 완료 이벤트(ApplicationReadyEvent)에서 시작한다.
+ * 지연 초기화(fast 프로필) 환경에서는 사용되기 전까지 빈이 생성되지 않으므로, @PostConstruct로는 녹화가 시작되지 않는다.
+ */
+@Slf4j
+@Component
+public class BoardRecording implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final String RECORDING_NAME = "board";
+    private static final String SETTINGS = "jfr/board.jfc";
+
+    private volatile Recording recording;
+
+    @Value("${board.jfr.enabled:false}")
+    private boolean enabled;
+
+    @Value("${board.jfr.max-age-minutes:30}")
+    private long maxAgeMinutes;
+
+    @Value("${board.jfr.max-size-mb:100}")
+    private long maxSizeMb;
+
+    @Value("${board.jfr.dump-path:}")
+    private String dumpPath;
+
+    @Override
+    public void onApplicationEvent(final ApplicationReadyEvent event) {
+        start();
+    }
+
+    /**
+     * 녹화 시작 (이미 녹화 중인 경우 무시)
+     */
+    public synchronized void start() {
+        if (enabled == false || this.recording != null) {
+            return;
+        }
+        if (FlightRecorder.isAvailable() == false) {
+            log.warn("BoardRecording ===> flight recorder is not available");
+            return;
+        }
+
+        try (Reader reader = new InputStreamReader(new ClassPathResource(SETTINGS).getInputStream(), StandardCharsets.UTF_8)) {
+            Recording recording = new Recording(Configuration.create(reader));
+            recording.setName(RECORDING_NAME);
+            recording.setToDisk(true);
+            recording.setMaxAge(Duration.ofMinutes(maxAgeMinutes));
+            recording.setMaxSize(maxSizeMb * 1024 * 1024);
+            recording.start();
+            this.recording = recording;
+            log.info("BoardRecording ===> started (max age : " + maxAgeMinutes + "m, max size : " + maxSizeMb + "MB)");
+        } catch (Exception e) {
+            log.error("BoardRecording ===> failed to start", e);
+        }
+    }
+
+    /**
+     * 녹화 덤프 (녹화는 계속 유지)
+     * @return 덤프 파일 경로 (녹화 중이 아니거나 덤프 경로가 없는 경우 null)
+     */
+    public Path dump() throws IOException {
+        Recording recording = this.recording;
+        if (recording == null || recording.getState() != RecordingState.RUNNING || StringUtils.hasText(dumpPath) == false) {
+            return null;
+        }
+        String filename = RECORDING_NAME + "-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".jfr";
+        Path path = Paths.get(dumpPath, filename);
+        path.getParent().toFile().mkdirs();
+        recording.dump(path);
+        log.info("BoardRecording ===> dumped to " + path);
+        return path;
+    }
+
+    /**
+     * 녹화 현황
+     * @return 녹화 여부, 상태, 크기, 보관 기간 등
+     */
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        Recording recording = this.recording;
+        status.put("enabled", enabled);
+        status.put("state", (recording == null) ? null : recording.getState().name());
+        status.put("sizeBytes", (recording == null) ? 0 : recording.getSize());
+        status.put("maxAgeMinutes", maxAgeMinutes);
+        status.put("maxSizeMb", maxSizeMb);
+        status.put("dumpPath", dumpPath);
+        return status;
+    }
+
+    /**
+     * 녹화 종료 (덤프 후 종료)
+     */
+    @PreDestroy
+    public void stop() {
+        Recording recording = this.recording;
+        if (recording == null) {
+            return;
+        }
+        try {
+            dump();
+        } catch (IOException e) {
+            log.error("BoardRecording ===> failed to dump", e);
+        } finally {
+            this.recording = null;
+            recording.close();
+        }
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.study.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 첨부파일 전송 이벤트 (업로드 저장, 다운로드 전송)
+ */
+@Name("com.study.FileTransfer")
+@Label("File Transfer")
+@Description("Attachment upload (store) or download (send)")
+@Category({ "Board", "File" })
+@Enabled(false)
+@StackTrace(false)
+public class FileTransferEvent extends jdk.jfr.Event {
+
+    public static final String UPLOAD = "upload";
+    public static final String DOWNLOAD = "download";
+
+    @Label("Direction")
+    private String direction;
+
+    @Label("Storage")
+    private String storage;
+
+    @Label("File Name")
+    @Description("Stored file name (original names are not recorded)")
+    private String saveName;
+
+    @Label("Bytes")
+    @DataAmount
+    private long bytes;
+
+    @Label("Failed")
+    private boolean failed;
+
+    /**
+     * 이벤트 종료 및 기록
+     * @param direction - 전송 방향 (upload, download)
+     * @param storage - 저장소 유형
+     * @param saveName - 저장 파일명
+     * @param bytes - 전송 크기
+     * @param failed - 실패 여부
+     */
+    public void finish(final String direction, final String storage, final String saveName, final long bytes, final boolean failed) {
+        end();
+        if (shouldCommit()) {
+            this.direction = direction;
+            this.storage = storage;
+            this.saveName = saveName;
+            this.bytes = bytes;
+            this.failed = failed;
+            commit();
+        }
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.study.common.jfr;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+public class JfrApiController {
+
+    private final BoardRecording boardRecording;
+
+    // JFR 녹화 현황 조회
+    @GetMapping("/jfr")
+    public Map<String, Object> findRecordingStatus() {
+        return boardRecording.getStatus();
+    }
+
+    // JFR 녹화 덤프 (서버의 덤프 경로에 저장, 관리자만 허용)
+    @PostMapping("/jfr/dump")
+    public Map<String, Object> dumpRecording() throws IOException {
+        Path path = boardRecording.dump();
+        if (path == null) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "recording is not running or dump path is empty");
+        }
+        Map<String, Object> status = boardRecording.getStatus();
+        status.put("dumpedTo", path.toString());
+        return status;
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.study.common.jfr;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.executor.resultset.ResultSetHandler;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.SystemMetaObject;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * 매퍼 구문 JFR 이벤트 기록 (MyBatis 플러그인)
+ * Executor 단위로 구문 전체 시간(MapperStatementEvent)을, ResultSetHandler 단위로 결과 매핑 시간(ResultMappingEvent)을 기록한다.
+ * 이벤트가 비활성화된 경우 구문 ID 조회 등 추가 작업 없이 바로 실행한다.
+ */
+@Intercepts({
+        @Signature(type = Executor.class, method = "update", args = { MappedStatement.class, Object.class }),
+        @Signature(type = Executor.class, method = "query", args = { MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class }),
+        @Signature(type = Executor.class, method = "query", args = { MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class }),
+        @Signature(type = Executor.class, method = "queryCursor", args = { MappedStatement.class, Object.class, RowBounds.class }),
+        @Signature(type = ResultSetHandler.class, method = "handleResultSets", args = { Statement.class })
+})
+public class MapperEventPlugin implements Interceptor {
+
+    @Override
+    public Object intercept(final Invocation invocation) throws Throwable {
+        if (invocation.getTarget() instanceof ResultSetHandler) {
+            return interceptResultMapping(invocation);
+        }
+
+        MapperStatementEvent event = new MapperStatementEvent();
+        if (event.isEnabled() == false) {
+            return invocation.proceed();
+        }
+
+        MappedStatement ms = (MappedStatement) invocation.getArgs()[0];
+        event.begin();
+        boolean failed = true;
+        int rows = -1;
+        try {
+            Object result = invocation.proceed();
+            rows = countRows(result);
+            failed = false;
+            return result;
+        } finally {
+            event.finish(ms.getId(), ms.getSqlCommandType().name(), rows, failed);
+        }
+    }
+
+    // 결과 매핑 시간 기록 (DefaultResultSetHandler의 매핑 구문 ID 사용)
+    private Object interceptResultMapping(final Invocation invocation) throws Throwable {
+        ResultMappingEvent event = new ResultMappingEvent();
+        if (event.isEnabled() == false) {
+            return invocation.proceed();
+        }
+
+        event.begin();
+        int rows = -1;
+        try {
+            Object result = invocation.proceed();
+            rows = countRows(result);
+            return result;
+        } finally {
+            event.finish(findStatementId(invocation.getTarget()), rows);
+        }
+    }
+
+    private static String findStatementId(final Object resultSetHandler) {
+        MetaObject metaObject = SystemMetaObject.forObject(resultSetHandler);
+        if (metaObject.hasGetter("mappedStatement") == false) {
+            return null;
+        }
+        MappedStatement ms = (MappedStatement) metaObject.getValue("mappedStatement");
+        return (ms == null) ? null : ms.getId();
+    }
+
+    private static int countRows(final Object result) {
+        if (result instanceof List) {
+            return ((List<?>) result).size();
+        }
+        if (result instanceof Integer) {
+            return (Integer) result;
+        }
+        return -1;
+    }
+
+}
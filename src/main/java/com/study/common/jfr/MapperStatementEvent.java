@@ -0,0 +1,53 @@
+package com.study.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 매퍼 구문 실행 이벤트 (JDBC 실행 + 결과 매핑)
+ * 같은 스레드의 ResultMappingEvent 시간을 빼면 JDBC 대기 시간이 된다.
+ */
+@Name("com.study.MapperStatement")
+@Label("Mapper Statement")
+@Description("MyBatis mapper statement execution (JDBC + result mapping)")
+@Category({ "Board", "Database" })
+@Enabled(false)
+@StackTrace(false)
+public class MapperStatementEvent extends jdk.jfr.Event {
+
+    @Label("Statement Id")
+    private String statementId;
+
+    @Label("Command")
+    private String command;
+
+    @Label("Rows")
+    @Description("Selected or affected rows (-1 for cursors)")
+    private int rows;
+
+    @Label("Failed")
+    private boolean failed;
+
+    /**
+     * 이벤트 종료 및 기록 (기준 시간 미만이거나 비활성화된 경우 기록하지 않음)
+     * @param statementId - 매퍼 구문 ID (namespace.id)
+     * @param command - SQL 유형 (SELECT, INSERT, UPDATE, DELETE)
+     * @param rows - 행 수
+     * @param failed - 실패 여부
+     */
+    public void finish(final String statementId, final String command, final int rows, final boolean failed) {
+        end();
+        if (shouldCommit()) {
+            this.statementId = statementId;
+            this.command = command;
+            this.rows = rows;
+            this.failed = failed;
+            commit();
+        }
+    }
+
+}
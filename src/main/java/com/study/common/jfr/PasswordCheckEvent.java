@@ -0,0 +1,42 @@
+package com.study.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 로그인 비밀번호 검증 이벤트 (bcrypt 등 비밀번호 해시 비교)
+ * 로그인 ID, 비밀번호는 기록하지 않는다.
+ */
+@Name("com.study.PasswordCheck")
+@Label("Password Check")
+@Description("Login password hash verification")
+@Category({ "Board", "Security" })
+@Enabled(false)
+@StackTrace(false)
+public class PasswordCheckEvent extends jdk.jfr.Event {
+
+    @Label("Encoder")
+    private String encoder;
+
+    @Label("Matched")
+    private boolean matched;
+
+    /**
+     * 이벤트 종료 및 기록
+     * @param encoder - 비밀번호 인코더 이름
+     * @param matched - 일치 여부
+     */
+    public void finish(final String encoder, final boolean matched) {
+        end();
+        if (shouldCommit()) {
+            this.encoder = encoder;
+            this.matched = matched;
+            commit();
+        }
+    }
+
+}
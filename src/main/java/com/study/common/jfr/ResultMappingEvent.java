@@ -0,0 +1,42 @@
+package com.study.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 결과 매핑 이벤트 (ResultSet → 객체 변환)
+ * 드라이버의 fetch 시간이 포함되므로, 큰 결과는 fetchSize에 따라 JDBC 대기 시간 일부가 함께 기록된다.
+ */
+@Name("com.study.ResultMapping")
+@Label("Result Mapping")
+@Description("MyBatis result set mapping")
+@Category({ "Board", "Database" })
+@Enabled(false)
+@StackTrace(false)
+public class ResultMappingEvent extends jdk.jfr.Event {
+
+    @Label("Statement Id")
+    private String statementId;
+
+    @Label("Rows")
+    private int rows;
+
+    /**
+     * 이벤트 종료 및 기록
+     * @param statementId - 매퍼 구문 ID
+     * @param rows - 매핑된 행 수
+     */
+    public void finish(final String statementId, final int rows) {
+        end();
+        if (shouldCommit()) {
+            this.statementId = statementId;
+            this.rows = rows;
+            commit();
+        }
+    }
+
+}
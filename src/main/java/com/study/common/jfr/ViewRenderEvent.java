@@ -0,0 +1,46 @@
+package com.study.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 화면 렌더링 이벤트 (컨트롤러 처리 후 ~ 응답 완료 전)
+ */
+@Name("com.study.ViewRender")
+@Label("View Render")
+@Description("Thymeleaf view rendering")
+@Category({ "Board", "Web" })
+@Enabled(false)
+@StackTrace(false)
+public class ViewRenderEvent extends jdk.jfr.Event {
+
+    @Label("View Name")
+    private String viewName;
+
+    @Label("Request URI")
+    private String requestUri;
+
+    @Label("Failed")
+    private boolean failed;
+
+    /**
+     * 이벤트 종료 및 기록
+     * @param viewName - 화면 이름
+     * @param requestUri - 요청 URI
+     * @param failed - 실패 여부
+     */
+    public void finish(final String viewName, final String requestUri, final boolean failed) {
+        end();
+        if (shouldCommit()) {
+            this.viewName = viewName;
+            this.requestUri = requestUri;
+            this.failed = failed;
+            commit();
+        }
+    }
+
+}
@@ -0,0 +1,201 @@
+package com.study.common.mybatis;
+
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 긴 본문(내용) 압축 TypeHandler
+ * 기준 크기(UTF-8 바이트) 이상인 값은 deflate로 압축한 후 형식 표시(FORMAT_MARKER) + Base64 문자열로 저장한다.
+ * 형식 표시로 시작하지 않는 값은 그대로 읽으므로, 압축 적용 이전에 저장된 값도 정상적으로 조회된다.
+ * 압축된 값은 DB의 LIKE 검색 대상이 되지 않으므로 기본값은 비활성화이다. (board.content-compression.enabled)
+ *
+ * MyBatis가 직접 생성하는 객체이므로, 설정은 DatabaseConfig에서 configure()로 전달한다.
+ */
+public class CompressedTextTypeHandler extends BaseTypeHandler<String> {
+
+    public static final String FORMAT_MARKER = "\u0001z1:";    // 형식 표시 (제어 문자 + 형식 버전)
+
+    private static volatile boolean enabled;
+    private static volatile int threshold = 4096;
+    private static volatile int level = Deflater.DEFAULT_COMPRESSION;
+
+    private static final LongAdder compressedWrites = new LongAdder();    // 압축 저장 수
+    private static final LongAdder plainWrites = new LongAdder();         // 원본 저장 수
+    private static final LongAdder originalBytes = new LongAdder();       // 압축 저장된 값의 원본 크기
+    private static final LongAdder storedBytes = new LongAdder();         // 압축 저장된 값의 저장 크기
+    private static final LongAdder compressedReads = new LongAdder();     // 압축 해제 수
+    private static final LongAdder decompressNanos = new LongAdder();     // 압축 해제 누적 시간
+    private static final LongAdder fetches = new LongAdder();             // 조회 수 (컬럼 값 읽기)
+    private static final LongAdder fetchNanos = new LongAdder();          // 조회 누적 시간 (ResultSet에서 컬럼 값을 읽는 시간, 압축 해제 제외)
+
+    /**
+     * 압축 설정
+     * @param enabled - 압축 저장 여부 (false인 경우에도 압축된 값은 해제하여 조회)
+     * @param threshold - 압축 기준 크기 (UTF-8 바이트)
+     * @param level - 압축 수준 (1 ~ 9)
+     */
+    public static void configure(final boolean enabled, final int threshold, final int level) {
+        CompressedTextTypeHandler.enabled = enabled;
+        CompressedTextTypeHandler.threshold = threshold;
+        CompressedTextTypeHandler.level = level;
+    }
+
+    @Override
+    public void setNonNullParameter(final PreparedStatement ps, final int i, final String parameter, final JdbcType jdbcType) throws SQLException {
+        ps.setString(i, encode(parameter));
+    }
+
+    @Override
+    public String getNullableResult(final ResultSet rs, final String columnName) throws SQLException {
+        long start = System.nanoTime();
+        String value = rs.getString(columnName);
+        recordFetch(start);
+        return decode(value);
+    }
+
+    @Override
+    public String getNullableResult(final ResultSet rs, final int columnIndex) throws SQLException {
+        long start = System.nanoTime();
+        String value = rs.getString(columnIndex);
+        recordFetch(start);
+        return decode(value);
+    }
+
+    @Override
+    public String getNullableResult(final CallableStatement cs, final int columnIndex) throws SQLException {
+        long start = System.nanoTime();
+        String value = cs.getString(columnIndex);
+        recordFetch(start);
+        return decode(value);
+    }
+
+    // 조회 시간 기록
+    private static void recordFetch(final long start) {
+        fetches.increment();
+        fetchNanos.add(System.nanoTime() - start);
+    }
+
+    /**
+     * 저장할 값으로 변환
+     * 원본이 형식 표시로 시작하는 경우, 조회 시 구분할 수 있도록 크기와 관계없이 압축한다.
+     * @param value - 원본 값
+     * @return 저장할 값 (압축 효과가 없는 경우 원본)
+     */
+    static String encode(final String value) {
+        byte[] original = value.getBytes(StandardCharsets.UTF_8);
+        boolean ambiguous = value.startsWith(FORMAT_MARKER);
+        if ((enabled == false || original.length < threshold) && ambiguous == false) {
+            plainWrites.increment();
+            return value;
+        }
+
+        String encoded = FORMAT_MARKER + Base64.getEncoder().encodeToString(deflate(original));
+        if (encoded.length() >= original.length && ambiguous == false) {
+            plainWrites.increment();
+            return value;
+        }
+        compressedWrites.increment();
+        originalBytes.add(original.length);
+        storedBytes.add(encoded.length());
+        return encoded;
+    }
+
+    /**
+     * 조회한 값 변환
+     * 형식 표시로 시작하지만 해제할 수 없는 값(잘림, 손상)은 IllegalStateException
+     * @param value - 저장된 값
+     * @return 원본 값
+     */
+    static String decode(final String value) {
+        if (value == null || value.startsWith(FORMAT_MARKER) == false) {
+            return value;
+        }
+        long start = System.nanoTime();
+        try {
+            byte[] compressed = Base64.getDecoder().decode(value.substring(FORMAT_MARKER.length()));
+            return new String(inflate(compressed), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("invalid compressed content", e);
+        } finally {
+            compressedReads.increment();
+            decompressNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    private static byte[] deflate(final byte[] input) {
+        Deflater deflater = new Deflater(level, true);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, input.length / 4));
+            byte[] buffer = new byte[8192];
+            while (deflater.finished() == false) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(final byte[] input) {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(input);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length * 4);
+            byte[] buffer = new byte[8192];
+            while (inflater.finished() == false) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("truncated compressed content");
+                }
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("invalid compressed content", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * 압축 현황 (압축률, 압축 해제 평균 시간, 조회 평균 시간)
+     * 조회 시간은 드라이버가 받아 둔 행에서 컬럼 값을 읽는 시간이며, 압축으로 줄어든 전송량의 효과는 DB 구간(쿼리 시간)에 나타난다.
+     * @return 압축 현황
+     */
+    public static Map<String, Object> getStats() {
+        long original = originalBytes.sum();
+        long stored = storedBytes.sum();
+        long reads = compressedReads.sum();
+        long fetched = fetches.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("threshold", threshold);
+        stats.put("compressedWrites", compressedWrites.sum());
+        stats.put("plainWrites", plainWrites.sum());
+        stats.put("originalBytes", original);
+        stats.put("storedBytes", stored);
+        stats.put("ratio", (original == 0) ? 1d : (double) stored / original);
+        stats.put("compressedReads", reads);
+        stats.put("avgDecompressMicros", (reads == 0) ? 0d : decompressNanos.sum() / 1000d / reads);
+        stats.put("fetches", fetched);
+        stats.put("avgFetchMicros", (fetched == 0) ? 0d : fetchNanos.sum() / 1000d / fetched);
+        return stats;
+    }
+
+}
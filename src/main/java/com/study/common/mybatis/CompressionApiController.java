@@ -0,0 +1,17 @@
+package com.study.common.mybatis;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+public class CompressionApiController {
+
+    // 본문 압축 현황 조회 (압축률, 압축 해제 평균 시간)
+    @GetMapping("/content-compression")
+    public Map<String, Object> findCompressionStats() {
+        return CompressedTextTypeHandler.getStats();
+    }
+
+}
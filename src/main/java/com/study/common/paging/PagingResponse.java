@@ -2,17 +2,16 @@ package com.study.common.paging;
 
 import lombok.Getter;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Getter
 public class PagingResponse<T> {
 
-    private List<T> list = new ArrayList<>();
+    private List<T> list;
     private Pagination pagination;
 
     public PagingResponse(List<T> list, Pagination pagination) {
-        this.list.addAll(list);
+        this.list = list;
         this.pagination = pagination;
     }
 
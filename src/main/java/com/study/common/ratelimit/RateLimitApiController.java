@@ -0,0 +1,21 @@
+package com.study.common.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+public class RateLimitApiController {
+
+    private final RateLimiter rateLimiter;
+
+    // 요청 제한 현황 조회 (규칙별 누적 거부 수, 버킷 수)
+    @GetMapping("/rate-limit")
+    public Map<String, Object> findRateLimitStatus() {
+        return rateLimiter.getStatus();
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.study.common.ratelimit;
+
+import lombok.Getter;
+
+/**
+ * 요청 제한 규칙 (route 단위)
+ * 설정 형식 : METHOD:/path/pattern:용량:초당 충전 수 (예 : POST:/post/save.do:10:1)
+ */
+@Getter
+public class RateLimitRule {
+
+    private final String method;             // HTTP 메서드
+    private final String pattern;            // 경로 패턴 (Ant 스타일)
+    private final int capacity;              // 버킷 용량 (순간 허용 요청 수)
+    private final double refillPerSecond;    // 초당 충전 수
+
+    public RateLimitRule(final String method, final String pattern, final int capacity, final double refillPerSecond) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("rate limit capacity must be positive : " + method + " " + pattern + " (" + capacity + ")");
+        }
+        if ((refillPerSecond > 0 && Double.isFinite(refillPerSecond)) == false) {
+            throw new IllegalArgumentException("rate limit refill per second must be positive : " + method + " " + pattern + " (" + refillPerSecond + ")");
+        }
+        this.method = method;
+        this.pattern = pattern;
+        this.capacity = capacity;
+        this.refillPerSecond = refillPerSecond;
+    }
+
+    /**
+     * 설정 문자열 변환
+     * 용량, 초당 충전 수가 0 이하인 규칙은 시작 시점에 거부한다. (충전 수 0은 충전 시간이 무한대가 되어 버킷이 동작하지 않음)
+     * @param value - METHOD:/path/pattern:용량:초당 충전 수
+     * @return 요청 제한 규칙
+     */
+    public static RateLimitRule parse(final String value) {
+        String[] tokens = value.trim().split(":");
+        if (tokens.length != 4) {
+            throw new IllegalArgumentException("invalid rate limit rule : " + value);
+        }
+        return new RateLimitRule(tokens[0].trim().toUpperCase(), tokens[1].trim(), Integer.parseInt(tokens[2].trim()), Double.parseDouble(tokens[3].trim()));
+    }
+
+    public String getName() {
+        return method + " " + pattern;
+    }
+
+}
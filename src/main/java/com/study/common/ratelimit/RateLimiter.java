@@ -0,0 +1,189 @@
+package com.study.common.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * 요청 제한 (route + 회원/IP 단위 토큰 버킷)
+ * 로그인 회원의 요청은 회원 버킷과 IP 버킷을 모두 사용하므로, 회원 계정을 여러 개 사용해도 IP 단위 제한을 받는다.
+ * 버킷은 크기가 제한된 ConcurrentHashMap에 보관하며, 한도를 넘으면 가득 찬(유휴) 버킷부터 한도의 90%까지 한 번에 제거한다.
+ * (제거는 전체 순회이므로, 한 번에 여유를 만들어 두어 새 주체마다 순회하지 않도록 함)
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final List<RateLimitRule> rules;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> throttled = new ConcurrentHashMap<>();    // 규칙명 : 누적 거부 수
+    private final AtomicLong allowed = new AtomicLong();                            // 누적 허용 수
+    private final AtomicLong evicted = new AtomicLong();                            // 누적 제거 버킷 수
+    private final ReentrantLock evictLock = new ReentrantLock();
+
+    @Value("${board.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${board.rate-limit.max-buckets:100000}")
+    private int maxBuckets;
+
+    public RateLimiter(@Value("${board.rate-limit.routes:}") final String routes) {
+        this.rules = Arrays.stream(routes.split(","))
+                .filter(StringUtils::hasText)
+                .map(RateLimitRule::parse)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    /**
+     * 요청 허용 여부 확인
+     * 요청 주체별 버킷을 순서대로 사용하며, 하나라도 거부하면 나머지 버킷은 사용하지 않고 거부한다.
+     * @param method - HTTP 메서드
+     * @param path - 요청 경로 (핸들러 조회 기준 경로)
+     * @param subjects - 요청 주체 (IP, 회원 번호)
+     * @return 0 : 허용 (또는 대상 아님), 0 초과 : 거부 (재시도까지 남은 시간, ns)
+     */
+    public long tryAcquire(final String method, final String path, final String... subjects) {
+        if (enabled == false) {
+            return 0L;
+        }
+        RateLimitRule rule = findRule(method, path);
+        if (rule == null) {
+            return 0L;
+        }
+
+        long now = System.nanoTime();
+        for (String subject : subjects) {
+            long wait = findBucket(rule, subject, now).tryConsume(now);
+            if (wait > 0) {
+                throttled.computeIfAbsent(rule.getName(), k -> new AtomicLong()).incrementAndGet();
+                return wait;
+            }
+        }
+        allowed.incrementAndGet();
+        return 0L;
+    }
+
+    /**
+     * Retry-After 헤더 값 변환 (초 단위 올림, 최소 1초)
+     * @param waitNanos - 재시도까지 남은 시간 (ns)
+     * @return 재시도까지 남은 시간 (초)
+     */
+    public static long toRetryAfterSeconds(final long waitNanos) {
+        return Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+
+    // 규칙 + 요청 주체의 버킷 조회 (없는 경우 생성, 한도를 넘은 경우 먼저 제거)
+    private TokenBucket findBucket(final RateLimitRule rule, final String subject, final long now) {
+        String key = rule.getName() + "|" + subject;
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxBuckets) {
+                evict(now, maxBuckets - maxBuckets / 10);
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(rule.getCapacity(), rule.getRefillPerSecond(), now));
+        }
+        return bucket;
+    }
+
+    // 요청에 해당하는 규칙 조회
+    private RateLimitRule findRule(final String method, final String path) {
+        for (RateLimitRule rule : rules) {
+            if (rule.getMethod().equals(method) && pathMatcher.match(rule.getPattern(), path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 버킷 제거
+     * 가득 찬 버킷은 새 버킷과 상태가 같으므로 먼저 제거하고, 그래도 목표 수를 넘으면 임의의 버킷을 제거한다.
+     * 다른 스레드가 제거 중인 경우 기다리지 않고 건너뛴다.
+     * @param now - 현재 시각 (System.nanoTime)
+     * @param target - 목표 버킷 수
+     */
+    private void evict(final long now, final int target) {
+        if (evictLock.tryLock() == false) {
+            return;
+        }
+        try {
+            int before = buckets.size();
+            buckets.values().removeIf(bucket -> bucket.isFull(now));
+            Iterator<String> keys = buckets.keySet().iterator();
+            while (buckets.size() > target && keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+            evicted.addAndGet(Math.max(0, before - buckets.size()));
+        } finally {
+            evictLock.unlock();
+        }
+    }
+
+    /**
+     * 유휴 버킷 정리 및 거부 현황 로깅
+     */
+    @Scheduled(fixedDelayString = "${board.rate-limit.cleanup-interval-ms:60000}")
+    public void cleanup() {
+        evict(System.nanoTime(), maxBuckets);
+        long total = getThrottledCount();
+        if (total > 0) {
+            log.info("RateLimiter ===> throttled : " + getThrottledCounts() + ", allowed : " + allowed.get() + ", buckets : " + buckets.size());
+        }
+    }
+
+    /**
+     * 요청 제한 현황 (규칙, 누적 허용/거부 수, 버킷 수)
+     * @return 현황
+     */
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", enabled);
+        status.put("rules", rules.stream().map(rule -> rule.getName() + " (capacity : " + rule.getCapacity() + ", refill/s : " + rule.getRefillPerSecond() + ")").collect(Collectors.toList()));
+        status.put("allowed", getAllowedCount());
+        status.put("throttled", getThrottledCount());
+        status.put("throttledByRule", getThrottledCounts());
+        status.put("buckets", getBucketCount());
+        status.put("maxBuckets", maxBuckets);
+        status.put("evicted", getEvictedCount());
+        return status;
+    }
+
+    public long getAllowedCount() {
+        return allowed.get();
+    }
+
+    public long getThrottledCount() {
+        return throttled.values().stream().mapToLong(AtomicLong::get).sum();
+    }
+
+    public Map<String, Long> getThrottledCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        throttled.forEach((name, count) -> counts.put(name, count.get()));
+        return counts;
+    }
+
+    public long getEvictedCount() {
+        return evicted.get();
+    }
+
+    public int getBucketCount() {
+        return buckets.size();
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.study.common.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 토큰 버킷 (lock-free)
+ * 남은 토큰 수 대신 "버킷이 가득 차는 시각(TAT, theoretical arrival time)" 하나만 저장한다. (GCRA)
+ * 요청 1건은 TAT를 토큰 1개 충전 시간만큼 뒤로 미루며, TAT가 현재 시각보다 (용량 x 충전 시간) 이상 앞서면 거부한다.
+ * 충전은 시간이 흐르는 것만으로 반영되므로 별도의 충전 작업 없이 CAS 한 번으로 처리된다.
+ */
+public class TokenBucket {
+
+    private final long intervalNanos;     // 토큰 1개 충전 시간
+    private final long toleranceNanos;    // 용량 x 충전 시간
+    private final AtomicLong tat;
+
+    public TokenBucket(final int capacity, final double refillPerSecond, final long now) {
+        this.intervalNanos = Math.max(1L, (long) (1_000_000_000L / refillPerSecond));
+        this.toleranceNanos = intervalNanos * capacity;
+        this.tat = new AtomicLong(now);
+    }
+
+    /**
+     * 토큰 1개 사용
+     * @param now - 현재 시각 (System.nanoTime)
+     * @return 0 : 허용, 0 초과 : 거부 (토큰이 충전될 때까지 남은 시간, ns)
+     */
+    public long tryConsume(final long now) {
+        while (true) {
+            long current = tat.get();
+            long next = Math.max(current, now) + intervalNanos;
+            long wait = next - now - toleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (tat.compareAndSet(current, next)) {
+                return 0L;
+            }
+        }
+    }
+
+    /**
+     * 버킷이 가득 찼는지 확인 (가득 찬 버킷은 제거해도 동작이 같음)
+     * @param now - 현재 시각 (System.nanoTime)
+     * @return 가득 찬 상태 여부
+     */
+    public boolean isFull(final long now) {
+        return tat.get() - now <= 0;
+    }
+
+}
@@ -0,0 +1,139 @@
+package com.study.common.startup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시작 시간 리포트
+ * BufferingApplicationStartup에 기록된 시작 단계(step)를 단계별/빈별로 집계하여 로그(및 파일)로 남긴다.
+ * 빈 생성 시간은 의존 빈의 생성 시간을 뺀 자체 소요 시간(self time) 기준으로 정렬한다.
+ * board.startup.exit-on-ready=true인 경우 리포트 후 종료한다. (AppCDS 아카이브 생성 용도)
+ */
+@Slf4j
+@Component
+public class StartupReporter implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final String BEAN_STEP = "spring.beans.instantiate";
+
+    @Value("${board.startup.report-enabled:true}")
+    private boolean enabled;
+
+    @Value("${board.startup.report-path:}")
+    private String reportPath;
+
+    @Value("${board.startup.top-beans:20}")
+    private int topBeans;
+
+    @Value("${board.startup.exit-on-ready:false}")
+    private boolean exitOnReady;
+
+    @Override
+    public void onApplicationEvent(final ApplicationReadyEvent event) {
+        ConfigurableApplicationContext context = event.getApplicationContext();
+        ApplicationStartup startup = context.getApplicationStartup();
+        if (enabled && startup instanceof BufferingApplicationStartup) {
+            report(((BufferingApplicationStartup) startup).drainBufferedTimeline());
+        }
+
+        if (exitOnReady) {
+            log.info("StartupReporter ===> exit on ready");
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+
+    /**
+     * 리포트 생성
+     * @param timeline - 시작 단계 기록
+     */
+    private void report(final StartupTimeline timeline) {
+        List<StartupTimeline.TimelineEvent> events = timeline.getEvents();
+
+        // 1. 단계별 집계 (단계명 : [횟수, 총 소요 시간(ms)])
+        Map<String, long[]> phases = new LinkedHashMap<>();
+        Map<Long, Duration> childDurations = new HashMap<>();
+        for (StartupTimeline.TimelineEvent event : events) {
+            StartupStep step = event.getStartupStep();
+            long[] phase = phases.computeIfAbsent(step.getName(), name -> new long[2]);
+            phase[0]++;
+            phase[1] += event.getDuration().toMillis();
+            if (step.getParentId() != null) {
+                childDurations.merge(step.getParentId(), event.getDuration(), Duration::plus);
+            }
+        }
+
+        // 2. 빈별 자체 소요 시간 (의존 빈 생성 시간 제외)
+        Map<StartupTimeline.TimelineEvent, Duration> selfDurations = new HashMap<>();
+        for (StartupTimeline.TimelineEvent event : events) {
+            if (BEAN_STEP.equals(event.getStartupStep().getName())) {
+                Duration children = childDurations.getOrDefault(event.getStartupStep().getId(), Duration.ZERO);
+                selfDurations.put(event, event.getDuration().minus(children));
+            }
+        }
+        List<StartupTimeline.TimelineEvent> beans = new ArrayList<>(selfDurations.keySet());
+        beans.sort(Comparator.comparing(selfDurations::get).reversed());
+
+        // 3. 출력
+        StringBuilder report = new StringBuilder();
+        report.append("startup uptimeMs=").append(ManagementFactory.getRuntimeMXBean().getUptime())
+                .append(" steps=").append(events.size()).append('\n');
+        phases.forEach((name, phase) -> report.append("phase name=").append(name)
+                .append(" count=").append(phase[0]).append(" totalMs=").append(phase[1]).append('\n'));
+        for (StartupTimeline.TimelineEvent bean : beans.subList(0, Math.min(topBeans, beans.size()))) {
+            report.append("bean name=").append(findTag(bean.getStartupStep(), "beanName"))
+                    .append(" selfMs=").append(selfDurations.get(bean).toMillis())
+                    .append(" totalMs=").append(bean.getDuration().toMillis()).append('\n');
+        }
+
+        log.info("StartupReporter ===> \n" + report);
+        if (StringUtils.hasText(reportPath)) {
+            write(Paths.get(reportPath), report.toString());
+        }
+    }
+
+    // 태그 값 조회
+    private String findTag(final StartupStep step, final String key) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if (key.equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return "";
+    }
+
+    // 리포트 파일 저장
+    private void write(final Path path, final String report) {
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Files.write(path, report.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            log.warn("StartupReporter ===> report write failed : " + path);
+        }
+    }
+
+}
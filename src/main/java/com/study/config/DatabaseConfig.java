@@ -1,11 +1,14 @@
 package com.study.config;
 
+import com.study.common.jfr.MapperEventPlugin;
+import com.study.common.mybatis.CompressedTextTypeHandler;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.mybatis.spring.SqlSessionFactoryBean;
 import org.mybatis.spring.SqlSessionTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
@@ -21,6 +24,15 @@ public class DatabaseConfig {
     @Autowired
     private ApplicationContext context;
 
+    @Value("${board.content-compression.enabled:false}")
+    private boolean compressionEnabled;
+
+    @Value("${board.content-compression.threshold-bytes:4096}")
+    private int compressionThreshold;
+
+    @Value("${board.content-compression.level:6}")
+    private int compressionLevel;
+
     @Bean
     @ConfigurationProperties(prefix = "spring.datasource.hikari")
     public HikariConfig hikariConfig() {
@@ -34,10 +46,12 @@ public class DatabaseConfig {
 
     @Bean
     public SqlSessionFactory sqlSessionFactory() throws Exception {
+        CompressedTextTypeHandler.configure(compressionEnabled, compressionThreshold, compressionLevel);
         SqlSessionFactoryBean factoryBean = new SqlSessionFactoryBean();
         factoryBean.setDataSource(dataSource());
         factoryBean.setMapperLocations(context.getResources("classpath:/mappers/**/*Mapper.xml"));
         factoryBean.setConfiguration(mybatisConfig());
+        factoryBean.setPlugins(new MapperEventPlugin());
         return factoryBean.getObject();
     }
 
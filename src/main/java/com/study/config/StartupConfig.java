@@ -0,0 +1,25 @@
+package com.study.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.ReflectionUtils;
+
+import java.util.Arrays;
+
+@Configuration
+public class StartupConfig {
+
+    /**
+     * 지연 초기화(spring.main.lazy-initialization) 제외 대상
+     * 스케줄 작업은 빈이 생성되어야 등록되므로, @Scheduled 메서드가 있는 빈은 항상 즉시 생성한다.
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter scheduledBeanExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> Arrays.stream(ReflectionUtils.getUniqueDeclaredMethods(beanType))
+                .anyMatch(method -> AnnotatedElementUtils.hasAnnotation(method, Scheduled.class));
+    }
+
+}
@@ -1,22 +1,54 @@
 package com.study.config;
 
+import com.study.common.bulkhead.BulkheadRegistry;
+import com.study.common.ratelimit.RateLimiter;
+import com.study.interceptor.AdminCheckInterceptor;
+import com.study.interceptor.BulkheadInterceptor;
 import com.study.interceptor.LoggerInterceptor;
 import com.study.interceptor.LoginCheckInterceptor;
+import com.study.interceptor.RateLimitInterceptor;
+import com.study.interceptor.ViewRenderInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.Set;
+
 @Configuration
+@RequiredArgsConstructor
 public class WebMvcConfig implements WebMvcConfigurer {
 
+    private final RateLimiter rateLimiter;
+    private final BulkheadRegistry bulkheadRegistry;
+
+    @Value("${board.log.trace-sample-rate:0.01}")
+    private double traceSampleRate;
+
+    @Value("${board.admin.login-ids:}")
+    private Set<String> adminLoginIds;
+
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new LoggerInterceptor())
+        registry.addInterceptor(new LoggerInterceptor(traceSampleRate))
+                .excludePathPatterns("/css/**", "/images/**", "/js/**");
+
+        registry.addInterceptor(new RateLimitInterceptor(rateLimiter))
                 .excludePathPatterns("/css/**", "/images/**", "/js/**");
 
         registry.addInterceptor(new LoginCheckInterceptor())
-                .addPathPatterns("/**/*.do")
+                .addPathPatterns("/**/*.do", "/export/**", "/imports/**", "/bulkheads", "/rate-limit", "/change-log", "/content-compression", "/jfr/**", "/drafts/status", "/uploads/status", "/file-cache", "/file-reaper")
                 .excludePathPatterns("/log*");
+
+        registry.addInterceptor(new AdminCheckInterceptor(adminLoginIds))
+                .addPathPatterns("/imports/**", "/export/**", "/jfr/dump");
+
+        registry.addInterceptor(new BulkheadInterceptor(bulkheadRegistry.getUpload()))
+                .addPathPatterns("/post/save.do", "/post/update.do", "/imports", "/uploads/*/chunks/*");
+
+        registry.addInterceptor(new ViewRenderInterceptor())
+                .excludePathPatterns("/css/**", "/images/**", "/js/**");
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,69 @@
+package com.study.domain.archive;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface ArchiveMapper {
+
+    /**
+     * 아카이브 대상 게시글 번호 조회 (삭제된 게시글 또는 기준일시 이전에 생성된 일반 게시글)
+     * @param cutoffDate - 기준일시
+     * @param limit - 최대 조회 건수
+     * @return 게시글 번호 리스트
+     */
+    List<Long> findArchivablePostIds(@Param("cutoffDate") LocalDateTime cutoffDate, @Param("limit") int limit);
+
+    /**
+     * 게시글 아카이브 테이블로 복사
+     * @param ids - 게시글 번호 리스트
+     * @return 복사된 게시글 수
+     */
+    int copyPostsToArchive(List<Long> ids);
+
+    /**
+     * 게시글에 달린 댓글 번호 조회 (잠금)
+     * @param postIds - 게시글 번호 리스트
+     * @return 댓글 번호 리스트
+     */
+    List<Long> findCommentIdsByPostIds(List<Long> postIds);
+
+    /**
+     * 삭제된 게시글의 파일 삭제 처리
+     * @param postIds - 게시글 번호 리스트
+     * @return 삭제 처리된 파일 수
+     */
+    int deleteFilesOfDeletedPosts(List<Long> postIds);
+
+    /**
+     * 게시글 삭제 (from 운영 테이블)
+     * @param ids - 게시글 번호 리스트
+     * @return 삭제된 게시글 수
+     */
+    int deletePostsByIds(List<Long> ids);
+
+    /**
+     * 아카이브 대상 댓글 번호 조회 (삭제된 댓글)
+     * @param limit - 최대 조회 건수
+     * @return 댓글 번호 리스트
+     */
+    List<Long> findArchivableCommentIds(int limit);
+
+    /**
+     * 댓글 아카이브 테이블로 복사
+     * @param ids - 댓글 번호 리스트
+     * @return 복사된 댓글 수
+     */
+    int copyCommentsToArchive(List<Long> ids);
+
+    /**
+     * 댓글 삭제 (from 운영 테이블)
+     * @param ids - 댓글 번호 리스트
+     * @return 삭제된 댓글 수
+     */
+    int deleteCommentsByIds(List<Long> ids);
+
+}
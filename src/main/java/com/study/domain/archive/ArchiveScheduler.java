@@ -0,0 +1,67 @@
+package com.study.domain.archive;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArchiveScheduler {
+
+    private final ArchiveService archiveService;
+
+    @Value("${board.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${board.archive.post-age-days:365}")
+    private int postAgeDays;
+
+    @Value("${board.archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${board.archive.max-batches:100}")
+    private int maxBatches;
+
+    /**
+     * 삭제된 게시글/댓글 및 오래된 게시글 아카이빙
+     * 배치 단위로 트랜잭션을 나누어 운영 테이블의 락 점유 시간을 짧게 유지한다.
+     */
+    @Scheduled(fixedDelayString = "${board.archive.interval-ms:3600000}", initialDelayString = "${board.archive.initial-delay-ms:60000}")
+    public void archive() {
+        if (enabled == false) {
+            return;
+        }
+
+        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(postAgeDays);
+        int posts = 0;
+        int comments = 0;
+
+        // 1. 게시글 (+ 게시글에 달린 댓글) 아카이빙
+        for (int i = 0; i < maxBatches; i++) {
+            int archived = archiveService.archivePosts(cutoffDate, batchSize);
+            posts += archived;
+            if (archived < batchSize) {
+                break;
+            }
+        }
+
+        // 2. 삭제된 댓글 아카이빙
+        for (int i = 0; i < maxBatches; i++) {
+            int archived = archiveService.archiveDeletedComments(batchSize);
+            comments += archived;
+            if (archived < batchSize) {
+                break;
+            }
+        }
+
+        if (posts > 0 || comments > 0) {
+            log.info("Archive ===> posts : " + posts + ", comments : " + comments);
+        }
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.study.domain.archive;
+
+import com.study.domain.changelog.ChangeEntity;
+import com.study.domain.changelog.ChangeLogWriter;
+import com.study.domain.changelog.ChangeOperation;
+import com.study.domain.post.PostSearchCache;
+import com.study.domain.post.TitleAutocomplete;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
+
+import javax.transaction.Transactional;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ArchiveService {
+
+    private final ArchiveMapper archiveMapper;
+    private final PostSearchCache postSearchCache;
+    private final ChangeLogWriter changeLogWriter;
+    private final TitleAutocomplete titleAutocomplete;
+
+    /**
+     * 게시글 아카이빙 (1 batch)
+     * 게시글과 해당 게시글의 댓글을 아카이브 테이블로 옮긴다.
+     * 댓글은 잠금 조회한 번호로 복사/삭제하므로, 복사되지 않은 댓글이 삭제되지 않는다.
+     * 파일 정보는 운영 테이블에 남기며 (아카이브된 게시글에서 계속 다운로드), 삭제된 게시글의 파일만 삭제 처리한다. (FileReaper가 정리)
+     * @param cutoffDate - 기준일시 (이전에 생성된 게시글이 대상)
+     * @param batchSize - 배치 크기
+     * @return 아카이브된 게시글 수
+     */
+    @Transactional
+    public int archivePosts(final LocalDateTime cutoffDate, final int batchSize) {
+        List<Long> ids = archiveMapper.findArchivablePostIds(cutoffDate, batchSize);
+        if (CollectionUtils.isEmpty(ids)) {
+            return 0;
+        }
+        List<Long> commentIds = archiveMapper.findCommentIdsByPostIds(ids);
+        archiveMapper.copyPostsToArchive(ids);
+        if (commentIds.isEmpty() == false) {
+            archiveMapper.copyCommentsToArchive(commentIds);
+            archiveMapper.deleteCommentsByIds(commentIds);
+        }
+        archiveMapper.deleteFilesOfDeletedPosts(ids);
+        archiveMapper.deletePostsByIds(ids);
+        changeLogWriter.appendAll(ChangeEntity.POST, ids, ChangeOperation.DELETE);
+        postSearchCache.invalidate();
+        ids.forEach(titleAutocomplete::remove);
+        return ids.size();
+    }
+
+    /**
+     * 삭제된 댓글 아카이빙 (1 batch)
+     * @param batchSize - 배치 크기
+     * @return 아카이브된 댓글 수
+     */
+    @Transactional
+    public int archiveDeletedComments(final int batchSize) {
+        List<Long> ids = archiveMapper.findArchivableCommentIds(batchSize);
+        if (CollectionUtils.isEmpty(ids)) {
+            return 0;
+        }
+        archiveMapper.copyCommentsToArchive(ids);
+        archiveMapper.deleteCommentsByIds(ids);
+        return ids.size();
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.study.domain.bulk;
+
+import com.study.common.export.ExportFormat;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+
+@RestController
+@RequiredArgsConstructor
+public class BulkImportApiController {
+
+    private final BulkImportService bulkImportService;
+
+    // 가져오기 시작 (업로드 파일 또는 서버 로컬 파일 경로)
+    @PostMapping("/imports")
+    public ResponseEntity<ImportJobResponse> startImport(@RequestParam(required = false) final MultipartFile file,
+                                                         @RequestParam(required = false) final String path,
+                                                         @RequestParam(defaultValue = "NDJSON") final ExportFormat format) throws IOException {
+        Long id;
+        if (file != null && file.isEmpty() == false) {
+            id = bulkImportService.startImport(file, format);
+        } else if (path != null) {
+            id = bulkImportService.startImport(path, format);
+        } else {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.accepted().body(bulkImportService.findImportJobById(id));
+    }
+
+    // 가져오기 재개
+    @PostMapping("/imports/{id}/resume")
+    public ResponseEntity<ImportJobResponse> resumeImport(@PathVariable final Long id) {
+        bulkImportService.resumeImport(id);
+        return ResponseEntity.accepted().body(bulkImportService.findImportJobById(id));
+    }
+
+    // 가져오기 작업 상세정보 조회 (진행 현황 포함)
+    @GetMapping("/imports/{id}")
+    public ResponseEntity<ImportJobResponse> findImportJobById(@PathVariable final Long id) {
+        ImportJobResponse job = bulkImportService.findImportJobById(id);
+        return (job == null) ? ResponseEntity.notFound().build() : ResponseEntity.ok(job);
+    }
+
+}
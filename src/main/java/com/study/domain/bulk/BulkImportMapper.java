@@ -0,0 +1,58 @@
+package com.study.domain.bulk;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface BulkImportMapper {
+
+    /**
+     * 게시글 저장 (생성된 PK는 레코드에 저장)
+     * multi-row insert는 드라이버가 첫 번째 PK만 돌려주므로, 게시글은 한 건씩 저장한다.
+     * @param post - 게시글
+     */
+    void savePost(ImportRecord post);
+
+    /**
+     * 댓글 일괄 저장 (multi-row insert)
+     * @param comments - 댓글 리스트
+     */
+    void saveAllComments(List<ImportComment> comments);
+
+    /**
+     * 가져온 댓글의 스레드 경로 저장
+     * @param postIds - 게시글 번호 리스트
+     */
+    void updateCommentThreadPaths(List<Long> postIds);
+
+    /**
+     * 가져오기 작업 저장
+     * @param params - 작업 정보
+     */
+    void saveJob(ImportJobRequest params);
+
+    /**
+     * 가져오기 작업 상세정보 조회
+     * @param id - PK
+     * @return 작업 상세정보
+     */
+    ImportJobResponse findJobById(Long id);
+
+    /**
+     * 체크포인트 저장
+     * @param id - PK
+     * @param committedRecords - 반영 완료된 레코드 수
+     */
+    void updateCheckpoint(@Param("id") Long id, @Param("committedRecords") long committedRecords);
+
+    /**
+     * 작업 상태 수정
+     * @param id - PK
+     * @param status - 상태
+     * @param message - 오류 메시지
+     */
+    void updateStatus(@Param("id") Long id, @Param("status") ImportStatus status, @Param("message") String message);
+
+}
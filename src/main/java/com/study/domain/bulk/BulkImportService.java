@@ -0,0 +1,268 @@
+package com.study.domain.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.common.export.ExportFormat;
+import com.study.interceptor.LoggerInterceptor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.annotation.PreDestroy;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 게시글/댓글/첨부파일 대량 가져오기
+ * 읽기 스레드가 레코드를 배치로 묶어 크기가 제한된 큐에 넣고, 작업 스레드가 큐에서 꺼내 배치 단위로 저장한다.
+ * 큐가 가득 차면 읽기 스레드가 대기하므로(backpressure) 메모리 사용량은 (배치 크기 x 큐 크기)로 제한된다.
+ * 배치마다 반영 완료된 레코드 수를 체크포인트로 저장하므로, 중단된 작업은 체크포인트 이후부터 재개할 수 있다.
+ */
+@Slf4j
+@Service
+public class BulkImportService {
+
+    private static final List<ImportRecord> END_OF_INPUT = Collections.emptyList();
+
+    private final BulkImportMapper bulkImportMapper;
+    private final BulkImportWriter bulkImportWriter;
+    private final ObjectMapper objectMapper;
+    private final ImportRoot importRoot;
+    private final ExecutorService jobExecutor;       // 작업(저장) 스레드
+    private final ExecutorService readerExecutor;    // 읽기 스레드 (작업당 1개)
+    private final Map<Long, ImportProgress> running = new ConcurrentHashMap<>();
+
+    @Value("${board.import.upload-path:upload-imports}")
+    private String uploadPath;
+
+    @Value("${board.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${board.import.max-batch-comments:5000}")
+    private int maxBatchComments;
+
+    @Value("${board.import.queue-capacity:4}")
+    private int queueCapacity;
+
+    public BulkImportService(final BulkImportMapper bulkImportMapper, final BulkImportWriter bulkImportWriter, final ObjectMapper objectMapper,
+                             final ImportRoot importRoot, @Value("${board.import.max-jobs:2}") final int maxJobs) {
+        this.bulkImportMapper = bulkImportMapper;
+        this.bulkImportWriter = bulkImportWriter;
+        this.objectMapper = objectMapper;
+        this.importRoot = importRoot;
+        this.jobExecutor = Executors.newFixedThreadPool(maxJobs, runnable -> newThread(runnable, "bulk-import"));
+        this.readerExecutor = Executors.newFixedThreadPool(maxJobs, runnable -> newThread(runnable, "bulk-import-reader"));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+        readerExecutor.shutdownNow();
+    }
+
+    private static Thread newThread(final Runnable runnable, final String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * 가져오기 시작 (로컬 파일, 가져오기 최상위 경로 하위만 허용)
+     * @param path - 입력 파일 경로
+     * @param format - 입력 형식
+     * @return 작업 번호
+     */
+    public Long startImport(final String path, final ExportFormat format) {
+        return startJob(importRoot.resolve(path).toString(), format);
+    }
+
+    // 작업 등록 및 시작
+    private Long startJob(final String source, final ExportFormat format) {
+        if (Files.isReadable(Paths.get(source)) == false) {
+            throw new IllegalArgumentException("file not found : " + source);
+        }
+        ImportJobRequest params = new ImportJobRequest(source, format.name());
+        bulkImportMapper.saveJob(params);
+        submit(params.getId(), source, format, 0L);
+        return params.getId();
+    }
+
+    /**
+     * 가져오기 시작 (업로드 파일)
+     * 재개할 수 있도록 업로드 파일을 가져오기 경로에 저장한 후 시작한다.
+     * @param multipartFile - 입력 파일
+     * @param format - 입력 형식
+     * @return 작업 번호
+     */
+    public Long startImport(final MultipartFile multipartFile, final ExportFormat format) throws IOException {
+        Path directory = Files.createDirectories(Paths.get(uploadPath));
+        Path source = Files.createTempFile(directory, "import-", "." + format.getExtension());
+        multipartFile.transferTo(source);
+        return startJob(source.toAbsolutePath().toString(), format);
+    }
+
+    /**
+     * 가져오기 재개 (체크포인트 이후부터)
+     * @param id - 작업 번호
+     * @return 작업 번호
+     */
+    public Long resumeImport(final Long id) {
+        ImportJobResponse job = bulkImportMapper.findJobById(id);
+        if (job == null) {
+            throw new IllegalArgumentException("import job not found : " + id);
+        }
+        if (job.getStatus() == ImportStatus.COMPLETED || running.containsKey(id)) {
+            return id;
+        }
+        bulkImportMapper.updateStatus(id, ImportStatus.RUNNING, null);
+        submit(id, job.getSource(), ExportFormat.valueOf(job.getFormat()), job.getCommittedRecords());
+        return id;
+    }
+
+    /**
+     * 가져오기 작업 상세정보 조회
+     * @param id - 작업 번호
+     * @return 작업 상세정보 (실행 중인 경우 진행 현황 포함)
+     */
+    public ImportJobResponse findImportJobById(final Long id) {
+        ImportJobResponse job = bulkImportMapper.findJobById(id);
+        if (job != null) {
+            job.setProgress(running.get(id));
+        }
+        return job;
+    }
+
+    // 작업 실행 등록
+    private void submit(final Long id, final String source, final ExportFormat format, final long checkpoint) {
+        ImportProgress progress = new ImportProgress();
+        running.put(id, progress);
+        jobExecutor.execute(() -> {
+            MDC.put(LoggerInterceptor.CORRELATION_ID, "import-" + id);
+            try {
+                run(id, source, format, checkpoint, progress);
+                bulkImportMapper.updateStatus(id, ImportStatus.COMPLETED, null);
+                log.info("BulkImport ===> job " + id + " completed : " + progress.getPosts() + " posts, " + progress.getComments() + " comments, " + progress.getRowsPerSecond() + " rows/s");
+            } catch (Exception e) {
+                log.error("BulkImport ===> job " + id + " failed", e);
+                String message = String.valueOf(e.getMessage());
+                bulkImportMapper.updateStatus(id, ImportStatus.FAILED, message.substring(0, Math.min(1000, message.length())));
+            } finally {
+                running.remove(id);
+                MDC.remove(LoggerInterceptor.CORRELATION_ID);
+            }
+        });
+    }
+
+    /**
+     * 작업 실행
+     * @param id - 작업 번호
+     * @param source - 입력 파일 경로
+     * @param format - 입력 형식
+     * @param checkpoint - 이미 반영된 레코드 수 (건너뛸 레코드 수)
+     * @param progress - 진행 현황
+     */
+    private void run(final Long id, final String source, final ExportFormat format, final long checkpoint, final ImportProgress progress) throws Exception {
+        BlockingQueue<List<ImportRecord>> queue = new ArrayBlockingQueue<>(queueCapacity);
+        AtomicBoolean aborted = new AtomicBoolean();
+        Exception[] readError = new Exception[1];
+
+        // 1. 읽기 스레드 : 레코드를 배치로 묶어 큐에 추가
+        readerExecutor.execute(() -> {
+            try (ImportRecordReader reader = openReader(source, format)) {
+                skip(reader, checkpoint);
+                List<ImportRecord> batch = new ArrayList<>(batchSize);
+                int comments = 0;
+                ImportRecord record;
+                while ((record = reader.next()) != null && aborted.get() == false) {
+                    batch.add(record);
+                    comments += record.getComments().size();
+                    if (batch.size() >= batchSize || comments >= maxBatchComments) {
+                        put(queue, batch, aborted);
+                        progress.addReadRecords(batch.size());
+                        batch = new ArrayList<>(batchSize);
+                        comments = 0;
+                    }
+                }
+                if (batch.isEmpty() == false) {
+                    put(queue, batch, aborted);
+                    progress.addReadRecords(batch.size());
+                }
+            } catch (Exception e) {
+                readError[0] = e;
+            } finally {
+                try {
+                    put(queue, END_OF_INPUT, aborted);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+
+        // 2. 저장 : 큐에서 배치를 꺼내 저장 후 체크포인트 갱신
+        long committed = checkpoint;
+        try {
+            while (true) {
+                List<ImportRecord> batch = queue.take();
+                if (batch == END_OF_INPUT) {
+                    break;
+                }
+                committed += batch.size();
+                bulkImportWriter.write(id, batch, committed, progress);
+            }
+        } catch (Exception e) {
+            aborted.set(true);
+            queue.clear();
+            throw e;
+        }
+
+        if (readError[0] != null) {
+            throw readError[0];
+        }
+    }
+
+    // 큐에 배치 추가 (큐가 가득 찬 경우 대기, 작업이 중단된 경우 포기)
+    private void put(final BlockingQueue<List<ImportRecord>> queue, final List<ImportRecord> batch, final AtomicBoolean aborted) throws InterruptedException {
+        while (aborted.get() == false) {
+            if (queue.offer(batch, 1, TimeUnit.SECONDS)) {
+                return;
+            }
+        }
+    }
+
+    // 체크포인트까지 레코드 건너뛰기
+    private void skip(final ImportRecordReader reader, final long count) throws IOException {
+        for (long i = 0; i < count; i++) {
+            if (reader.next() == null) {
+                return;
+            }
+        }
+    }
+
+    // 입력 형식에 해당하는 Reader 생성
+    private ImportRecordReader openReader(final String source, final ExportFormat format) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(Paths.get(source)), 64 * 1024);
+        if (format == ExportFormat.CSV) {
+            return new CsvImportRecordReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        }
+        return new NdjsonImportRecordReader(objectMapper, in);
+    }
+
+}
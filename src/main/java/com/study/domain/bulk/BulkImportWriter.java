@@ -0,0 +1,109 @@
+package com.study.domain.bulk;
+
+import com.study.common.file.FileUtils;
+import com.study.domain.changelog.ChangeEntity;
+import com.study.domain.changelog.ChangeLogWriter;
+import com.study.domain.changelog.ChangeOperation;
+import com.study.domain.file.FileMapper;
+import com.study.domain.file.FileRequest;
+import com.study.domain.post.PostSearchCache;
+import com.study.domain.post.TitleAutocomplete;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.transaction.Transactional;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 가져오기 배치 저장
+ * 배치 단위로 게시글 → 댓글 → 첨부파일 → 체크포인트를 하나의 트랜잭션으로 저장한다.
+ * 트랜잭션이 롤백되면 배치에서 복사한 첨부파일을 디스크에서 삭제한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class BulkImportWriter {
+
+    private final BulkImportMapper bulkImportMapper;
+    private final FileMapper fileMapper;
+    private final FileUtils fileUtils;
+    private final PostSearchCache postSearchCache;
+    private final ChangeLogWriter changeLogWriter;
+    private final TitleAutocomplete titleAutocomplete;
+    private final ImportRoot importRoot;
+
+    /**
+     * 배치 저장
+     * @param jobId - 작업 번호
+     * @param records - 레코드 리스트
+     * @param committedRecords - 배치 저장 후 반영 완료된 레코드 수 (체크포인트)
+     * @param progress - 진행 현황
+     */
+    @Transactional
+    public void write(final Long jobId, final List<ImportRecord> records, final long committedRecords, final ImportProgress progress) {
+
+        // 0. 롤백 시 복사한 첨부파일 삭제 (DB에 등록되지 않은 파일)
+        List<FileRequest> files = new ArrayList<>();
+        LocalDate importDate = LocalDate.now();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    fileUtils.deleteImportedFiles(files, importDate);
+                }
+            }
+        });
+
+        // 1. 게시글 저장 (생성된 PK가 각 레코드에 저장됨)
+        for (ImportRecord record : records) {
+            bulkImportMapper.savePost(record);
+            if (record.getId() == null) {
+                throw new IllegalStateException("generated key not returned : " + record.getTitle());
+            }
+        }
+        changeLogWriter.appendAll(ChangeEntity.POST, records.stream().map(ImportRecord::getId).collect(Collectors.toList()), ChangeOperation.INSERT);
+        postSearchCache.invalidate();
+        records.forEach(record -> titleAutocomplete.put(record.getId(), record.getTitle(), record.getViewCnt()));
+
+        // 2. 게시글 PK 매핑 후 댓글/첨부파일 저장
+        List<ImportComment> comments = new ArrayList<>();
+        for (ImportRecord record : records) {
+            for (ImportComment comment : record.getComments()) {
+                comment.setPostId(record.getId());
+                comments.add(comment);
+            }
+            for (ImportFile importFile : record.getFiles()) {
+                FileRequest file = importFile(importFile, importDate);
+                file.setPostId(record.getId());
+                files.add(file);
+            }
+        }
+        if (comments.isEmpty() == false) {
+            bulkImportMapper.saveAllComments(comments);
+            bulkImportMapper.updateCommentThreadPaths(records.stream().map(ImportRecord::getId).collect(Collectors.toList()));
+        }
+        if (files.isEmpty() == false) {
+            fileMapper.saveAll(files);
+        }
+
+        // 3. 체크포인트 저장
+        bulkImportMapper.updateCheckpoint(jobId, committedRecords);
+        progress.addWritten(records.size(), comments.size(), files.size());
+    }
+
+    // 첨부파일 복사 (to Disk, 가져오기 최상위 경로 하위의 파일만 허용)
+    private FileRequest importFile(final ImportFile file, final LocalDate date) {
+        try {
+            return fileUtils.importFile(importRoot.resolve(file.getPath()), file.getOriginalName(), date);
+        } catch (IOException e) {
+            throw new UncheckedIOException("file import failed : " + file.getPath(), e);
+        }
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.study.domain.bulk;
+
+import com.study.common.export.CsvReader;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * CSV 가져오기 Reader
+ * 헤더 : type,title,content,writer,viewCnt,noticeYn,createdDate
+ * type이 post인 행 다음에 오는 comment 행은 해당 게시글의 댓글로 저장된다. (comment 행은 content, writer, createdDate만 사용)
+ */
+public class CsvImportRecordReader implements ImportRecordReader {
+
+    private final CsvReader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private String[] pending;    // 다음 레코드의 게시글 행
+
+    public CsvImportRecordReader(final Reader in) throws IOException {
+        this.reader = new CsvReader(in);
+        String[] headers = reader.readRow();
+        if (headers == null) {
+            return;
+        }
+        for (int i = 0; i < headers.length; i++) {
+            columns.put(headers[i].trim(), i);
+        }
+        pending = reader.readRow();
+    }
+
+    @Override
+    public ImportRecord next() throws IOException {
+        while (pending != null && "post".equalsIgnoreCase(value(pending, "type")) == false) {
+            pending = reader.readRow();    // 게시글 없이 시작되는 댓글 행은 무시
+        }
+        if (pending == null) {
+            return null;
+        }
+
+        ImportRecord record = new ImportRecord();
+        record.setTitle(value(pending, "title"));
+        record.setContent(value(pending, "content"));
+        record.setWriter(value(pending, "writer"));
+        record.setViewCnt(parseInt(value(pending, "viewCnt")));
+        record.setNoticeYn(Boolean.parseBoolean(value(pending, "noticeYn")) || "1".equals(value(pending, "noticeYn")));
+        record.setCreatedDate(parseDateTime(value(pending, "createdDate")));
+
+        // 다음 게시글 행이 나올 때까지의 댓글 행
+        String[] row;
+        while ((row = reader.readRow()) != null && "comment".equalsIgnoreCase(value(row, "type"))) {
+            ImportComment comment = new ImportComment();
+            comment.setContent(value(row, "content"));
+            comment.setWriter(value(row, "writer"));
+            comment.setCreatedDate(parseDateTime(value(row, "createdDate")));
+            record.getComments().add(comment);
+        }
+        pending = row;
+        return record;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String value(final String[] row, final String column) {
+        Integer index = columns.get(column);
+        return (index == null || index >= row.length || row[index].isEmpty()) ? null : row[index];
+    }
+
+    private int parseInt(final String value) {
+        return (value == null) ? 0 : Integer.parseInt(value.trim());
+    }
+
+    private LocalDateTime parseDateTime(final String value) {
+        return (value == null) ? null : LocalDateTime.parse(value.trim().replace(' ', 'T'));
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.study.domain.bulk;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+public class ImportComment {
+
+    private Long id;                     // 댓글 번호 (PK, 저장 후 생성)
+    private Long postId;                 // 게시글 번호 (FK, 게시글 저장 후 매핑)
+    private String content;              // 내용
+    private String writer;               // 작성자
+    private LocalDateTime createdDate;   // 생성일시 (없는 경우 가져온 시점)
+
+}
@@ -0,0 +1,13 @@
+package com.study.domain.bulk;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ImportFile {
+
+    private String originalName;    // 원본 파일명
+    private String path;            // 가져올 파일의 로컬 경로
+
+}
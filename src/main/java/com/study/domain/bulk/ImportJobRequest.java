@@ -0,0 +1,17 @@
+package com.study.domain.bulk;
+
+import lombok.Getter;
+
+@Getter
+public class ImportJobRequest {
+
+    private Long id;          // 작업 번호 (PK)
+    private String source;    // 입력 파일 경로
+    private String format;    // 입력 형식
+
+    public ImportJobRequest(String source, String format) {
+        this.source = source;
+        this.format = format;
+    }
+
+}
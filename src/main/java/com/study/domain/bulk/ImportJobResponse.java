@@ -0,0 +1,24 @@
+package com.study.domain.bulk;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class ImportJobResponse {
+
+    private Long id;                       // 작업 번호 (PK)
+    private String source;                 // 입력 파일 경로
+    private String format;                 // 입력 형식
+    private ImportStatus status;           // 상태
+    private long committedRecords;         // 반영 완료된 레코드 수 (체크포인트)
+    private String message;                // 오류 메시지
+    private LocalDateTime createdDate;     // 생성일시
+    private LocalDateTime modifiedDate;    // 최종 수정일시
+    private ImportProgress progress;       // 진행 현황 (실행 중인 경우)
+
+    public void setProgress(ImportProgress progress) {
+        this.progress = progress;
+    }
+
+}
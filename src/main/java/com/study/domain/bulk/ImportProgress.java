@@ -0,0 +1,52 @@
+package com.study.domain.bulk;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가져오기 진행 현황 (실행 중인 작업별로 메모리에 유지)
+ */
+public class ImportProgress {
+
+    private final long startedAt = System.nanoTime();
+    private final AtomicLong readRecords = new AtomicLong();    // 읽은 레코드 수
+    private final AtomicLong posts = new AtomicLong();          // 저장된 게시글 수
+    private final AtomicLong comments = new AtomicLong();       // 저장된 댓글 수
+    private final AtomicLong files = new AtomicLong();          // 저장된 첨부파일 수
+
+    public void addReadRecords(long count) {
+        readRecords.addAndGet(count);
+    }
+
+    public void addWritten(long posts, long comments, long files) {
+        this.posts.addAndGet(posts);
+        this.comments.addAndGet(comments);
+        this.files.addAndGet(files);
+    }
+
+    public long getReadRecords() {
+        return readRecords.get();
+    }
+
+    public long getPosts() {
+        return posts.get();
+    }
+
+    public long getComments() {
+        return comments.get();
+    }
+
+    public long getFiles() {
+        return files.get();
+    }
+
+    public long getElapsedMillis() {
+        return (System.nanoTime() - startedAt) / 1_000_000L;
+    }
+
+    // 초당 저장 행 수 (게시글 + 댓글 + 첨부파일)
+    public long getRowsPerSecond() {
+        long elapsed = Math.max(1L, getElapsedMillis());
+        return (getPosts() + getComments() + getFiles()) * 1000L / elapsed;
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.study.domain.bulk;
+
+import com.study.domain.post.PostRequest;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 가져오기 레코드 (게시글 1건 + 댓글 + 첨부파일)
+ */
+@Getter
+@Setter
+public class ImportRecord {
+
+    private Long id;                                         // PK (저장 후 생성)
+    private String title;                                    // 제목
+    private String content;                                  // 내용
+    private String writer;                                   // 작성자
+    private int viewCnt;                                     // 조회 수
+    private Boolean noticeYn = false;                        // 공지글 여부
+    private LocalDateTime createdDate;                       // 생성일시 (없는 경우 가져온 시점)
+    private List<ImportComment> comments = new ArrayList<>();    // 댓글 List
+    private List<ImportFile> files = new ArrayList<>();          // 첨부파일 List
+
+    // 내용 요약 (리스트 조회 용도로 저장)
+    public String getExcerpt() {
+        return PostRequest.excerptOf(content);
+    }
+
+}
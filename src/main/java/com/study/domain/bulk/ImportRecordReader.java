@@ -0,0 +1,17 @@
+package com.study.domain.bulk;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 가져오기 레코드 Reader
+ */
+public interface ImportRecordReader extends Closeable {
+
+    /**
+     * 레코드 1건 읽기
+     * @return 레코드, 더 이상 읽을 레코드가 없는 경우 null
+     */
+    ImportRecord next() throws IOException;
+
+}
@@ -0,0 +1,48 @@
+package com.study.domain.bulk;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * 가져오기 경로 (서버 로컬 파일)
+ * 가져오기 요청의 입력 파일 경로와 입력 파일의 첨부파일 경로는 가져오기 최상위 경로 하위만 허용한다.
+ * 상대 경로는 최상위 경로 기준으로 해석하며, 심볼릭 링크로 최상위 경로를 벗어나는 경우도 거부한다.
+ */
+@Component
+public class ImportRoot {
+
+    private final Path root;
+
+    public ImportRoot(@Value("${board.import.root:import-files}") final String root) {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+    }
+
+    /**
+     * 가져오기 경로 확인
+     * @param path - 파일 경로 (최상위 경로 기준 상대 경로 또는 절대 경로)
+     * @return 정규화된 파일 경로
+     */
+    public Path resolve(final String path) {
+        if (path == null || path.isEmpty()) {
+            throw new IllegalArgumentException("import path is empty");
+        }
+        Path normalized = root.resolve(path).normalize();
+        if (normalized.startsWith(root) == false) {
+            throw new IllegalArgumentException("import path is outside of import root : " + path);
+        }
+        try {
+            if (Files.exists(normalized) && normalized.toRealPath().startsWith(root.toRealPath()) == false) {
+                throw new IllegalArgumentException("import path is outside of import root : " + path);
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("import path is not accessible : " + path, e);
+        }
+        return normalized;
+    }
+
+}
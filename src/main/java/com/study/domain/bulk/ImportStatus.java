@@ -0,0 +1,7 @@
+package com.study.domain.bulk;
+
+public enum ImportStatus {
+
+    RUNNING, COMPLETED, FAILED
+
+}
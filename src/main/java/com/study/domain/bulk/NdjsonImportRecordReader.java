@@ -0,0 +1,30 @@
+package com.study.domain.bulk;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * NDJSON 가져오기 Reader (1줄 = 게시글 1건, 댓글/첨부파일은 comments/files 배열로 포함)
+ */
+public class NdjsonImportRecordReader implements ImportRecordReader {
+
+    private final MappingIterator<ImportRecord> iterator;
+
+    public NdjsonImportRecordReader(final ObjectMapper objectMapper, final InputStream in) throws IOException {
+        this.iterator = objectMapper.readerFor(ImportRecord.class).readValues(in);
+    }
+
+    @Override
+    public ImportRecord next() throws IOException {
+        return iterator.hasNextValue() ? iterator.nextValue() : null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        iterator.close();
+    }
+
+}
@@ -0,0 +1,10 @@
+package com.study.domain.changelog;
+
+public enum ChangeEntity {
+
+    POST,          // 게시글 (게시글 번호)
+    COMMENT,       // 댓글 (댓글 번호)
+    FILE,          // 첨부파일 (파일 번호)
+    POST_FILES     // 게시글의 첨부파일 리스트 (게시글 번호)
+
+}
@@ -0,0 +1,21 @@
+package com.study.domain.changelog;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+public class ChangeLogApiController {
+
+    private final ChangeLogPoller changeLogPoller;
+
+    // 변경 로그 조회 현황 (노드별 지연 지표)
+    @GetMapping("/change-log")
+    public Map<String, Object> findChangeLogStatus() {
+        return changeLogPoller.getStatus();
+    }
+
+}
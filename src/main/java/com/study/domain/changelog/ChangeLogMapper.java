@@ -0,0 +1,87 @@
+package com.study.domain.changelog;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface ChangeLogMapper {
+
+    /**
+     * 변경 로그 저장
+     * @param entity - 대상
+     * @param entityId - 대상 번호
+     * @param operation - 작업
+     * @param nodeId - 노드
+     */
+    void save(@Param("entity") ChangeEntity entity, @Param("entityId") Long entityId, @Param("operation") ChangeOperation operation, @Param("nodeId") String nodeId);
+
+    /**
+     * 변경 로그 일괄 저장 (multi-row insert)
+     * @param entity - 대상
+     * @param entityIds - 대상 번호 리스트
+     * @param operation - 작업
+     * @param nodeId - 노드
+     */
+    void saveAll(@Param("entity") ChangeEntity entity, @Param("entityIds") List<Long> entityIds, @Param("operation") ChangeOperation operation, @Param("nodeId") String nodeId);
+
+    /**
+     * 변경 로그 리스트 조회 (위치 이후)
+     * @param position - 조회 위치 (이후의 로그 조회)
+     * @param limit - 최대 조회 수
+     * @return 변경 로그 리스트 (번호 오름차순)
+     */
+    List<ChangeLogResponse> findAllAfter(@Param("position") long position, @Param("limit") int limit);
+
+    /**
+     * 변경 로그 리스트 조회 (PK 리스트)
+     * @param ids - PK 리스트
+     * @return 변경 로그 리스트 (번호 오름차순)
+     */
+    List<ChangeLogResponse> findAllByIds(List<Long> ids);
+
+    /**
+     * 마지막 로그 번호 조회
+     * @return 마지막 로그 번호 (없는 경우 0)
+     */
+    long findMaxId();
+
+    /**
+     * 노드의 조회 위치 조회
+     * @param nodeId - 노드
+     * @return 조회 위치 (없는 경우 null)
+     */
+    Long findPositionByNodeId(String nodeId);
+
+    /**
+     * 노드의 조회 위치 저장 (없는 경우 추가)
+     * @param nodeId - 노드
+     * @param position - 조회 위치
+     */
+    void savePosition(@Param("nodeId") String nodeId, @Param("position") long position);
+
+    /**
+     * 모든 노드가 반영 완료한 위치 조회
+     * @return 노드별 조회 위치 중 최솟값 (노드가 없는 경우 null)
+     */
+    Long findMinPosition();
+
+    /**
+     * 오랫동안 갱신되지 않은 노드의 조회 위치 삭제
+     * @param cutoffDate - 기준일시 (이전에 갱신된 노드가 대상)
+     * @return 삭제된 노드 수
+     */
+    int deleteStaleCursors(LocalDateTime cutoffDate);
+
+    /**
+     * 변경 로그 삭제 (1 batch)
+     * @param position - 기준 위치 (이하의 로그가 대상)
+     * @param cutoffDate - 기준일시 (이전에 생성된 로그가 대상)
+     * @param limit - 배치 크기
+     * @return 삭제된 로그 수
+     */
+    int deleteAllBefore(@Param("position") long position, @Param("cutoffDate") LocalDateTime cutoffDate, @Param("limit") int limit);
+
+}
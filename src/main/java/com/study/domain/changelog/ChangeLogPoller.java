@@ -0,0 +1,242 @@
+package com.study.domain.changelog;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 변경 로그 조회 (노드별)
+ * 마지막 조회 위치(high-water mark) 이후의 로그를 배치 단위로 조회하여, 다른 노드에서 발생한 변경만 구독자에게 전달한다.
+ * (자신의 노드에서 발생한 변경은 서비스에서 이미 반영되었으므로 제외)
+ *
+ * 로그 번호는 INSERT 시점에 발급되지만 커밋 순서는 다를 수 있으므로, 조회 중 건너뛴 번호는 빈 번호(gap)로 기록해 두고
+ * 나타날 때까지 다시 조회한다. 롤백된 트랜잭션의 번호는 다시 나타나지 않으므로 gap-timeout이 지나면 포기한다.
+ * 저장하는 위치는 가장 오래된 빈 번호의 바로 앞이므로, 재시작 시 반영되지 않은 변경을 건너뛰지 않는다.
+ *
+ * 모든 노드가 반영 완료한 위치 이전의 로그 중 보관 기간이 지난 로그는 주기적으로 삭제(compaction)한다.
+ */
+@Slf4j
+@Component
+public class ChangeLogPoller {
+
+    private final ChangeLogMapper changeLogMapper;
+    private final ChangeLogWriter changeLogWriter;
+    private final List<ChangeLogSubscriber> subscribers;
+
+    private final NavigableMap<Long, Long> gaps = new ConcurrentSkipListMap<>();    // 빈 번호 : 최초 발견 시각
+    private volatile long position;                    // 마지막으로 조회한 로그 번호
+    private volatile long savedPosition = -1;          // 마지막으로 저장한 위치
+    private volatile long savedAt;                     // 마지막으로 위치를 저장한 시각
+    private volatile long lastPolledAt;                // 마지막 조회 시각
+    private volatile long lastLagMs;                   // 마지막으로 반영한 변경의 지연 시간 (생성 → 반영)
+    private final AtomicLong maxLagMs = new AtomicLong();
+    private final AtomicLong applied = new AtomicLong();        // 누적 반영 수 (다른 노드의 변경)
+    private final AtomicLong compacted = new AtomicLong();      // 누적 삭제 수
+
+    @Value("${board.change-log.batch-size:500}")
+    private int batchSize;
+
+    @Value("${board.change-log.max-batches-per-poll:20}")
+    private int maxBatchesPerPoll;
+
+    @Value("${board.change-log.gap-timeout-ms:60000}")
+    private long gapTimeoutMs;
+
+    @Value("${board.change-log.max-gaps:1000}")
+    private int maxGaps;
+
+    @Value("${board.change-log.heartbeat-ms:30000}")
+    private long heartbeatMs;
+
+    @Value("${board.change-log.retention-minutes:1440}")
+    private long retentionMinutes;
+
+    @Value("${board.change-log.stale-node-minutes:10}")
+    private long staleNodeMinutes;
+
+    public ChangeLogPoller(final ChangeLogMapper changeLogMapper, final ChangeLogWriter changeLogWriter, final List<ChangeLogSubscriber> subscribers) {
+        this.changeLogMapper = changeLogMapper;
+        this.changeLogWriter = changeLogWriter;
+        this.subscribers = subscribers;
+    }
+
+    /**
+     * 조회 위치 초기화
+     * 저장된 위치가 있으면 이어서 조회하고, 없으면 (in-memory 상태는 시작 시 DB에서 로딩하므로) 마지막 로그부터 조회한다.
+     */
+    @PostConstruct
+    public void init() {
+        if (changeLogWriter.isEnabled() == false) {
+            return;
+        }
+        Long stored = changeLogMapper.findPositionByNodeId(changeLogWriter.getNodeId());
+        position = (stored != null) ? stored : changeLogMapper.findMaxId();
+        savePosition(true);
+        log.info("ChangeLogPoller ===> node " + changeLogWriter.getNodeId() + " starts after " + position + ", subscribers : " + subscribers.size());
+    }
+
+    /**
+     * 변경 로그 조회 및 전달
+     */
+    @Scheduled(fixedDelayString = "${board.change-log.poll-interval-ms:1000}")
+    public void poll() {
+        if (changeLogWriter.isEnabled() == false) {
+            return;
+        }
+
+        // 1. 빈 번호 재조회 (늦게 커밋된 로그)
+        List<ChangeLogResponse> changes = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        if (gaps.isEmpty() == false) {
+            for (ChangeLogResponse change : changeLogMapper.findAllByIds(new ArrayList<>(gaps.keySet()))) {
+                gaps.remove(change.getId());
+                changes.add(change);
+            }
+            gaps.values().removeIf(firstSeenAt -> now - firstSeenAt > gapTimeoutMs);
+        }
+
+        // 2. 마지막 위치 이후 조회 (가득 찬 배치인 경우 이어서 조회)
+        for (int i = 0; i < maxBatchesPerPoll; i++) {
+            List<ChangeLogResponse> batch = changeLogMapper.findAllAfter(position, batchSize);
+            for (ChangeLogResponse change : batch) {
+                for (long id = Math.max(position + 1, change.getId() - maxGaps); id < change.getId(); id++) {
+                    gaps.put(id, now);
+                }
+                position = change.getId();
+            }
+            changes.addAll(batch);
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+        while (gaps.size() > maxGaps) {
+            gaps.pollFirstEntry();
+        }
+
+        dispatch(changes);
+        savePosition(false);
+        lastPolledAt = now;
+    }
+
+    /**
+     * 다른 노드의 변경만 구독자에게 전달 (같은 대상은 최근 변경만 전달)
+     * @param changes - 변경 로그 리스트
+     */
+    private void dispatch(final List<ChangeLogResponse> changes) {
+        Map<String, ChangeLogResponse> latest = new LinkedHashMap<>();
+        for (ChangeLogResponse change : changes) {
+            if (changeLogWriter.getNodeId().equals(change.getNodeId())) {
+                continue;
+            }
+            String key = change.getEntity() + ":" + change.getEntityId();
+            ChangeLogResponse previous = latest.get(key);
+            if (previous == null || previous.getId() < change.getId()) {
+                latest.remove(key);
+                latest.put(key, change);
+            }
+        }
+        if (latest.isEmpty()) {
+            return;
+        }
+
+        List<ChangeLogResponse> remote = new ArrayList<>(latest.values());
+        remote.sort((a, b) -> Long.compare(a.getId(), b.getId()));
+        for (ChangeLogSubscriber subscriber : subscribers) {
+            try {
+                subscriber.onChanges(remote);
+            } catch (Exception e) {
+                log.error("ChangeLogPoller ===> subscriber " + subscriber.getClass().getSimpleName() + " failed", e);
+            }
+        }
+
+        long now = System.currentTimeMillis();
+        for (ChangeLogResponse change : remote) {
+            lastLagMs = Math.max(0, now - change.getCreatedDate().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+            maxLagMs.accumulateAndGet(lastLagMs, Math::max);
+        }
+        applied.addAndGet(remote.size());
+    }
+
+    /**
+     * 조회 위치 저장 (위치가 바뀐 경우, 또는 heartbeat 주기마다)
+     * 저장 위치는 가장 오래된 빈 번호의 바로 앞으로 제한한다.
+     * @param force - 강제 저장 여부
+     */
+    private void savePosition(final boolean force) {
+        long safePosition = gaps.isEmpty() ? position : Math.min(position, gaps.firstKey() - 1);
+        long now = System.currentTimeMillis();
+        if (force || safePosition != savedPosition || now - savedAt >= heartbeatMs) {
+            changeLogMapper.savePosition(changeLogWriter.getNodeId(), safePosition);
+            savedPosition = safePosition;
+            savedAt = now;
+        }
+    }
+
+    /**
+     * 변경 로그 정리 (compaction)
+     * 더 이상 동작하지 않는 노드(heartbeat 없이 stale-node-minutes가 지난 노드)의 위치를 삭제한 후,
+     * 모든 노드가 반영 완료한 로그 중 보관 기간이 지난 로그를 삭제한다.
+     * 삭제된 노드가 다시 시작하면 마지막 로그부터 조회하므로 (in-memory 상태는 시작 시 DB에서 로딩), 위치를 오래 보관할 필요가 없다.
+     */
+    @Scheduled(fixedDelayString = "${board.change-log.compact-interval-ms:600000}")
+    public void compact() {
+        if (changeLogWriter.isEnabled() == false) {
+            return;
+        }
+
+        int staleNodes = changeLogMapper.deleteStaleCursors(LocalDateTime.now().minusMinutes(staleNodeMinutes));
+        LocalDateTime cutoffDate = LocalDateTime.now().minusMinutes(retentionMinutes);
+        Long minPosition = changeLogMapper.findMinPosition();
+        if (minPosition == null) {
+            return;
+        }
+
+        long total = 0;
+        int deleted;
+        do {
+            deleted = changeLogMapper.deleteAllBefore(minPosition, cutoffDate, batchSize);
+            total += deleted;
+        } while (deleted == batchSize);
+        compacted.addAndGet(total);
+
+        if (total > 0 || staleNodes > 0) {
+            log.info("ChangeLogPoller ===> compacted " + total + " logs up to " + minPosition + ", removed " + staleNodes + " stale nodes");
+        }
+    }
+
+    /**
+     * 조회 현황 (지연 지표)
+     * @return 노드, 조회 위치, 미반영 로그 수, 빈 번호 수, 반영 수, 지연 시간 등
+     */
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        long latestId = changeLogWriter.isEnabled() ? changeLogMapper.findMaxId() : 0;
+        status.put("nodeId", changeLogWriter.getNodeId());
+        status.put("enabled", changeLogWriter.isEnabled());
+        status.put("position", position);
+        status.put("savedPosition", savedPosition);
+        status.put("latestId", latestId);
+        status.put("pending", Math.max(0, latestId - position));
+        status.put("gaps", gaps.size());
+        status.put("applied", applied.get());
+        status.put("compacted", compacted.get());
+        status.put("lastLagMs", lastLagMs);
+        status.put("maxLagMs", maxLagMs.get());
+        status.put("sincePolledMs", (lastPolledAt == 0) ? -1 : System.currentTimeMillis() - lastPolledAt);
+        status.put("subscribers", subscribers.size());
+        return status;
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.study.domain.changelog;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class ChangeLogResponse {
+
+    private Long id;                      // 로그 번호 (PK, 변경 버전)
+    private ChangeEntity entity;          // 대상
+    private Long entityId;                // 대상 번호
+    private ChangeOperation operation;    // 작업
+    private String nodeId;                // 변경이 발생한 노드
+    private LocalDateTime createdDate;    // 생성일시
+
+}
@@ -0,0 +1,18 @@
+package com.study.domain.changelog;
+
+import java.util.List;
+
+/**
+ * 변경 로그 구독자 (캐시, 검색 색인, 카운터 등)
+ * 빈으로 등록하면 ChangeLogPoller가 다른 노드에서 발생한 변경 내역을 전달한다.
+ */
+public interface ChangeLogSubscriber {
+
+    /**
+     * 변경 내역 반영
+     * 같은 대상의 변경은 가장 최근 변경만 전달되며, 같은 변경이 다시 전달될 수 있으므로 멱등하게 처리해야 한다.
+     * @param changes - 변경 내역 (로그 번호 오름차순)
+     */
+    void onChanges(List<ChangeLogResponse> changes);
+
+}
@@ -0,0 +1,83 @@
+package com.study.domain.changelog;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+
+import javax.transaction.Transactional;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+
+/**
+ * 변경 로그 기록
+ * 변경과 로그가 함께 반영(또는 롤백)되도록, 호출하는 서비스의 트랜잭션 안에서만 기록할 수 있다. (MANDATORY)
+ *
+ * 노드 ID는 조회 위치(cursor)의 키이므로 재시작해도 바뀌지 않아야 한다.
+ * 설정(board.change-log.node-id)이 없으면 호스트명:포트를 사용한다. (프로세스 ID는 재시작마다 바뀌어 이전 위치를 잃고, 정리될 때까지 compaction을 막음)
+ */
+@Component
+public class ChangeLogWriter {
+
+    private final ChangeLogMapper changeLogMapper;
+    private final boolean enabled;
+    private final String nodeId;
+
+    public ChangeLogWriter(final ChangeLogMapper changeLogMapper,
+                           @Value("${board.change-log.enabled:true}") final boolean enabled,
+                           @Value("${board.change-log.node-id:}") final String nodeId,
+                           @Value("${server.port:8080}") final int port) {
+        this.changeLogMapper = changeLogMapper;
+        this.enabled = enabled;
+        this.nodeId = StringUtils.hasText(nodeId) ? nodeId : getHostName() + ":" + port;
+    }
+
+    // 호스트명 조회 (조회할 수 없는 경우 HOSTNAME 환경 변수)
+    private static String getHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            String hostName = System.getenv("HOSTNAME");
+            if (StringUtils.hasText(hostName) == false) {
+                throw new IllegalStateException("board.change-log.node-id is required (host name not available)", e);
+            }
+            return hostName;
+        }
+    }
+
+    /**
+     * 변경 로그 기록
+     * @param entity - 대상
+     * @param entityId - 대상 번호
+     * @param operation - 작업
+     */
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void append(final ChangeEntity entity, final Long entityId, final ChangeOperation operation) {
+        if (enabled && entityId != null) {
+            changeLogMapper.save(entity, entityId, operation, nodeId);
+        }
+    }
+
+    /**
+     * 변경 로그 일괄 기록
+     * @param entity - 대상
+     * @param entityIds - 대상 번호 리스트
+     * @param operation - 작업
+     */
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void appendAll(final ChangeEntity entity, final List<Long> entityIds, final ChangeOperation operation) {
+        if (enabled && CollectionUtils.isEmpty(entityIds) == false) {
+            changeLogMapper.saveAll(entity, entityIds, operation, nodeId);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+}
@@ -0,0 +1,7 @@
+package com.study.domain.changelog;
+
+public enum ChangeOperation {
+
+    INSERT, UPDATE, DELETE
+
+}
@@ -10,6 +10,8 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 public class CommentApiController {
@@ -31,6 +33,13 @@ public class CommentApiController {
     }
 
 
+    // 댓글 스레드 전체 조회 (답글 트리 포함)
+    @GetMapping("/posts/{postId}/comments/thread")
+    public List<CommentResponse> findAllThread(@PathVariable final Long postId) {
+        return commentService.findAllThread(postId);
+    }
+
+
     // 댓글 상세정보 조회
     @GetMapping("/posts/{postId}/comments/{id}")
     public CommentResponse findCommentById(@PathVariable final Long postId, @PathVariable final Long id) {
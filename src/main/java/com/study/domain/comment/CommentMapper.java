@@ -20,6 +20,31 @@ public interface CommentMapper {
      */
     CommentResponse findById(Long id);
 
+    /**
+     * 댓글 상세정보 조회 (행 잠금, 트랜잭션 안에서 사용)
+     * @param id - PK
+     * @return 댓글 상세정보
+     */
+    CommentResponse findByIdForUpdate(Long id);
+
+    /**
+     * 댓글 스레드 경로 저장
+     * @param params - 댓글 정보
+     */
+    void updateThreadPath(CommentRequest params);
+
+    /**
+     * 답글 수 증가
+     * @param id - PK
+     */
+    void increaseReplyCount(Long id);
+
+    /**
+     * 답글 수 감소
+     * @param id - PK
+     */
+    void decreaseReplyCount(Long id);
+
     /**
      * 댓글 수정
      * @param params - 댓글 정보
@@ -27,23 +52,52 @@ public interface CommentMapper {
     void update(CommentRequest params);
 
     /**
-     * 댓글 삭제
+     * 댓글 삭제 (삭제되지 않은 댓글만)
      * @param id - PK
+     * @return 삭제된 댓글 수 (이미 삭제된 댓글은 0)
      */
-    void deleteById(Long id);
+    int deleteById(Long id);
 
     /**
-     * 댓글 리스트 조회
+     * 댓글 리스트 조회 (루트 댓글 페이지 + 답글 전체)
      * @param params - search conditions
-     * @return 댓글 리스트
+     * @return 댓글 리스트 (루트 댓글 최신순, 스레드 내 경로순)
      */
     List<CommentResponse> findAll(CommentSearchDto params);
 
     /**
-     * 댓글 수 카운팅
+     * 댓글 스레드 전체 조회
+     * @param postId - 게시글 번호 (FK)
+     * @return 댓글 리스트 (루트 댓글 최신순, 스레드 내 경로순)
+     */
+    List<CommentResponse> findAllThread(Long postId);
+
+    /**
+     * 루트 댓글 수 카운팅
      * @param params - search conditions
-     * @return 댓글 수
+     * @return 루트 댓글 수
      */
     int count(CommentSearchDto params);
 
+    /**
+     * 아카이브된 댓글 리스트 조회 (루트 댓글 페이지 + 답글 전체)
+     * @param params - search conditions
+     * @return 댓글 리스트 (루트 댓글 최신순, 스레드 내 경로순)
+     */
+    List<CommentResponse> findAllArchived(CommentSearchDto params);
+
+    /**
+     * 아카이브된 댓글 스레드 전체 조회
+     * @param postId - 게시글 번호 (FK)
+     * @return 댓글 리스트 (루트 댓글 최신순, 스레드 내 경로순)
+     */
+    List<CommentResponse> findAllArchivedThread(Long postId);
+
+    /**
+     * 아카이브된 루트 댓글 수 카운팅
+     * @param params - search conditions
+     * @return 루트 댓글 수
+     */
+    int countArchived(CommentSearchDto params);
+
 }
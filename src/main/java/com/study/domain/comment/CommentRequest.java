@@ -1,5 +1,6 @@
 package com.study.domain.comment;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -10,7 +11,26 @@ public class CommentRequest {
 
     private Long id;           // 댓글 번호 (PK)
     private Long postId;       // 게시글 번호 (FK)
+    private Long parentId;     // 부모 댓글 번호 (답글인 경우)
     private String content;    // 내용
     private String writer;     // 작성자
 
-}
\ No newline at end of file
+    @JsonIgnore
+    private Long rootId;                // 루트 댓글 번호
+    @JsonIgnore
+    private int depth;                  // 깊이
+    @JsonIgnore
+    private String parentPath = "";     // 부모 댓글 경로 ('/' 포함)
+
+    /**
+     * 답글 대상 댓글 지정 (스레드 정보 설정)
+     * @param parent - 부모 댓글
+     */
+    public void replyTo(final CommentResponse parent) {
+        this.parentId = parent.getId();
+        this.rootId = parent.getRootId();
+        this.depth = parent.getDepth() + 1;
+        this.parentPath = parent.getPath() + "/";
+    }
+
+}
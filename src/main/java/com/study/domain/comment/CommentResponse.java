@@ -1,18 +1,31 @@
 package com.study.domain.comment;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Getter
 public class CommentResponse {
 
     private Long id;                       // 댓글 번호 (PK)
     private Long postId;                   // 게시글 번호 (FK)
+    private Long parentId;                 // 부모 댓글 번호
+    private Long rootId;                   // 루트 댓글 번호
+    private int depth;                     // 깊이 (루트 댓글 = 0)
+    @JsonIgnore
+    private String path;                   // 경로
+    private int replyCnt;                  // 답글 수
     private String content;                // 내용
     private String writer;                 // 작성자
     private Boolean deleteYn;              // 삭제 여부
     private LocalDateTime createdDate;     // 생성일시
     private LocalDateTime modifiedDate;    // 최종 수정일시
 
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final List<CommentResponse> replies = new ArrayList<>();    // 답글 리스트
+
 }
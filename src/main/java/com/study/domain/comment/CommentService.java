@@ -2,27 +2,67 @@ package com.study.domain.comment;
 
 import com.study.common.paging.Pagination;
 import com.study.common.paging.PagingResponse;
+import com.study.domain.changelog.ChangeEntity;
+import com.study.domain.changelog.ChangeLogWriter;
+import com.study.domain.changelog.ChangeOperation;
+import com.study.domain.post.PopularPostRanker;
+import com.study.domain.post.PostService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
 import javax.transaction.Transactional;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class CommentService {
 
     private final CommentMapper commentMapper;
+    private final PopularPostRanker popularPostRanker;
+    private final PostService postService;
+    private final ChangeLogWriter changeLogWriter;
+
+    @Value("${board.comment.max-depth:8}")
+    private int maxDepth;
 
     /**
      * 댓글 저장
+     * 답글인 경우 부모 댓글의 경로를 이어 붙여 스레드 경로를 저장하고, 부모 댓글의 답글 수를 증가시킨다.
+     * 최대 깊이에 도달한 댓글에 대한 답글은 부모 댓글과 같은 깊이(형제)로 저장한다.
+     * 아카이브/삭제된 게시글에는 댓글을 저장할 수 없다. (아카이브된 게시글의 댓글은 아카이브 테이블에서만 조회됨)
      * @param params - 댓글 정보
      * @return Generated PK
      */
     @Transactional
     public Long saveComment(final CommentRequest params) {
+        if (postService.existsLivePost(params.getPostId()) == false) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "post not found : " + params.getPostId());
+        }
+        if (params.getParentId() != null) {
+            CommentResponse parent = commentMapper.findByIdForUpdate(params.getParentId());
+            if (parent == null || Boolean.TRUE.equals(parent.getDeleteYn()) || parent.getPostId().equals(params.getPostId()) == false) {
+                throw new IllegalArgumentException("parent comment not found : " + params.getParentId());
+            }
+            while (parent.getDepth() >= maxDepth - 1 && parent.getParentId() != null) {
+                parent = commentMapper.findByIdForUpdate(parent.getParentId());
+            }
+            params.replyTo(parent);
+        }
+
         commentMapper.save(params);
+        commentMapper.updateThreadPath(params);
+        if (params.getParentId() != null) {
+            commentMapper.increaseReplyCount(params.getParentId());
+        }
+        changeLogWriter.append(ChangeEntity.COMMENT, params.getId(), ChangeOperation.INSERT);
+        popularPostRanker.recordComment(params.getPostId());
         return params.getId();
     }
 
@@ -43,35 +83,111 @@ public class CommentService {
     @Transactional
     public Long updateComment(final CommentRequest params) {
         commentMapper.update(params);
+        changeLogWriter.append(ChangeEntity.COMMENT, params.getId(), ChangeOperation.UPDATE);
         return params.getId();
     }
 
     /**
      * 댓글 삭제
+     * 답글이 남아있는 댓글은 내용 없이 스레드에 계속 노출된다.
+     * 노출되지 않게 된 댓글은 부모 댓글의 답글 수에서 제외하며, 그 결과 노출되지 않게 된 (삭제된) 부모 댓글도 같은 방식으로 처리한다.
+     * 삭제된 댓글은 인기글 점수에서도 제외한다.
+     * 동시 삭제 시 삭제 여부를 0 → 1로 바꾼 요청만 답글 수/인기글 점수를 반영하며,
+     * 댓글과 조상 댓글은 잠금 조회(FOR UPDATE)로 최신 답글 수를 읽는다. (답글 저장도 부모 댓글을 잠금 조회)
      * @param id - PK
      * @return PK
      */
     @Transactional
     public Long deleteComment(final Long id) {
-        commentMapper.deleteById(id);
+        if (commentMapper.deleteById(id) < 1) {
+            return id;
+        }
+        changeLogWriter.append(ChangeEntity.COMMENT, id, ChangeOperation.DELETE);
+        CommentResponse comment = commentMapper.findByIdForUpdate(id);
+        popularPostRanker.recordCommentDeletion(comment.getPostId(), comment.getCreatedDate());
+        if (comment.getReplyCnt() > 0) {
+            return id;
+        }
+
+        Long parentId = comment.getParentId();
+        while (parentId != null) {
+            commentMapper.decreaseReplyCount(parentId);
+            CommentResponse parent = commentMapper.findByIdForUpdate(parentId);
+            if (Boolean.TRUE.equals(parent.getDeleteYn()) == false || parent.getReplyCnt() > 0) {
+                break;
+            }
+            parentId = parent.getParentId();
+        }
         return id;
     }
 
     /**
-     * 댓글 리스트 조회
+     * 댓글 리스트 조회 (루트 댓글 기준 페이징, 각 루트 댓글은 답글 트리 포함)
+     * 게시글이 운영 테이블에 없는 경우(아카이브된 게시글) 아카이브 테이블에서 조회한다. (아카이브된 게시글의 댓글은 아카이브 테이블로 옮겨짐)
+     * 게시글 확인은 운영 테이블에 댓글이 없는 경우에만 한다. (PK 조회 1회)
      * @param params - search conditions
      * @return list & pagination information
      */
     public PagingResponse<CommentResponse> findAllComment(final CommentSearchDto params) {
 
         int count = commentMapper.count(params);
+        if (count < 1) {
+            if (postService.existsLivePost(params.getPostId())) {
+                return new PagingResponse<>(Collections.emptyList(), null);
+            }
+            return findAllArchivedComment(params);
+        }
+
+        Pagination pagination = new Pagination(count, params);
+        List<CommentResponse> list = toTree(commentMapper.findAll(params));
+        return new PagingResponse<>(list, pagination);
+    }
+
+    // 아카이브된 댓글 리스트 조회
+    private PagingResponse<CommentResponse> findAllArchivedComment(final CommentSearchDto params) {
+
+        int count = commentMapper.countArchived(params);
         if (count < 1) {
             return new PagingResponse<>(Collections.emptyList(), null);
         }
 
         Pagination pagination = new Pagination(count, params);
-        List<CommentResponse> list = commentMapper.findAll(params);
+        List<CommentResponse> list = toTree(commentMapper.findAllArchived(params));
         return new PagingResponse<>(list, pagination);
     }
 
+    /**
+     * 댓글 스레드 전체 조회 (게시글이 운영 테이블에 없는 경우 아카이브 테이블에서 조회)
+     * @param postId - 게시글 번호 (FK)
+     * @return 루트 댓글 리스트 (답글 트리 포함)
+     */
+    public List<CommentResponse> findAllThread(final Long postId) {
+        List<CommentResponse> comments = commentMapper.findAllThread(postId);
+        if (comments.isEmpty() && postService.existsLivePost(postId) == false) {
+            comments = commentMapper.findAllArchivedThread(postId);
+        }
+        return toTree(comments);
+    }
+
+    /**
+     * 경로순으로 정렬된 댓글 리스트를 트리로 변환
+     * 경로순 정렬에서는 부모 댓글이 항상 답글보다 먼저 나오므로 한 번의 순회로 변환된다.
+     * @param comments - 댓글 리스트 (경로순)
+     * @return 루트 댓글 리스트
+     */
+    private List<CommentResponse> toTree(final List<CommentResponse> comments) {
+        List<CommentResponse> roots = new ArrayList<>();
+        Map<Long, CommentResponse> nodes = new HashMap<>(comments.size() * 2);
+        for (CommentResponse comment : comments) {
+            nodes.put(comment.getId(), comment);
+            CommentResponse parent = (comment.getParentId() == null) ? null : nodes.get(comment.getParentId());
+            if (parent == null) {
+                roots.add(comment);
+            } else {
+                parent.getReplies().add(comment);
+            }
+        }
+        return roots;
+    }
+
 }
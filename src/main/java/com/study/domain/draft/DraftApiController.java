@@ -0,0 +1,68 @@
+package com.study.domain.draft;
+
+import com.study.domain.member.MemberResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.SessionAttribute;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+public class DraftApiController {
+
+    private final DraftService draftService;
+    private final DraftStore draftStore;
+
+    // 임시 저장 (세션이 만료된 경우 401, 페이지에서 브라우저에 보관)
+    @PutMapping("/drafts")
+    public LocalDateTime saveDraft(@SessionAttribute(name = "loginMember", required = false) final MemberResponse loginMember,
+                                   @RequestBody final DraftRequest params) {
+        return draftService.saveDraft(getMemberId(loginMember), params);
+    }
+
+
+    // 임시 저장 글 조회
+    @GetMapping("/drafts")
+    public DraftResponse findDraft(@SessionAttribute(name = "loginMember", required = false) final MemberResponse loginMember,
+                                   @RequestParam(required = false) final Long postId) {
+        DraftResponse draft = draftService.findDraft(getMemberId(loginMember), postId);
+        if (draft == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "draft not found : " + postId);
+        }
+        return draft;
+    }
+
+
+    // 임시 저장 글 삭제
+    @DeleteMapping("/drafts")
+    public void deleteDraft(@SessionAttribute(name = "loginMember", required = false) final MemberResponse loginMember,
+                            @RequestParam(required = false) final Long postId) {
+        draftService.deleteDraft(getMemberId(loginMember), postId);
+    }
+
+
+    // 임시 저장소 현황 조회 (보관 수, 저장 대기 수, DB 쓰기 비율)
+    @GetMapping("/drafts/status")
+    public Map<String, Object> findDraftStatus() {
+        return draftStore.getStatus();
+    }
+
+
+    // 로그인 회원 번호 (세션 만료 시 401)
+    private Long getMemberId(final MemberResponse loginMember) {
+        if (loginMember == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "login required");
+        }
+        return loginMember.getId();
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.study.domain.draft;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface DraftMapper {
+
+    /**
+     * 임시 저장 글 일괄 저장 (multi-row upsert)
+     * @param drafts - 임시 저장 글 리스트
+     */
+    void saveAll(List<DraftRequest> drafts);
+
+    /**
+     * 임시 저장 글 조회
+     * @param memberId - 회원 번호
+     * @param postId - 게시글 번호 (신규 게시글 = 0)
+     * @return 임시 저장 글
+     */
+    DraftResponse findById(@Param("memberId") Long memberId, @Param("postId") Long postId);
+
+    /**
+     * 회원의 임시 저장 글의 게시글 번호 리스트 조회
+     * @param memberId - 회원 번호
+     * @return 게시글 번호 리스트
+     */
+    List<Long> findPostIdsByMemberId(Long memberId);
+
+    /**
+     * 임시 저장 글 삭제
+     * @param memberId - 회원 번호
+     * @param postId - 게시글 번호 (신규 게시글 = 0)
+     */
+    void deleteById(@Param("memberId") Long memberId, @Param("postId") Long postId);
+
+    /**
+     * 오래된 임시 저장 글 삭제 (1 batch)
+     * @param cutoffDate - 기준 일시 (이전에 저장된 글 삭제)
+     * @param limit - 최대 삭제 수
+     * @return 삭제된 수
+     */
+    int deleteAllBefore(@Param("cutoffDate") LocalDateTime cutoffDate, @Param("limit") int limit);
+
+}
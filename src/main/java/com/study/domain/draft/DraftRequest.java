@@ -0,0 +1,29 @@
+package com.study.domain.draft;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DraftRequest {
+
+    private Long postId;       // 게시글 번호 (신규 게시글 = 0)
+    private String title;      // 제목
+    private String writer;     // 작성자
+    private String content;    // 내용
+
+    @JsonIgnore
+    private Long memberId;     // 회원 번호
+
+    /**
+     * 작성자(회원) 지정
+     * @param memberId - 회원 번호
+     */
+    public void ownedBy(final Long memberId) {
+        this.memberId = memberId;
+        this.postId = DraftService.normalizePostId(postId);
+    }
+
+}
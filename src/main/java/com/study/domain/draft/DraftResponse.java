@@ -0,0 +1,21 @@
+package com.study.domain.draft;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class DraftResponse {
+
+    private Long postId;                   // 게시글 번호 (신규 게시글 = 0)
+    private String title;                  // 제목
+    private String writer;                 // 작성자
+    private String content;                // 내용
+    private LocalDateTime modifiedDate;    // 최종 저장일시
+
+}
@@ -0,0 +1,82 @@
+package com.study.domain.draft;
+
+import com.study.domain.post.PostResponse;
+import com.study.domain.post.PostService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+public class DraftService {
+
+    private static final int TITLE_LENGTH = 100;
+    private static final int WRITER_LENGTH = 20;
+
+    private final DraftStore draftStore;
+    private final PostService postService;
+
+    @Value("${board.draft.max-content-length:100000}")
+    private int maxContentLength;
+
+    /**
+     * 게시글 번호 정규화 (신규 게시글 = 0)
+     * @param postId - 게시글 번호
+     * @return 게시글 번호
+     */
+    static Long normalizePostId(final Long postId) {
+        return (postId == null) ? 0L : postId;
+    }
+
+    /**
+     * 임시 저장 (메모리에 보관 후 주기적으로 일괄 저장)
+     * 수정 중인 글의 임시 저장은 게시글이 존재하는 경우에만 받는다.
+     * @param memberId - 회원 번호
+     * @param params - 임시 저장 글
+     * @return 보관 일시
+     */
+    public LocalDateTime saveDraft(final Long memberId, final DraftRequest params) {
+        if (length(params.getTitle()) > TITLE_LENGTH || length(params.getWriter()) > WRITER_LENGTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "title or writer is too long");
+        }
+        if (length(params.getContent()) > maxContentLength) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "content is too long : " + length(params.getContent()));
+        }
+        params.ownedBy(memberId);
+        if (params.getPostId() != 0L) {
+            PostResponse post = postService.findLivePostById(params.getPostId());
+            if (post == null || Boolean.TRUE.equals(post.getDeleteYn())) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "post not found : " + params.getPostId());
+            }
+        }
+        return draftStore.put(params);
+    }
+
+    /**
+     * 임시 저장 글 조회
+     * @param memberId - 회원 번호
+     * @param postId - 게시글 번호 (신규 게시글은 null)
+     * @return 임시 저장 글 (없는 경우 null)
+     */
+    public DraftResponse findDraft(final Long memberId, final Long postId) {
+        return draftStore.find(memberId, normalizePostId(postId));
+    }
+
+    /**
+     * 임시 저장 글 삭제 (게시글 저장/수정 완료 시, 또는 사용자가 복원하지 않은 경우)
+     * @param memberId - 회원 번호
+     * @param postId - 게시글 번호 (신규 게시글은 null)
+     */
+    public void deleteDraft(final Long memberId, final Long postId) {
+        draftStore.remove(memberId, normalizePostId(postId));
+    }
+
+    private static int length(final String value) {
+        return (value == null) ? 0 : value.length();
+    }
+
+}
@@ -0,0 +1,355 @@
+package com.study.domain.draft;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * 임시 저장 글 저장소 (in-memory + 일괄 저장)
+ * (회원, 게시글)별 최신 버전만 메모리에 보관하며, 새 버전은 이전 버전을 교체한다.
+ * 변경된(dirty) 글만 주기적으로 모아서 multi-row upsert로 저장하므로, 자동 저장 요청 수와 관계없이 DB 쓰기는 주기당 한 번으로 제한된다.
+ *
+ * 보관 수 또는 용량(내용 크기 추정치)이 최대치를 넘으면 저장 완료된(clean) 글부터 오래된 순으로 제거한다.
+ * 제거할 글이 없으면(모두 저장 대기 중) 요청 스레드에서 저장하지 않고 새 글을 거부(503)하며, 다음 주기의 저장 후 다시 받는다.
+ * 회원별 임시 저장 글 수(메모리 + DB)도 제한한다.
+ *
+ * 삭제된 글은 tombstone-ms 동안 삭제 표시(tombstone)로 남겨, 삭제 전에 보낸 자동 저장 요청이 뒤늦게 도착해도 글을 다시 만들지 않는다.
+ * 삭제 표시 확인과 교체는 같은 키에 대한 원자적 연산(compute)으로 처리하며, DB 저장과 삭제는 같은 락 안에서 처리한다.
+ */
+@Slf4j
+@Component
+public class DraftStore {
+
+    private static final int ENTRY_OVERHEAD_BYTES = 128;
+
+    private final DraftMapper draftMapper;
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong usedBytes = new AtomicLong();    // 보관 중인 글의 용량 (추정치)
+    private final AtomicLong received = new AtomicLong();     // 누적 수신 수
+    private final AtomicLong flushed = new AtomicLong();      // 누적 저장 수
+    private final AtomicLong evicted = new AtomicLong();      // 누적 제거 수
+    private final AtomicLong rejected = new AtomicLong();     // 누적 거부 수 (용량 초과, 회원별 제한, 삭제된 글)
+
+    @Value("${board.draft.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${board.draft.max-bytes:67108864}")
+    private long maxBytes;
+
+    @Value("${board.draft.max-per-member:20}")
+    private int maxPerMember;
+
+    @Value("${board.draft.tombstone-ms:10000}")
+    private long tombstoneMs;
+
+    @Value("${board.draft.batch-size:200}")
+    private int batchSize;
+
+    @Value("${board.draft.retention-days:14}")
+    private int retentionDays;
+
+    public DraftStore(final DraftMapper draftMapper) {
+        this.draftMapper = draftMapper;
+    }
+
+    /**
+     * 임시 저장 글 보관 (이전 버전 교체)
+     * @param draft - 임시 저장 글 (회원 번호 지정 완료)
+     * @return 보관 일시
+     */
+    public LocalDateTime put(final DraftRequest draft) {
+        Key key = new Key(draft.getMemberId(), draft.getPostId());
+        Entry created = new Entry(key, draft, sequence.incrementAndGet(), LocalDateTime.now(), true);
+        received.incrementAndGet();
+
+        Entry current = entries.get(key);
+        boolean added = (current == null || current.isRemoved());
+        if (added && countOtherDrafts(key) >= maxPerMember) {
+            rejected.incrementAndGet();
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "too many drafts : " + maxPerMember);
+        }
+        long growth = created.bytes - (added ? 0 : current.bytes);
+        if (hasRoom(added, growth) == false && evict(added, growth) == false) {
+            rejected.incrementAndGet();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "draft store is full");
+        }
+
+        long removedAfter = System.currentTimeMillis() - tombstoneMs;
+        Entry result = entries.compute(key, (k, existing) -> {
+            if (existing != null && existing.isRemoved() && existing.removedAt > removedAfter) {
+                return existing;
+            }
+            usedBytes.addAndGet(created.bytes - ((existing == null) ? 0 : existing.bytes));
+            return created;
+        });
+        if (result != created) {
+            rejected.incrementAndGet();
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "draft was removed : " + key.postId);
+        }
+        return created.modifiedDate;
+    }
+
+    // 회원의 다른 임시 저장 글 수 (메모리 + DB, 삭제 표시된 글과 보관할 글 제외)
+    private int countOtherDrafts(final Key key) {
+        Set<Long> postIds = new HashSet<>(draftMapper.findPostIdsByMemberId(key.memberId));
+        for (Entry entry : entries.values()) {
+            if (entry.key.memberId.equals(key.memberId)) {
+                if (entry.isRemoved()) {
+                    postIds.remove(entry.key.postId);
+                } else {
+                    postIds.add(entry.key.postId);
+                }
+            }
+        }
+        postIds.remove(key.postId);
+        return postIds.size();
+    }
+
+    /**
+     * 임시 저장 글 조회 (메모리에 없으면 DB에서 조회)
+     * @param memberId - 회원 번호
+     * @param postId - 게시글 번호 (신규 게시글 = 0)
+     * @return 임시 저장 글 (없는 경우 null)
+     */
+    public DraftResponse find(final Long memberId, final Long postId) {
+        Entry entry = entries.get(new Key(memberId, postId));
+        if (entry != null) {
+            return entry.isRemoved() ? null : entry.toResponse();
+        }
+        return draftMapper.findById(memberId, postId);
+    }
+
+    /**
+     * 임시 저장 글 삭제 (메모리 + DB, 삭제 표시)
+     * @param memberId - 회원 번호
+     * @param postId - 게시글 번호 (신규 게시글 = 0)
+     */
+    public void remove(final Long memberId, final Long postId) {
+        Key key = new Key(memberId, postId);
+        Entry tombstone = Entry.removed(key, sequence.incrementAndGet(), System.currentTimeMillis());
+        flushLock.lock();
+        try {
+            entries.compute(key, (k, existing) -> {
+                if (existing != null) {
+                    usedBytes.addAndGet(-existing.bytes);
+                }
+                return tombstone;
+            });
+            draftMapper.deleteById(memberId, postId);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 변경된 글 일괄 저장 (batch-size 단위)
+     * 저장 도중 새 버전이 들어온 글은 다음 주기에 다시 저장한다. 실패한 글은 dirty 상태로 남아 다음 주기에 재시도한다.
+     * 기간이 지난 삭제 표시도 함께 정리한다.
+     */
+    @Scheduled(fixedDelayString = "${board.draft.flush-interval-ms:5000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            long removedBefore = System.currentTimeMillis() - tombstoneMs;
+            entries.values().removeIf(entry -> entry.isRemoved() && entry.removedAt <= removedBefore);
+
+            List<Entry> dirty = entries.values().stream()
+                    .filter(entry -> entry.dirty)
+                    .sorted(Comparator.comparingLong(entry -> entry.version))
+                    .collect(Collectors.toList());
+
+            for (int i = 0; i < dirty.size(); i += batchSize) {
+                List<Entry> batch = dirty.subList(i, Math.min(i + batchSize, dirty.size()));
+                draftMapper.saveAll(batch.stream().map(entry -> entry.draft).collect(Collectors.toList()));
+                for (Entry entry : batch) {
+                    entries.computeIfPresent(entry.key, (key, current) -> (current.version == entry.version) ? current.clean() : current);
+                }
+                flushed.addAndGet(batch.size());
+            }
+        } catch (Exception e) {
+            log.error("DraftStore ===> flush failed (will retry), dirty drafts : " + countDirty(), e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 보관 수/용량 여유 확인 (새 글인 경우 보관 수 포함)
+    private boolean hasRoom(final boolean added, final long growth) {
+        return (added == false || entries.size() < maxEntries) && usedBytes.get() + growth <= maxBytes;
+    }
+
+    // 저장 완료된 글부터 오래된 순으로 제거 (최대치의 90%까지), 저장 대기 중인 글은 제거하지 않음
+    private synchronized boolean evict(final boolean added, final long growth) {
+        if (hasRoom(added, growth)) {
+            return true;
+        }
+        int targetEntries = maxEntries - maxEntries / 10;
+        long targetBytes = maxBytes - maxBytes / 10;
+        List<Entry> clean = entries.values().stream()
+                .filter(entry -> entry.dirty == false && entry.isRemoved() == false)
+                .sorted(Comparator.comparing(entry -> entry.modifiedDate))
+                .collect(Collectors.toList());
+        for (Entry entry : clean) {
+            if (entries.size() <= targetEntries && usedBytes.get() <= targetBytes) {
+                break;
+            }
+            if (entries.remove(entry.key, entry)) {
+                usedBytes.addAndGet(-entry.bytes);
+                evicted.incrementAndGet();
+            }
+        }
+        return hasRoom(added, growth);
+    }
+
+    /**
+     * 보관 기간이 지난 글 삭제 (메모리 + DB)
+     */
+    @Scheduled(fixedDelayString = "${board.draft.purge-interval-ms:3600000}")
+    public void purge() {
+        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(retentionDays);
+        for (Entry entry : entries.values()) {
+            if (entry.dirty == false && entry.isRemoved() == false && entry.modifiedDate.isBefore(cutoffDate) && entries.remove(entry.key, entry)) {
+                usedBytes.addAndGet(-entry.bytes);
+            }
+        }
+
+        long total = 0;
+        int deleted;
+        do {
+            deleted = draftMapper.deleteAllBefore(cutoffDate, batchSize);
+            total += deleted;
+        } while (deleted == batchSize);
+
+        if (total > 0) {
+            log.info("DraftStore ===> purged " + total + " drafts saved before " + cutoffDate);
+        }
+    }
+
+    /**
+     * 종료 전 변경된 글 저장
+     */
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+
+    private long countDirty() {
+        return entries.values().stream().filter(entry -> entry.dirty).count();
+    }
+
+    /**
+     * 저장소 현황
+     * @return 보관 수/용량, 저장 대기 수, 누적 수신/저장/제거/거부 수 (수신 대비 저장 비율 = DB 쓰기 절감 효과)
+     */
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        long receivedCount = received.get();
+        status.put("entries", entries.size());
+        status.put("maxEntries", maxEntries);
+        status.put("usedBytes", usedBytes.get());
+        status.put("maxBytes", maxBytes);
+        status.put("dirty", countDirty());
+        status.put("received", receivedCount);
+        status.put("flushed", flushed.get());
+        status.put("evicted", evicted.get());
+        status.put("rejected", rejected.get());
+        status.put("writeRatio", (receivedCount == 0) ? 0d : (double) flushed.get() / receivedCount);
+        return status;
+    }
+
+    private static class Entry {
+
+        private final Key key;
+        private final DraftRequest draft;       // 삭제 표시인 경우 null
+        private final long version;
+        private final LocalDateTime modifiedDate;
+        private final boolean dirty;
+        private final long bytes;               // 용량 추정치 (문자당 2byte + 고정 크기)
+        private final long removedAt;           // 삭제 시각 (삭제 표시인 경우)
+
+        Entry(final Key key, final DraftRequest draft, final long version, final LocalDateTime modifiedDate, final boolean dirty) {
+            this(key, draft, version, modifiedDate, dirty, 0L);
+        }
+
+        private Entry(final Key key, final DraftRequest draft, final long version, final LocalDateTime modifiedDate, final boolean dirty, final long removedAt) {
+            this.key = key;
+            this.draft = draft;
+            this.version = version;
+            this.modifiedDate = modifiedDate;
+            this.dirty = dirty;
+            this.bytes = (draft == null) ? 0 : ENTRY_OVERHEAD_BYTES + 2L * (length(draft.getTitle()) + length(draft.getWriter()) + length(draft.getContent()));
+            this.removedAt = removedAt;
+        }
+
+        static Entry removed(final Key key, final long version, final long removedAt) {
+            return new Entry(key, null, version, LocalDateTime.now(), false, removedAt);
+        }
+
+        boolean isRemoved() {
+            return draft == null;
+        }
+
+        Entry clean() {
+            return new Entry(key, draft, version, modifiedDate, false, 0L);
+        }
+
+        private static int length(final String value) {
+            return (value == null) ? 0 : value.length();
+        }
+
+        DraftResponse toResponse() {
+            return new DraftResponse(draft.getPostId(), draft.getTitle(), draft.getWriter(), draft.getContent(), modifiedDate);
+        }
+
+    }
+
+    private static class Key {
+
+        private final Long memberId;
+        private final Long postId;
+
+        Key(final Long memberId, final Long postId) {
+            this.memberId = memberId;
+            this.postId = postId;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o instanceof Key == false) {
+                return false;
+            }
+            Key key = (Key) o;
+            return Objects.equals(memberId, key.memberId) && Objects.equals(postId, key.postId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(memberId, postId);
+        }
+
+    }
+
+}
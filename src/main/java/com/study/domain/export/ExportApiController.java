@@ -0,0 +1,71 @@
+package com.study.domain.export;
+
+import com.study.common.bulkhead.Bulkhead;
+import com.study.common.bulkhead.BulkheadFullException;
+import com.study.common.bulkhead.BulkheadRegistry;
+import com.study.common.dto.SearchDto;
+import com.study.common.export.ExportFormat;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+@RestController
+@RequiredArgsConstructor
+public class ExportApiController {
+
+    private final ExportService exportService;
+    private final BulkheadRegistry bulkheadRegistry;
+
+    // 게시글 내보내기
+    @GetMapping("/export/posts")
+    public void exportPosts(final SearchDto params, @RequestParam(defaultValue = "NDJSON") final ExportFormat format, HttpServletResponse response) throws IOException {
+        export(response, "posts", format, out -> exportService.exportPosts(params, format, out));
+    }
+
+    // 댓글 내보내기
+    @GetMapping("/export/comments")
+    public void exportComments(@RequestParam(required = false) final Long postId, @RequestParam(defaultValue = "NDJSON") final ExportFormat format, HttpServletResponse response) throws IOException {
+        export(response, "comments", format, out -> exportService.exportComments(postId, format, out));
+    }
+
+    // 파일 정보 내보내기
+    @GetMapping("/export/files")
+    public void exportFiles(@RequestParam(required = false) final Long postId, @RequestParam(defaultValue = "NDJSON") final ExportFormat format, HttpServletResponse response) throws IOException {
+        export(response, "files", format, out -> exportService.exportFiles(postId, format, out));
+    }
+
+    // 내보내기 실행 (export 벌크헤드의 허용량 안에서만 실행, 초과 시 응답 헤더를 쓰기 전에 503)
+    private void export(HttpServletResponse response, final String name, final ExportFormat format, final ExportTask task) throws IOException {
+        Bulkhead bulkhead = bulkheadRegistry.getExport();
+        if (bulkhead.tryAcquire() == false) {
+            throw new BulkheadFullException(bulkhead.getName());
+        }
+        try {
+            prepareResponse(response, name, format);
+            task.run(response.getOutputStream());
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    // 응답 헤더 설정 (Content-Length 없이 chunked 전송)
+    private void prepareResponse(HttpServletResponse response, final String name, final ExportFormat format) {
+        String filename = name + "-" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE) + "." + format.getExtension();
+        response.setContentType(format.getContentType() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"");
+    }
+
+    @FunctionalInterface
+    private interface ExportTask {
+        void run(OutputStream out) throws IOException;
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.study.domain.export;
+
+import com.study.common.dto.SearchDto;
+import com.study.domain.comment.CommentResponse;
+import com.study.domain.file.FileResponse;
+import com.study.domain.post.PostResponse;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.cursor.Cursor;
+
+@Mapper
+public interface ExportMapper {
+
+    /**
+     * 게시글 전체 조회 (Cursor)
+     * @param params - search conditions
+     * @return 게시글 Cursor
+     */
+    Cursor<PostResponse> findAllPost(SearchDto params);
+
+    /**
+     * 댓글 전체 조회 (Cursor)
+     * @param postId - 게시글 번호 (FK), null인 경우 전체 게시글
+     * @return 댓글 Cursor
+     */
+    Cursor<CommentResponse> findAllComment(Long postId);
+
+    /**
+     * 파일 정보 전체 조회 (Cursor)
+     * @param postId - 게시글 번호 (FK), null인 경우 전체 게시글
+     * @return 파일 Cursor
+     */
+    Cursor<FileResponse> findAllFile(Long postId);
+
+}
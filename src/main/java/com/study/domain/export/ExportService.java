@@ -0,0 +1,99 @@
+package com.study.domain.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.common.dto.SearchDto;
+import com.study.common.export.CsvExportWriter;
+import com.study.common.export.ExportFormat;
+import com.study.common.export.ExportWriter;
+import com.study.common.export.NdjsonExportWriter;
+import com.study.domain.comment.CommentResponse;
+import com.study.domain.file.FileResponse;
+import com.study.domain.post.PostResponse;
+import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.stereotype.Service;
+
+import javax.transaction.Transactional;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.function.Function;
+
+/**
+ * 게시판 데이터 내보내기
+ * Cursor로 1건씩 읽어 바로 출력 스트림에 기록하므로, 데이터 양과 관계없이 메모리 사용량이 일정하다.
+ * Cursor는 트랜잭션(SqlSession)이 열려 있는 동안에만 읽을 수 있으므로 메서드 단위로 트랜잭션을 유지한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ExportService {
+
+    private static final String[] POST_HEADERS = { "id", "title", "content", "writer", "viewCnt", "noticeYn", "createdDate", "modifiedDate" };
+    private static final String[] COMMENT_HEADERS = { "id", "postId", "content", "writer", "createdDate", "modifiedDate" };
+    private static final String[] FILE_HEADERS = { "id", "postId", "originalName", "saveName", "size", "createdDate" };
+
+    private final ExportMapper exportMapper;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 게시글 내보내기
+     * @param params - search conditions
+     * @param format - 출력 형식
+     * @param out - 출력 스트림
+     * @return 내보낸 게시글 수
+     */
+    @Transactional
+    public long exportPosts(final SearchDto params, final ExportFormat format, final OutputStream out) throws IOException {
+        Function<PostResponse, Object[]> extractor = post -> new Object[] {
+                post.getId(), post.getTitle(), post.getContent(), post.getWriter(), post.getViewCnt(), post.getNoticeYn(), post.getCreatedDate(), post.getModifiedDate()
+        };
+        return export(exportMapper.findAllPost(params), createWriter(format, out, POST_HEADERS, extractor));
+    }
+
+    /**
+     * 댓글 내보내기
+     * @param postId - 게시글 번호 (FK), null인 경우 전체 게시글
+     * @param format - 출력 형식
+     * @param out - 출력 스트림
+     * @return 내보낸 댓글 수
+     */
+    @Transactional
+    public long exportComments(final Long postId, final ExportFormat format, final OutputStream out) throws IOException {
+        Function<CommentResponse, Object[]> extractor = comment -> new Object[] {
+                comment.getId(), comment.getPostId(), comment.getContent(), comment.getWriter(), comment.getCreatedDate(), comment.getModifiedDate()
+        };
+        return export(exportMapper.findAllComment(postId), createWriter(format, out, COMMENT_HEADERS, extractor));
+    }
+
+    /**
+     * 파일 정보 내보내기
+     * @param postId - 게시글 번호 (FK), null인 경우 전체 게시글
+     * @param format - 출력 형식
+     * @param out - 출력 스트림
+     * @return 내보낸 파일 수
+     */
+    @Transactional
+    public long exportFiles(final Long postId, final ExportFormat format, final OutputStream out) throws IOException {
+        Function<FileResponse, Object[]> extractor = file -> new Object[] {
+                file.getId(), file.getPostId(), file.getOriginalName(), file.getSaveName(), file.getSize(), file.getCreatedDate()
+        };
+        return export(exportMapper.findAllFile(postId), createWriter(format, out, FILE_HEADERS, extractor));
+    }
+
+    // 출력 형식에 해당하는 Writer 생성
+    private <T> ExportWriter<T> createWriter(final ExportFormat format, final OutputStream out, final String[] headers, final Function<T, Object[]> extractor) throws IOException {
+        return (format == ExportFormat.CSV) ? new CsvExportWriter<>(out, headers, extractor) : new NdjsonExportWriter<>(objectMapper, out);
+    }
+
+    // Cursor의 데이터를 1건씩 Writer에 기록
+    private <T> long export(final Cursor<T> cursor, final ExportWriter<T> writer) throws IOException {
+        long count = 0;
+        try (cursor; writer) {
+            for (T row : cursor) {
+                writer.write(row);
+                count++;
+            }
+        }
+        return count;
+    }
+
+}
@@ -1,18 +1,29 @@
 package com.study.domain.file;
 
+import com.study.common.bulkhead.BulkheadRegistry;
 import com.study.common.file.FileUtils;
+import com.study.common.jfr.FileTransferEvent;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequiredArgsConstructor
@@ -20,6 +31,9 @@ public class FileApiController {
 
     private final FileService fileService;
     private final FileUtils fileUtils;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final FileContentCache fileContentCache;
+    private final FileReaper fileReaper;
 
     // 파일 리스트 조회
     @GetMapping("/posts/{postId}/files")
@@ -27,22 +41,78 @@ public class FileApiController {
         return fileService.findAllFileByPostId(postId);
     }
 
-    // 첨부파일 다운로드
+    // 첨부파일 다운로드 (download 벌크헤드의 전용 스레드에서 비동기 전송, 자주 받는 작은 파일은 캐시에서 전송)
+    // 응답 헤더는 허용량을 얻은 후(작업 안에서) 설정하므로, 벌크헤드가 가득 찬 경우의 503 응답에는 파일의 헤더가 섞이지 않는다.
     @GetMapping("/posts/{postId}/files/{fileId}/download")
-    public ResponseEntity<Resource> downloadFile(@PathVariable final Long postId, @PathVariable final Long fileId) {
-        FileResponse file = fileService.findFileById(fileId);
-        Resource resource = fileUtils.readFileAsResource(file);
+    public WebAsyncTask<Void> downloadFile(@PathVariable final Long postId, @PathVariable final Long fileId, HttpServletResponse response) {
+        FileContentCache.Content cached = fileContentCache.find(fileId);
+        long generation = fileContentCache.getGeneration();
+        FileResponse file = (cached != null) ? cached.getFile() : fileService.findFileById(fileId);
+        Resource resource = (cached != null) ? cached.getResource() : fileUtils.readFileAsResource(file);
+
+        return bulkheadRegistry.getDownload().submit(() -> {
+            writeDownloadHeaders(response, file);
+            FileTransferEvent event = new FileTransferEvent();
+            event.begin();
+            long bytes = 0;
+            boolean failed = true;
+            Resource source = (cached != null) ? resource : fileContentCache.admit(file, resource, generation);
+            try (InputStream in = source.getInputStream()) {
+                bytes = StreamUtils.copy(in, response.getOutputStream());
+                failed = false;
+            } finally {
+                if (cached != null) {
+                    fileContentCache.served(bytes);
+                }
+                event.finish(FileTransferEvent.DOWNLOAD, (cached != null) ? "CACHE" : String.valueOf(file.getStorageType()), file.getSaveName(), bytes, failed);
+            }
+            return null;
+        });
+    }
+
+    // 다운로드 응답 헤더 설정 (Content-Type, Content-Disposition, Content-Length)
+    private void writeDownloadHeaders(final HttpServletResponse response, final FileResponse file) {
         try {
             String filename = URLEncoder.encode(file.getOriginalName(), "UTF-8");
-            return ResponseEntity.ok()
-                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; fileName=\"" + filename + "\";")
-                    .header(HttpHeaders.CONTENT_LENGTH, file.getSize() + "")
-                    .body(resource);
+            response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; fileName=\"" + filename + "\";");
+            response.setHeader(HttpHeaders.CONTENT_LENGTH, file.getSize() + "");
 
         } catch (UnsupportedEncodingException e) {
             throw new RuntimeException("filename encoding failed : " + file.getOriginalName());
         }
     }
 
+
+    // 첨부파일 캐시 현황 조회 (적중률, 캐시 전송 용량)
+    @GetMapping("/file-cache")
+    public Map<String, Object> findFileCacheStatus() {
+        return fileContentCache.getStatus();
+    }
+
+
+    // 파일 정리 현황 조회 (누적 회수 용량, 고아 파일 수)
+    @GetMapping("/file-reaper")
+    public Map<String, Object> findFileReaperStatus() {
+        return fileReaper.getStatus();
+    }
+
+
+    // 이미지 첨부파일 썸네일 조회
+    // 썸네일이 아직 없으면 썸네일 작업 스레드에 생성을 요청하고, 생성될 때까지 404 응답 (다시 요청하도록 캐시하지 않음)
+    @GetMapping("/posts/{postId}/files/{fileId}/thumbnail")
+    public ResponseEntity<Resource> findThumbnail(@PathVariable final Long postId, @PathVariable final Long fileId, @RequestParam(defaultValue = "200") final int size) {
+        FileResponse file = fileService.findFileById(fileId);
+        Resource resource = (file == null) ? null : fileUtils.readThumbnailAsResource(file, size);
+        if (resource == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).cacheControl(CacheControl.noStore()).build();
+        }
+
+        MediaType contentType = resource.getFilename().endsWith(".png") ? MediaType.IMAGE_PNG : MediaType.IMAGE_JPEG;
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic())
+                .body(resource);
+    }
+
 }
@@ -0,0 +1,38 @@
+package com.study.domain.file;
+
+import com.study.domain.changelog.ChangeEntity;
+import com.study.domain.changelog.ChangeLogResponse;
+import com.study.domain.changelog.ChangeLogSubscriber;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 다른 노드의 첨부파일 변경 반영
+ * 삭제된 파일과, 파일 리스트가 변경된 게시글의 파일을 첨부파일 캐시에서 제거한다.
+ * (같은 게시글의 변경은 최근 변경만 전달되므로, 게시글의 파일 리스트 변경은 작업과 관계없이 무효화한다)
+ */
+@Component
+@RequiredArgsConstructor
+public class FileChangeSubscriber implements ChangeLogSubscriber {
+
+    private final FileContentCache fileContentCache;
+
+    @Override
+    public void onChanges(final List<ChangeLogResponse> changes) {
+        List<Long> ids = changes.stream()
+                .filter(change -> change.getEntity() == ChangeEntity.FILE)
+                .map(ChangeLogResponse::getEntityId)
+                .collect(Collectors.toList());
+        if (ids.isEmpty() == false) {
+            fileContentCache.invalidate(ids);
+        }
+
+        changes.stream()
+                .filter(change -> change.getEntity() == ChangeEntity.POST_FILES)
+                .forEach(change -> fileContentCache.invalidatePost(change.getEntityId()));
+    }
+
+}
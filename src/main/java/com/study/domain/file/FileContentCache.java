@@ -0,0 +1,340 @@
+package com.study.domain.file;
+
+import com.study.common.file.ByteBufferResource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * 첨부파일 캐시 (자주 받는 작은 파일의 정보 + 내용)
+ * 공지 PDF, 안내 이미지처럼 소수의 파일이 다운로드의 대부분을 차지하므로, 최근 다운로드 횟수가 많은 작은 파일만 메모리에 보관한다.
+ * 캐시된 파일은 DB 조회와 파일 읽기 없이 전송되며, 내용은 direct buffer(힙 밖)에 보관하므로 GC가 훑는 힙을 늘리지 않는다.
+ *
+ * 다운로드 횟수는 주기적으로 절반으로 줄여(decay) 최근 인기만 반영한다.
+ * 용량(byte)이 가득 차면 다운로드 횟수가 적은 파일부터(같으면 큰 파일부터) 제거하되, 새 파일의 횟수가 제거 대상보다 많을 때만 교체한다.
+ * 제거 순서는 정렬된 집합(order)으로 유지하며, 순서의 기준 횟수(rank)는 저장 시점과 decay 주기마다 갱신한다. (다운로드마다 재정렬하지 않음)
+ * 저장 여부는 내용을 읽기 전에 먼저 확인하므로, 저장되지 않을 파일은 메모리를 할당하지 않고 디스크에서 바로 전송한다.
+ * 파일 삭제 시 세대(generation)를 올리므로, 삭제 전에 조회를 시작한 다운로드가 삭제된 파일을 다시 저장하지 않는다.
+ */
+@Slf4j
+@Component
+public class FileContentCache {
+
+    // 제거 순서 (기준 횟수 → 큰 파일 → 파일 번호), 모니터 안에서만 변경
+    private static final Comparator<Content> EVICTION_ORDER = Comparator.comparingInt((Content content) -> content.rank)
+            .thenComparing(Content::size, Comparator.reverseOrder())
+            .thenComparing(content -> content.file.getId());
+
+    private final Map<Long, Content> contents = new ConcurrentHashMap<>();
+    private final NavigableSet<Content> order = new TreeSet<>(EVICTION_ORDER);
+    private final Map<Long, AtomicInteger> frequencies = new ConcurrentHashMap<>();    // 파일 번호 : 최근 다운로드 횟수
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong usedBytes = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong bytesServed = new AtomicLong();    // 누적 캐시 전송 용량 (byte)
+    private final AtomicLong admitted = new AtomicLong();       // 누적 저장 수
+    private final AtomicLong rejected = new AtomicLong();       // 누적 저장 거부 수 (제거 대상보다 다운로드 횟수가 적은 경우)
+    private final AtomicLong evicted = new AtomicLong();        // 누적 제거 수 (용량 초과)
+
+    @Value("${board.file.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${board.file.cache.max-bytes:67108864}")
+    private long maxBytes;
+
+    @Value("${board.file.cache.max-file-size:1048576}")
+    private long maxFileSize;
+
+    @Value("${board.file.cache.admit-threshold:3}")
+    private int admitThreshold;
+
+    @Value("${board.file.cache.max-tracked:100000}")
+    private int maxTracked;
+
+    /**
+     * 현재 세대 조회 (DB 조회 전에 조회하여 저장 시 전달)
+     * @return 세대
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * 캐시된 파일 조회 (다운로드 횟수 기록)
+     * @param id - 파일 번호 (PK)
+     * @return 캐시된 파일 (없는 경우 null)
+     */
+    public Content find(final Long id) {
+        if (enabled == false) {
+            return null;
+        }
+        AtomicInteger frequency = frequencies.get(id);
+        if (frequency == null && frequencies.size() < maxTracked) {
+            frequency = frequencies.computeIfAbsent(id, key -> new AtomicInteger());
+        }
+        if (frequency != null) {
+            frequency.incrementAndGet();
+        }
+
+        Content content = contents.get(id);
+        (content != null ? hits : misses).incrementAndGet();
+        return content;
+    }
+
+    /**
+     * 파일 내용 저장 (다운로드 횟수가 기준 이상인 작은 파일)
+     * @param file - 파일 상세정보
+     * @param resource - 파일(리소스)
+     * @param generation - DB 조회 전에 조회한 세대
+     * @return 전송할 리소스 (내용을 읽은 경우 메모리의 내용, 그 외에는 원래 리소스)
+     */
+    public Resource admit(final FileResponse file, final Resource resource, final long generation) {
+        if (enabled == false || file.getSize() > Math.min(maxFileSize, maxBytes) || frequency(file.getId()) < admitThreshold) {
+            return resource;
+        }
+        if (isAdmissible(file.getId(), file.getSize(), generation) == false) {
+            return resource;
+        }
+        ByteBuffer buffer;
+        try {
+            buffer = read(resource, (int) file.getSize());
+        } catch (IOException e) {
+            log.warn("FileContentCache ===> read failed : " + file.getSaveName(), e);
+            return resource;
+        }
+        if (buffer == null) {
+            return resource;
+        }
+        Content content = new Content(file, buffer);
+        put(content, generation);
+        return content.getResource();
+    }
+
+    /**
+     * 캐시 전송 용량 기록
+     * @param bytes - 전송 용량
+     */
+    public void served(final long bytes) {
+        bytesServed.addAndGet(bytes);
+    }
+
+    // 파일 내용을 direct buffer로 읽기 (크기가 다른 경우 null)
+    private ByteBuffer read(final Resource resource, final int size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(size);
+        try (ReadableByteChannel channel = resource.readableChannel()) {
+            int read = 0;
+            while (buffer.hasRemaining() && read != -1) {
+                read = channel.read(buffer);
+            }
+            if (buffer.hasRemaining() || channel.read(ByteBuffer.allocate(1)) != -1) {
+                return null;
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    // 저장 가능 여부 확인 (내용을 읽기 전)
+    private synchronized boolean isAdmissible(final Long id, final long size, final long generation) {
+        if (generation != this.generation.get() || contents.containsKey(id)) {
+            return false;
+        }
+        if (selectVictims(frequency(id), size) == null) {
+            rejected.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    // 용량을 넘는 경우 다운로드 횟수가 적은 파일부터 제거 (새 파일보다 횟수가 적은 파일만 제거, 읽는 동안 바뀐 상태를 다시 확인)
+    private synchronized void put(final Content content, final long generation) {
+        Long id = content.file.getId();
+        if (generation != this.generation.get() || contents.containsKey(id)) {
+            return;
+        }
+
+        int frequency = frequency(id);
+        List<Content> victims = selectVictims(frequency, content.size());
+        if (victims == null) {
+            rejected.incrementAndGet();
+            return;
+        }
+        for (Content victim : victims) {
+            remove(victim);
+            evicted.incrementAndGet();
+        }
+        content.rank = frequency;
+        contents.put(id, content);
+        order.add(content);
+        usedBytes.addAndGet(content.size());
+        admitted.incrementAndGet();
+    }
+
+    // 제거 대상 선택 (제거 순서대로, 용량이 확보될 때까지), 새 파일보다 횟수가 많거나 같은 파일을 제거해야 하는 경우 null
+    private List<Content> selectVictims(final int frequency, final long size) {
+        List<Content> victims = new ArrayList<>();
+        long freed = 0;
+        for (Content candidate : order) {
+            if (usedBytes.get() - freed + size <= maxBytes) {
+                break;
+            }
+            if (frequency(candidate.file.getId()) >= frequency) {
+                return null;
+            }
+            victims.add(candidate);
+            freed += candidate.size();
+        }
+        return (usedBytes.get() - freed + size <= maxBytes) ? victims : null;
+    }
+
+    // 파일 제거 (모니터 안에서 호출)
+    private void remove(final Content content) {
+        if (contents.remove(content.file.getId(), content)) {
+            order.remove(content);
+            usedBytes.addAndGet(-content.size());
+        }
+    }
+
+    /**
+     * 파일 무효화 (파일 삭제 시)
+     * 트랜잭션 안에서 호출된 경우, 커밋 전에 다른 요청이 이전 정보를 다시 저장할 수 있으므로 커밋 후에 한 번 더 무효화한다.
+     * @param ids - 파일 번호 (PK) 리스트
+     */
+    public void invalidate(final List<Long> ids) {
+        Set<Long> targets = new HashSet<>(ids);
+        runNowAndAfterCommit(() -> removeIf(content -> targets.contains(content.file.getId())));
+    }
+
+    /**
+     * 게시글의 파일 무효화 (게시글의 파일 전체 삭제 시)
+     * @param postId - 게시글 번호 (FK)
+     */
+    public void invalidatePost(final Long postId) {
+        runNowAndAfterCommit(() -> removeIf(content -> postId.equals(content.file.getPostId())));
+    }
+
+    private void runNowAndAfterCommit(final Runnable invalidation) {
+        invalidation.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidation.run();
+                }
+            });
+        }
+    }
+
+    private synchronized void removeIf(final Predicate<Content> condition) {
+        generation.incrementAndGet();
+        for (Content content : contents.values()) {
+            if (condition.test(content)) {
+                remove(content);
+            }
+        }
+    }
+
+    private int frequency(final Long id) {
+        AtomicInteger frequency = frequencies.get(id);
+        return (frequency == null) ? 0 : frequency.get();
+    }
+
+    /**
+     * 다운로드 횟수 감소 (절반), 제거 순서 갱신 및 적중률 로깅
+     */
+    @Scheduled(fixedDelayString = "${board.file.cache.decay-interval-ms:60000}")
+    public void decay() {
+        frequencies.values().removeIf(frequency -> frequency.updateAndGet(count -> count / 2) == 0);
+        rerank();
+        if (hits.get() > 0) {
+            log.info("FileContentCache ===> entries : " + contents.size() + ", bytes : " + usedBytes.get() + ", hit ratio : " + getHitRatio());
+        }
+    }
+
+    // 제거 순서 갱신 (현재 다운로드 횟수 기준)
+    private synchronized void rerank() {
+        List<Content> all = new ArrayList<>(order);
+        order.clear();
+        for (Content content : all) {
+            content.rank = frequency(content.file.getId());
+            order.add(content);
+        }
+    }
+
+    private double getHitRatio() {
+        long total = hits.get() + misses.get();
+        return (total == 0) ? 0d : (double) hits.get() / total;
+    }
+
+    /**
+     * 캐시 현황
+     * @return 보관 수, 사용 용량, 적중률, 누적 전송 용량, 누적 저장/거부/제거 수
+     */
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", enabled);
+        status.put("entries", contents.size());
+        status.put("usedBytes", usedBytes.get());
+        status.put("maxBytes", maxBytes);
+        status.put("hits", hits.get());
+        status.put("misses", misses.get());
+        status.put("hitRatio", getHitRatio());
+        status.put("bytesServed", bytesServed.get());
+        status.put("admitted", admitted.get());
+        status.put("rejected", rejected.get());
+        status.put("evicted", evicted.get());
+        status.put("tracked", frequencies.size());
+        return status;
+    }
+
+    /**
+     * 캐시된 파일 (파일 정보 + 내용)
+     */
+    public static class Content {
+
+        private final FileResponse file;
+        private final ByteBuffer buffer;
+        private int rank;    // 제거 순서 기준 횟수 (order에 없는 동안에만 변경)
+
+        Content(final FileResponse file, final ByteBuffer buffer) {
+            this.file = file;
+            this.buffer = buffer;
+        }
+
+        public FileResponse getFile() {
+            return file;
+        }
+
+        public Resource getResource() {
+            return new ByteBufferResource(buffer, file.getSaveName());
+        }
+
+        long size() {
+            return buffer.capacity();
+        }
+
+    }
+
+}
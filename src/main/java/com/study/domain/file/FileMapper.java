@@ -1,6 +1,7 @@
 package com.study.domain.file;
 
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
 
@@ -40,4 +41,58 @@ public interface FileMapper {
      */
     FileResponse findById(Long id);
 
-}
\ No newline at end of file
+    /**
+     * 파일 삭제 (게시글 번호 기준)
+     * @param postId - 게시글 번호 (FK)
+     */
+    void deleteAllByPostId(Long postId);
+
+    /**
+     * 삭제된 게시글의 파일 삭제 처리
+     * @param limit - 최대 처리 건수
+     * @return 삭제 처리된 파일 수
+     */
+    int deleteAllOfDeletedPosts(int limit);
+
+    /**
+     * 삭제된 파일 리스트 조회 (디스크 정리 대상)
+     * @param limit - 최대 조회 건수
+     * @return 파일 리스트
+     */
+    List<FileResponse> findAllDeleted(int limit);
+
+    /**
+     * 파일 정보 영구 삭제
+     * @param ids - PK 리스트
+     */
+    void purgeAllByIds(List<Long> ids);
+
+    /**
+     * DB에 등록된 저장 파일명 조회 (삭제 여부 무관)
+     * @param saveNames - 저장 파일명 리스트
+     * @return 등록된 저장 파일명 리스트
+     */
+    List<String> findAllSaveNamesIn(@Param("saveNames") List<String> saveNames);
+
+    /**
+     * 팩 세그먼트별 사용 용량 조회
+     * @return 세그먼트별 살아있는 파일 용량
+     */
+    List<PackUsage> findAllPackUsage();
+
+    /**
+     * 팩 세그먼트에 저장된 파일 리스트 조회
+     * @param packId - 세그먼트 번호
+     * @return 파일 리스트
+     */
+    List<FileResponse> findAllByPackId(Long packId);
+
+    /**
+     * 팩 저장 위치 수정
+     * @param id - PK
+     * @param packId - 세그먼트 번호
+     * @param packOffset - 세그먼트 내 위치
+     */
+    void updatePackLocation(@Param("id") Long id, @Param("packId") Long packId, @Param("packOffset") Long packOffset);
+
+}
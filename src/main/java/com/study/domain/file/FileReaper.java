@@ -0,0 +1,233 @@
+package com.study.domain.file;
+
+import com.study.common.file.FileUtils;
+import com.study.common.file.PackFileStorage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FileReaper {
+
+    private final FileMapper fileMapper;
+    private final FileUtils fileUtils;
+    private final PackFileStorage packFileStorage;
+
+    private final AtomicLong reclaimedFiles = new AtomicLong();    // 누적 삭제 파일 수
+    private final AtomicLong reclaimedBytes = new AtomicLong();    // 누적 회수 용량 (byte)
+    private final AtomicLong orphanFiles = new AtomicLong();       // 누적 고아 파일 수
+
+    @Value("${board.file.reaper.enabled:true}")
+    private boolean enabled;
+
+    @Value("${board.file.reaper.batch-size:200}")
+    private int batchSize;
+
+    @Value("${board.file.reaper.max-batches:50}")
+    private int maxBatches;
+
+    @Value("${board.file.reaper.files-per-second:50}")
+    private int filesPerSecond;
+
+    @Value("${board.file.orphan-scan.enabled:true}")
+    private boolean orphanScanEnabled;
+
+    @Value("${board.file.orphan-scan.dry-run:false}")
+    private boolean orphanScanDryRun;
+
+    @Value("${board.file.orphan-scan.grace-hours:24}")
+    private int orphanGraceHours;
+
+    /**
+     * 삭제된 파일 정리 (from Disk & Database)
+     * 1. 삭제된 게시글의 파일을 삭제 처리
+     * 2. 삭제 처리된 파일을 디스크에서 제거한 후 DB에서 영구 삭제
+     */
+    @Scheduled(fixedDelayString = "${board.file.reaper.interval-ms:300000}", initialDelayString = "${board.file.reaper.initial-delay-ms:60000}")
+    public void reap() {
+        if (enabled == false) {
+            return;
+        }
+
+        // 1. 삭제된 게시글의 파일 삭제 처리
+        for (int i = 0; i < maxBatches; i++) {
+            if (fileMapper.deleteAllOfDeletedPosts(batchSize) < batchSize) {
+                break;
+            }
+        }
+
+        // 2. 삭제 처리된 파일 정리
+        long files = 0;
+        long bytes = 0;
+        for (int i = 0; i < maxBatches; i++) {
+            List<FileResponse> deletedFiles = fileMapper.findAllDeleted(batchSize);
+            if (CollectionUtils.isEmpty(deletedFiles)) {
+                break;
+            }
+
+            List<Long> ids = new ArrayList<>();
+            for (FileResponse file : deletedFiles) {
+                bytes += fileUtils.deleteFile(file);
+                ids.add(file.getId());
+                throttle();
+            }
+            fileMapper.purgeAllByIds(ids);
+            files += ids.size();
+
+            if (deletedFiles.size() < batchSize) {
+                break;
+            }
+        }
+
+        reclaimedFiles.addAndGet(files);
+        reclaimedBytes.addAndGet(bytes);
+        if (files > 0) {
+            log.info("FileReaper ===> reclaimed files : " + files + ", bytes : " + bytes);
+        }
+    }
+
+    /**
+     * 고아 파일 정리
+     * 업로드 경로의 파일 중 DB(tb_file)에 등록되지 않은 파일을 찾아 삭제한다.
+     * 업로드 중인 파일과 경합하지 않도록 유예 시간이 지난 파일만 대상으로 한다.
+     */
+    @Scheduled(cron = "${board.file.orphan-scan.cron:0 30 4 * * *}")
+    public void scanOrphans() {
+        Path root = fileUtils.getUploadRoot();
+        if (orphanScanEnabled == false || Files.isDirectory(root) == false) {
+            return;
+        }
+
+        List<Path> reservedRoots = fileUtils.getReservedRoots();
+        Instant threshold = Instant.now().minus(Duration.ofHours(orphanGraceHours));
+        long[] result = new long[2];    // [0] 고아 파일 수, [1] 고아 파일 용량
+
+        try (Stream<Path> paths = Files.walk(root)) {
+            Map<String, Path> candidates = new HashMap<>();
+            paths.filter(path -> reservedRoots.stream().noneMatch(path::startsWith))
+                    .filter(Files::isRegularFile)
+                    .filter(path -> isOlderThan(path, threshold))
+                    .forEach(path -> {
+                        candidates.put(path.getFileName().toString(), path);
+                        if (candidates.size() >= batchSize) {
+                            removeOrphans(candidates, result);
+                        }
+                    });
+            removeOrphans(candidates, result);
+        } catch (IOException e) {
+            log.error("FileReaper ===> orphan scan failed : " + root, e);
+            return;
+        }
+
+        if (orphanScanDryRun == false) {
+            orphanFiles.addAndGet(result[0]);
+            reclaimedBytes.addAndGet(result[1]);
+        }
+        log.info("FileReaper ===> orphan files : " + result[0] + ", bytes : " + result[1] + (orphanScanDryRun ? " (dry-run)" : ""));
+    }
+
+    /**
+     * 고아 파일 삭제 (1 batch)
+     * @param candidates - 저장 파일명 : 파일 경로
+     * @param result - [0] 고아 파일 수, [1] 고아 파일 용량
+     */
+    private void removeOrphans(final Map<String, Path> candidates, final long[] result) {
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        Set<String> registered = new HashSet<>(fileMapper.findAllSaveNamesIn(new ArrayList<>(candidates.keySet())));
+        List<Path> orphans = candidates.entrySet().stream()
+                .filter(entry -> registered.contains(entry.getKey()) == false)
+                .map(Map.Entry::getValue)
+                .collect(Collectors.toList());
+        candidates.clear();
+
+        for (Path orphan : orphans) {
+            try {
+                long size = Files.size(orphan);
+                if (orphanScanDryRun == false) {
+                    Files.deleteIfExists(orphan);
+                    throttle();
+                }
+                result[0]++;
+                result[1] += size;
+            } catch (IOException e) {
+                log.warn("FileReaper ===> orphan delete failed : " + orphan);
+            }
+        }
+    }
+
+    // 파일 최종 수정일시가 기준일시 이전인지 확인
+    private boolean isOlderThan(final Path path, final Instant threshold) {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class).lastModifiedTime().toInstant().isBefore(threshold);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    // 초당 삭제 파일 수 제한
+    private void throttle() {
+        if (filesPerSecond <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MICROSECONDS.sleep(1_000_000L / filesPerSecond);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public long getReclaimedFiles() {
+        return reclaimedFiles.get();
+    }
+
+    public long getReclaimedBytes() {
+        return reclaimedBytes.get();
+    }
+
+    public long getOrphanFiles() {
+        return orphanFiles.get();
+    }
+
+    /**
+     * 파일 정리 현황
+     * @return 누적 삭제 파일 수, 누적 회수 용량 (디스크 파일, 팩 세그먼트), 누적 고아 파일 수, 삭제 대기 세그먼트 수
+     */
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", enabled);
+        status.put("reclaimedFiles", getReclaimedFiles());
+        status.put("reclaimedBytes", getReclaimedBytes());
+        status.put("orphanFiles", getOrphanFiles());
+        status.put("orphanScanDryRun", orphanScanDryRun);
+        status.put("packReclaimedBytes", packFileStorage.getReclaimedBytes());
+        status.put("packPendingDeleteSegments", packFileStorage.getPendingDeleteSegments());
+        return status;
+    }
+
+}
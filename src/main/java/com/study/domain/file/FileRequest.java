@@ -11,12 +11,18 @@ public class FileRequest {
     private String originalName;    // 원본 파일명
     private String saveName;        // 저장 파일명
     private long size;              // 파일 크기
+    private StorageType storageType;    // 저장소 유형
+    private Long packId;            // 팩 세그먼트 번호
+    private Long packOffset;        // 팩 세그먼트 내 위치
 
     @Builder
-    public FileRequest(String originalName, String saveName, long size) {
+    public FileRequest(String originalName, String saveName, long size, StorageType storageType, Long packId, Long packOffset) {
         this.originalName = originalName;
         this.saveName = saveName;
         this.size = size;
+        this.storageType = (storageType == null) ? StorageType.DISK : storageType;
+        this.packId = packId;
+        this.packOffset = packOffset;
     }
 
     public void setPostId(Long postId) {
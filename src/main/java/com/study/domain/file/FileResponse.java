@@ -12,6 +12,9 @@ public class FileResponse {
     private String originalName;          // 원본 파일명
     private String saveName;              // 저장 파일명
     private long size;                    // 파일 크기
+    private StorageType storageType;      // 저장소 유형
+    private Long packId;                  // 팩 세그먼트 번호
+    private Long packOffset;              // 팩 세그먼트 내 위치
     private Boolean deleteYn;             // 삭제 여부
     private LocalDateTime createdDate;    // 생성일시
     private LocalDateTime deletedDate;    // 삭제일시
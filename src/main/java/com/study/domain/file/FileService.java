@@ -1,5 +1,8 @@
 package com.study.domain.file;
 
+import com.study.domain.changelog.ChangeEntity;
+import com.study.domain.changelog.ChangeLogWriter;
+import com.study.domain.changelog.ChangeOperation;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
@@ -13,6 +16,8 @@ import java.util.List;
 public class FileService {
 
     private final FileMapper fileMapper;
+    private final ChangeLogWriter changeLogWriter;
+    private final FileContentCache fileContentCache;
 
     /**
      * 파일 정보 저장 (to Database)
@@ -28,6 +33,7 @@ public class FileService {
             file.setPostId(postId);
         }
         fileMapper.saveAll(files);
+        changeLogWriter.append(ChangeEntity.POST_FILES, postId, ChangeOperation.INSERT);
     }
 
     /**
@@ -61,6 +67,19 @@ public class FileService {
             return;
         }
         fileMapper.deleteAllByIds(ids);
+        changeLogWriter.appendAll(ChangeEntity.FILE, ids, ChangeOperation.DELETE);
+        fileContentCache.invalidate(ids);
+    }
+
+    /**
+     * 파일 삭제 (from Database)
+     * @param postId - 게시글 번호 (FK)
+     */
+    @Transactional
+    public void deleteAllFileByPostId(final Long postId) {
+        fileMapper.deleteAllByPostId(postId);
+        changeLogWriter.append(ChangeEntity.POST_FILES, postId, ChangeOperation.DELETE);
+        fileContentCache.invalidatePost(postId);
     }
 
     /**
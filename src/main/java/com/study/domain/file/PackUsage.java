@@ -0,0 +1,11 @@
+package com.study.domain.file;
+
+import lombok.Getter;
+
+@Getter
+public class PackUsage {
+
+    private Long packId;       // 세그먼트 번호
+    private long liveBytes;    // 살아있는 파일 용량 합계
+
+}
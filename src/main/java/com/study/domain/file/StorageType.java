@@ -0,0 +1,7 @@
+package com.study.domain.file;
+
+public enum StorageType {
+
+    DISK, PACK
+
+}
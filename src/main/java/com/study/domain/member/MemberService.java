@@ -1,5 +1,6 @@
 package com.study.domain.member;
 
+import com.study.common.jfr.PasswordCheckEvent;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -26,7 +27,7 @@ public class MemberService {
         String encodedPassword = (member == null) ? "" : member.getPassword();
 
         // 2. 회원 정보 및 비밀번호 체크
-        if (member == null || passwordEncoder.matches(password, encodedPassword) == false) {
+        if (member == null || matchesPassword(password, encodedPassword) == false) {
             return null;
         }
 
@@ -35,6 +36,20 @@ public class MemberService {
         return member;
     }
 
+    /**
+     * 비밀번호 검증 (JFR 이벤트 기록)
+     * @param password - 비밀번호
+     * @param encodedPassword - 암호화된 비밀번호
+     * @return 일치 여부
+     */
+    private boolean matchesPassword(final String password, final String encodedPassword) {
+        PasswordCheckEvent event = new PasswordCheckEvent();
+        event.begin();
+        boolean matched = passwordEncoder.matches(password, encodedPassword);
+        event.finish(passwordEncoder.getClass().getSimpleName(), matched);
+        return matched;
+    }
+
     /**
      * 회원 정보 저장 (회원가입)
      * @param params - 회원 정보
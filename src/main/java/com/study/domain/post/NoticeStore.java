@@ -0,0 +1,88 @@
+package com.study.domain.post;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 공지글 저장소 (in-memory)
+ * 애플리케이션 시작 시 공지글을 로딩하고, 게시글 저장/수정/삭제 시 갱신한다. (트랜잭션 안에서 호출된 경우 커밋 후 반영)
+ * 조회가 대부분이므로 변경 시 새 리스트를 만들어 교체(copy-on-write)한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NoticeStore {
+
+    private final PostMapper postMapper;
+
+    private volatile List<PostListResponse> notices = Collections.emptyList();
+
+    @PostConstruct
+    public synchronized void load() {
+        notices = Collections.unmodifiableList(postMapper.findAllNotice());
+    }
+
+    /**
+     * 공지글 리스트 조회
+     * @return 공지글 리스트 (최신순)
+     */
+    public List<PostListResponse> findAll() {
+        return notices;
+    }
+
+    /**
+     * 공지글 추가 (이미 존재하는 경우 교체, 삭제된 게시글은 제외)
+     * @param post - 게시글 상세정보
+     */
+    public void put(final PostListResponse post) {
+        if (post == null || Boolean.TRUE.equals(post.getDeleteYn())) {
+            return;
+        }
+        runAfterCommit(() -> putNow(post));
+    }
+
+    /**
+     * 공지글 제거
+     * @param id - PK
+     */
+    public void remove(final Long id) {
+        runAfterCommit(() -> removeNow(id));
+    }
+
+    private synchronized void putNow(final PostListResponse post) {
+        List<PostListResponse> copy = new ArrayList<>(notices);
+        copy.removeIf(notice -> notice.getId().equals(post.getId()));
+        copy.add(post);
+        copy.sort(Comparator.comparing(PostListResponse::getId).reversed());
+        notices = Collections.unmodifiableList(copy);
+    }
+
+    private synchronized void removeNow(final Long id) {
+        List<PostListResponse> copy = new ArrayList<>(notices);
+        if (copy.removeIf(notice -> notice.getId().equals(id))) {
+            notices = Collections.unmodifiableList(copy);
+        }
+    }
+
+    // 트랜잭션 안에서 호출된 경우 커밋 후 실행 (롤백 시 실행하지 않음), 그 외에는 즉시 실행
+    private static void runAfterCommit(final Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive() == false) {
+            update.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+        });
+    }
+
+}
@@ -0,0 +1,242 @@
+package com.study.domain.post;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 인기글 랭킹 (in-memory)
+ * 조회/댓글 이벤트가 발생할 때마다 점수를 갱신하며, 점수는 반감기(half-life)에 따라 지수적으로 감쇠한다.
+ *
+ * 감쇠는 forward decay 방식으로 처리한다. 이벤트 가중치에 exp(λ(t - t0))를 곱해 누적하면 모든 게시글의 점수가
+ * 같은 비율로 감쇠하므로, 저장된 값을 다시 계산하지 않아도 순위가 유지된다. 누적 값이 커지면 기준 시각(t0)을 옮겨 정규화한다.
+ *
+ * 후보는 (K x candidate-factor)개로 제한한다. 후보가 가득 찬 상태에서 새 게시글의 이벤트가 발생하면
+ * 가장 낮은 점수의 후보를 제거하고 그 점수를 이어받는다. (Space-Saving : 점수는 과대 추정될 수 있으나 상위권은 보존됨)
+ * 조회 요청은 변경이 있을 때만 다시 만드는 상위 K개 스냅샷을 반환한다.
+ */
+@Slf4j
+@Component
+public class PopularPostRanker {
+
+    private static final double RENORMALIZE_HALF_LIVES = 50;
+
+    private final PostMapper postMapper;
+    private final int topK;
+    private final int capacity;
+    private final double lambda;            // 감쇠 상수 (ln2 / 반감기, 1/ms)
+    private final double viewWeight;
+    private final double commentWeight;
+    private final int rebuildWindowDays;
+
+    private final Map<Long, Candidate> candidates = new HashMap<>();    // 게시글 번호 : 후보
+    private long epoch = System.currentTimeMillis();                    // 기준 시각 (t0)
+    private volatile List<PopularPostResponse> snapshot = Collections.emptyList();
+    private volatile boolean dirty;
+
+    public PopularPostRanker(final PostMapper postMapper,
+                             @Value("${board.popular.k:10}") final int topK,
+                             @Value("${board.popular.candidate-factor:5}") final int candidateFactor,
+                             @Value("${board.popular.half-life-minutes:360}") final long halfLifeMinutes,
+                             @Value("${board.popular.view-weight:1}") final double viewWeight,
+                             @Value("${board.popular.comment-weight:5}") final double commentWeight,
+                             @Value("${board.popular.rebuild-window-days:7}") final int rebuildWindowDays) {
+        this.postMapper = postMapper;
+        this.topK = topK;
+        this.capacity = topK * Math.max(1, candidateFactor);
+        this.lambda = Math.log(2) / (halfLifeMinutes * 60_000d);
+        this.viewWeight = viewWeight;
+        this.commentWeight = commentWeight;
+        this.rebuildWindowDays = rebuildWindowDays;
+    }
+
+    /**
+     * 랭킹 초기화 (from Database)
+     * 최근 게시글의 조회 수/댓글 수를 작성 시점에 발생한 이벤트로 간주하여 점수를 계산한다.
+     */
+    @PostConstruct
+    public synchronized void rebuild() {
+        candidates.clear();
+        epoch = System.currentTimeMillis();
+
+        LocalDateTime since = LocalDateTime.now().minusDays(rebuildWindowDays);
+        for (PopularPostResponse post : postMapper.findAllPopularCandidates(since, capacity)) {
+            Candidate candidate = new Candidate(post.getId(), post.getTitle(), post.getWriter(), post.getCreatedDate());
+            candidate.viewCnt = post.getViewCnt();
+            candidate.commentCnt = post.getCommentCnt();
+            long createdAt = post.getCreatedDate().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            candidate.score = (post.getViewCnt() * viewWeight + post.getCommentCnt() * commentWeight) * Math.exp(lambda * (createdAt - epoch));
+            candidates.put(post.getId(), candidate);
+        }
+        dirty = true;
+        log.info("PopularPostRanker ===> rebuilt with " + candidates.size() + " candidates");
+    }
+
+    /**
+     * 조회 이벤트 반영
+     * @param post - 게시글 상세정보
+     */
+    public synchronized void recordView(final PostListResponse post) {
+        Candidate candidate = admit(post.getId(), post);
+        candidate.viewCnt = post.getViewCnt();
+        increase(candidate, viewWeight);
+    }
+
+    /**
+     * 댓글 이벤트 반영
+     * 후보가 아닌 게시글인 경우, 후보로 등록하기 위해 게시글 정보를 조회한다.
+     * @param postId - 게시글 번호
+     */
+    public void recordComment(final Long postId) {
+        synchronized (this) {
+            Candidate candidate = candidates.get(postId);
+            if (candidate != null) {
+                candidate.commentCnt++;
+                increase(candidate, commentWeight);
+                return;
+            }
+        }
+
+        PostResponse post = postMapper.findById(postId);
+        if (post == null || Boolean.TRUE.equals(post.getDeleteYn())) {
+            return;
+        }
+        synchronized (this) {
+            Candidate candidate = admit(postId, post);
+            candidate.commentCnt++;
+            increase(candidate, commentWeight);
+        }
+    }
+
+    /**
+     * 댓글 삭제 반영
+     * 댓글 작성 시점에 더한 가중치를 빼므로, 삭제된 댓글은 점수에 남지 않는다. (후보가 아닌 게시글은 무시)
+     * @param postId - 게시글 번호
+     * @param createdDate - 삭제된 댓글의 작성일시
+     */
+    public synchronized void recordCommentDeletion(final Long postId, final LocalDateTime createdDate) {
+        Candidate candidate = candidates.get(postId);
+        if (candidate == null) {
+            return;
+        }
+        long createdAt = createdDate.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        candidate.commentCnt = Math.max(0, candidate.commentCnt - 1);
+        candidate.score = Math.max(0, candidate.score - commentWeight * Math.exp(lambda * (createdAt - epoch)));
+        dirty = true;
+    }
+
+    /**
+     * 게시글 정보 갱신 (제목/작성자 수정 시)
+     * @param post - 게시글 상세정보
+     */
+    public synchronized void update(final PostListResponse post) {
+        Candidate candidate = candidates.get(post.getId());
+        if (candidate != null) {
+            candidate.title = post.getTitle();
+            candidate.writer = post.getWriter();
+            dirty = true;
+        }
+    }
+
+    /**
+     * 게시글 제거 (삭제 시)
+     * @param id - PK
+     */
+    public synchronized void remove(final Long id) {
+        if (candidates.remove(id) != null) {
+            dirty = true;
+        }
+    }
+
+    /**
+     * 인기글 리스트 조회
+     * @param limit - 조회 수 (최대 K)
+     * @return 인기글 리스트 (점수 내림차순)
+     */
+    public List<PopularPostResponse> findAll(final int limit) {
+        List<PopularPostResponse> posts = snapshot;
+        if (dirty) {
+            posts = buildSnapshot();
+        }
+        return (limit < posts.size()) ? posts.subList(0, Math.max(0, limit)) : posts;
+    }
+
+    // 상위 K개 스냅샷 생성
+    private synchronized List<PopularPostResponse> buildSnapshot() {
+        if (dirty == false) {
+            return snapshot;
+        }
+        double decay = Math.exp(-lambda * (System.currentTimeMillis() - epoch));
+        snapshot = candidates.values().stream()
+                .sorted(Comparator.comparingDouble((Candidate candidate) -> candidate.score).reversed())
+                .limit(topK)
+                .map(candidate -> new PopularPostResponse(candidate.id, candidate.title, candidate.writer,
+                        candidate.viewCnt, candidate.commentCnt, candidate.createdDate, candidate.score * decay))
+                .collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList));
+        dirty = false;
+        return snapshot;
+    }
+
+    // 후보 조회 (후보가 아닌 경우 등록, 후보가 가득 찬 경우 최저 점수 후보를 대체)
+    private Candidate admit(final Long id, final PostListResponse post) {
+        Candidate candidate = candidates.get(id);
+        if (candidate != null) {
+            return candidate;
+        }
+
+        candidate = new Candidate(id, post.getTitle(), post.getWriter(), post.getCreatedDate());
+        candidate.viewCnt = post.getViewCnt();
+        if (candidates.size() >= capacity) {
+            Candidate min = candidates.values().stream().min(Comparator.comparingDouble(c -> c.score)).orElseThrow();
+            candidates.remove(min.id);
+            candidate.score = min.score;
+        }
+        candidates.put(id, candidate);
+        return candidate;
+    }
+
+    // 점수 증가 (현재 시각 기준 가중치)
+    private void increase(final Candidate candidate, final double weight) {
+        long now = System.currentTimeMillis();
+        if (lambda * (now - epoch) > Math.log(2) * RENORMALIZE_HALF_LIVES) {
+            double factor = Math.exp(-lambda * (now - epoch));
+            candidates.values().forEach(c -> c.score *= factor);
+            epoch = now;
+        }
+        candidate.score += weight * Math.exp(lambda * (now - epoch));
+        dirty = true;
+    }
+
+    /**
+     * 인기글 후보
+     */
+    private static class Candidate {
+
+        private final Long id;
+        private final LocalDateTime createdDate;
+        private String title;
+        private String writer;
+        private int viewCnt;
+        private int commentCnt;
+        private double score;    // 기준 시각(t0) 기준 누적 점수
+
+        Candidate(final Long id, final String title, final String writer, final LocalDateTime createdDate) {
+            this.id = id;
+            this.title = title;
+            this.writer = writer;
+            this.createdDate = createdDate;
+        }
+
+    }
+
+}
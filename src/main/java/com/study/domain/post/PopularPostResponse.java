@@ -0,0 +1,23 @@
+package com.study.domain.post;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class PopularPostResponse {
+
+    private Long id;                      // PK
+    private String title;                 // 제목
+    private String writer;                // 작성자
+    private int viewCnt;                  // 조회 수
+    private int commentCnt;               // 댓글 수
+    private LocalDateTime createdDate;    // 생성일시
+    private double score;                 // 인기 점수 (현재 시점 기준으로 감쇠된 점수)
+
+}
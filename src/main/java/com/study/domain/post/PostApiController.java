@@ -0,0 +1,46 @@
+package com.study.domain.post;
+
+import com.study.domain.comment.CommentSearchDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class PostApiController {
+
+    private final PostService postService;
+    private final PostBundleService postBundleService;
+
+    // 인기글 리스트 조회
+    @GetMapping("/posts/popular")
+    public List<PopularPostResponse> findAllPopularPost(@RequestParam(defaultValue = "10") final int limit) {
+        return postService.findAllPopularPost(limit);
+    }
+
+    // 게시글 제목 자동완성
+    @GetMapping("/posts/autocomplete")
+    public List<PostSuggestionResponse> findAllTitleSuggestion(@RequestParam final String keyword,
+                                                               @RequestParam(defaultValue = "10") final int limit,
+                                                               @RequestParam(defaultValue = "recent") final String sort) {
+        return postService.findAllTitleSuggestion(keyword, limit, sort);
+    }
+
+
+    // 게시글 묶음 조회 (게시글 + 첨부파일 리스트 + 댓글 페이지)
+    @GetMapping("/posts/{postId}/bundle")
+    public PostBundleResponse findPostBundle(@PathVariable final Long postId, final CommentSearchDto params) {
+        PostBundleResponse bundle = postBundleService.findPostBundle(postId, params);
+        if (bundle.getPost() == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "post not found : " + postId);
+        }
+        return bundle;
+    }
+
+}
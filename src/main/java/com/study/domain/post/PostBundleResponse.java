@@ -0,0 +1,19 @@
+package com.study.domain.post;
+
+import com.study.common.paging.PagingResponse;
+import com.study.domain.comment.CommentResponse;
+import com.study.domain.file.FileResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class PostBundleResponse {
+
+    private PostResponse post;                            // 게시글 상세정보
+    private List<FileResponse> files;                     // 첨부파일 리스트
+    private PagingResponse<CommentResponse> comments;     // 댓글 리스트 (첫 페이지)
+
+}
@@ -0,0 +1,158 @@
+package com.study.domain.post;
+
+import com.study.common.paging.PagingResponse;
+import com.study.domain.comment.CommentResponse;
+import com.study.domain.comment.CommentSearchDto;
+import com.study.domain.comment.CommentService;
+import com.study.domain.file.FileResponse;
+import com.study.domain.file.FileService;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.annotation.PreDestroy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 묶음 조회 (게시글 + 첨부파일 리스트 + 댓글 첫 페이지)
+ * 첨부파일/댓글 조회는 크기가 제한된 스레드 풀에서, 게시글 조회는 요청 스레드에서 동시에 실행하므로,
+ * 응답 시간은 세 조회 시간의 합이 아닌 가장 느린 조회 시간이 된다.
+ * 게시글 조회는 조회 수 증가(쓰기 트랜잭션)를 포함하므로 스레드 풀에 넘기지 않으며, 제한 시간을 초과해도 취소(interrupt)하지 않는다.
+ *
+ * 풀 스레드도 각각 커넥션을 사용하므로, 스레드 수는 커넥션 풀 크기보다 작아야 한다. (설정하지 않으면 커넥션 풀 크기의 절반)
+ * 스레드 풀과 대기열이 가득 찬 경우 요청 스레드에서 직접 실행한다. (순차 실행으로 저하)
+ */
+@Slf4j
+@Service
+public class PostBundleService {
+
+    private final PostService postService;
+    private final FileService fileService;
+    private final CommentService commentService;
+    private final ThreadPoolExecutor executor;
+
+    @Value("${board.bundle.timeout-ms:2000}")
+    private long timeoutMs;
+
+    public PostBundleService(final PostService postService, final FileService fileService, final CommentService commentService,
+                             @Value("${board.bundle.threads:0}") final int configuredThreads,
+                             @Value("${board.bundle.queue-capacity:64}") final int queueCapacity,
+                             @Value("${spring.datasource.hikari.maximum-pool-size:10}") final int maxPoolSize) {
+        this.postService = postService;
+        this.fileService = fileService;
+        this.commentService = commentService;
+
+        int threads = (configuredThreads > 0) ? configuredThreads : Math.max(1, maxPoolSize / 2);
+        if (threads >= maxPoolSize) {
+            throw new IllegalStateException("board.bundle.threads (" + threads + ") must be less than the connection pool size (" + maxPoolSize + ")");
+        }
+        log.info("PostBundle ===> threads : " + threads + ", connection pool : " + maxPoolSize);
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "post-bundle-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 게시글 묶음 조회
+     * @param id - PK
+     * @param commentParams - 댓글 search conditions
+     * @return 게시글 묶음
+     */
+    public PostBundleResponse findPostBundle(final Long id, final CommentSearchDto commentParams) {
+        return load(() -> postService.findPostById(id), id, commentParams);
+    }
+
+    /**
+     * 게시글 묶음 조회 (상세 페이지, 조회 수 증가)
+     * @param id - PK
+     * @param commentParams - 댓글 search conditions
+     * @return 게시글 묶음
+     */
+    public PostBundleResponse viewPostBundle(final Long id, final CommentSearchDto commentParams) {
+        return load(() -> postService.viewPost(id), id, commentParams);
+    }
+
+    /**
+     * 게시글/첨부파일/댓글 동시 조회
+     * 첨부파일/댓글 조회를 스레드 풀에 등록한 후 게시글은 요청 스레드에서 조회한다.
+     * 세 조회 전체에 하나의 제한 시간을 적용하며, 시간을 초과하면 남은 (읽기 전용) 조회를 취소하고 504 응답으로 실패한다.
+     * @param post - 게시글 조회
+     * @param id - PK
+     * @param commentParams - 댓글 search conditions
+     * @return 게시글 묶음
+     */
+    private PostBundleResponse load(final Supplier<PostResponse> post, final Long id, final CommentSearchDto commentParams) {
+        commentParams.setPostId(id);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        Future<List<FileResponse>> filesFuture = submit(() -> fileService.findAllFileByPostId(id));
+        Future<PagingResponse<CommentResponse>> commentsFuture = submit(() -> commentService.findAllComment(commentParams));
+
+        try {
+            PostResponse postResponse = post.get();
+            return new PostBundleResponse(postResponse, get(filesFuture, deadline), get(commentsFuture, deadline));
+        } catch (TimeoutException e) {
+            log.warn("PostBundle ===> post " + id + " timed out after " + timeoutMs + " ms");
+            throw new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, "post bundle timed out", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("post bundle interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            filesFuture.cancel(true);
+            commentsFuture.cancel(true);
+        }
+    }
+
+    // 요청 스레드의 MDC(correlation id)를 전달하여 실행 등록
+    private <T> Future<T> submit(final Callable<T> task) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        return executor.submit(() -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            if (context != null) {
+                MDC.setContextMap(context);
+            }
+            try {
+                return task.call();
+            } finally {
+                if (previous != null) {
+                    MDC.setContextMap(previous);
+                } else {
+                    MDC.clear();
+                }
+            }
+        });
+    }
+
+    // 남은 제한 시간 동안 결과 대기
+    private static <T> T get(final Future<T> future, final long deadline) throws InterruptedException, ExecutionException, TimeoutException {
+        return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+    }
+
+}
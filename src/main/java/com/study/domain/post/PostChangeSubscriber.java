@@ -0,0 +1,63 @@
+package com.study.domain.post;
+
+import com.study.domain.changelog.ChangeEntity;
+import com.study.domain.changelog.ChangeLogResponse;
+import com.study.domain.changelog.ChangeLogSubscriber;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 다른 노드의 게시글 변경 반영
+ * 게시글 검색 결과 캐시를 무효화하고, 변경된 게시글을 다시 조회하여 공지글/자동완성/인기글 상태를 갱신한다.
+ * 공지글 저장소는 변경된 게시글이 공지글이거나 공지글이었던 경우에만 해당 게시글을 추가/제거한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostChangeSubscriber implements ChangeLogSubscriber {
+
+    private final PostMapper postMapper;
+    private final NoticeStore noticeStore;
+    private final PostSearchCache postSearchCache;
+    private final TitleAutocomplete titleAutocomplete;
+    private final PopularPostRanker popularPostRanker;
+
+    @Override
+    public void onChanges(final List<ChangeLogResponse> changes) {
+        List<Long> ids = changes.stream()
+                .filter(change -> change.getEntity() == ChangeEntity.POST)
+                .map(ChangeLogResponse::getEntityId)
+                .collect(Collectors.toList());
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        postSearchCache.invalidate();
+        Map<Long, PostListResponse> posts = postMapper.findAllByIds(ids).stream()
+                .collect(Collectors.toMap(PostListResponse::getId, Function.identity()));
+        Set<Long> noticeIds = noticeStore.findAll().stream().map(PostListResponse::getId).collect(Collectors.toSet());
+        for (Long id : ids) {
+            PostListResponse post = posts.get(id);
+            boolean deleted = post == null || Boolean.TRUE.equals(post.getDeleteYn());
+            if (deleted) {
+                titleAutocomplete.remove(id);
+                popularPostRanker.remove(id);
+            } else {
+                titleAutocomplete.put(id, post.getTitle(), post.getViewCnt());
+                popularPostRanker.update(post);
+            }
+
+            if (deleted == false && Boolean.TRUE.equals(post.getNoticeYn())) {
+                noticeStore.put(post);
+            } else if (noticeIds.contains(id)) {
+                noticeStore.remove(id);
+            }
+        }
+    }
+
+}
@@ -4,13 +4,18 @@ import com.study.common.dto.MessageDto;
 import com.study.common.dto.SearchDto;
 import com.study.common.file.FileUtils;
 import com.study.common.paging.PagingResponse;
+import com.study.domain.comment.CommentSearchDto;
+import com.study.domain.draft.DraftService;
 import com.study.domain.file.FileRequest;
-import com.study.domain.file.FileResponse;
 import com.study.domain.file.FileService;
+import com.study.domain.member.MemberResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.HashMap;
 import java.util.List;
@@ -23,6 +28,14 @@ public class PostController {
     private final PostService postService;
     private final FileService fileService;
     private final FileUtils fileUtils;
+    private final PostBundleService postBundleService;
+    private final DraftService draftService;
+
+    @Value("${board.bundle.render:true}")
+    private boolean renderBundle;
+
+    @Value("${board.draft.autosave-interval-ms:3000}")
+    private long autosaveInterval;
 
     // 사용자에게 메시지를 전달하고, 페이지를 리다이렉트 한다.
     private String showMessageAndRedirect(final MessageDto params, Model model) {
@@ -31,6 +44,14 @@ public class PostController {
     }
 
 
+    // 게시글 저장/수정이 완료된 임시 저장 글 삭제
+    private void deleteDraft(final MemberResponse loginMember, final Long postId) {
+        if (loginMember != null) {
+            draftService.deleteDraft(loginMember.getId(), postId);
+        }
+    }
+
+
     // 쿼리 스트링 파라미터를 Map에 담아 반환
     private Map<String, Object> queryParamsToMap(final SearchDto queryParams) {
         Map<String, Object> data = new HashMap<>();
@@ -45,11 +66,21 @@ public class PostController {
 
     // 게시글 작성 페이지
     @GetMapping("/post/write.do")
-    public String openPostWrite(@RequestParam(value = "id", required = false) final Long id, Model model) {
+    public String openPostWrite(@RequestParam(value = "id", required = false) final Long id,
+                                @SessionAttribute(name = "loginMember", required = false) final MemberResponse loginMember, Model model) {
         if (id != null) {
-            PostResponse post = postService.findPostById(id);
+            PostResponse post = postService.findLivePostById(id);
+            if (post == null) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "post not found : " + id);
+            }
             model.addAttribute("post", post);
         }
+
+        // 임시 저장된 글이 있는 경우, 페이지에서 복원 여부 확인
+        if (loginMember != null) {
+            model.addAttribute("draft", draftService.findDraft(loginMember.getId(), id));
+        }
+        model.addAttribute("autosaveInterval", autosaveInterval);
         return "post/write";
     }
 
@@ -57,7 +88,7 @@ public class PostController {
     // 게시글 리스트 페이지
     @GetMapping("/post/list.do")
     public String openPostList(@ModelAttribute("params") final SearchDto params, Model model) {
-        PagingResponse<PostResponse> response = postService.findAllPost(params);
+        PagingResponse<PostListResponse> response = postService.findAllPost(params);
         model.addAttribute("response", response);
         return "post/list";
     }
@@ -65,17 +96,32 @@ public class PostController {
 
     // 게시글 상세 페이지
     @GetMapping("/post/view.do")
-    public String openPostView(@RequestParam final Long id, Model model) {
-        PostResponse post = postService.findPostById(id);
-        model.addAttribute("post", post);
+    public String openPostView(@RequestParam final Long id, @RequestParam(defaultValue = "1") final int page, Model model) {
+        if (renderBundle == false) {
+            model.addAttribute("post", postService.viewPost(id));
+            return "post/view";
+        }
+
+        // 게시글/첨부파일/댓글을 동시에 조회하여 페이지에 포함 (시간 초과 시 첨부파일/댓글은 페이지에서 API로 조회)
+        CommentSearchDto commentParams = new CommentSearchDto();
+        commentParams.setPage(page);
+        commentParams.setRecordSize(5);
+        try {
+            PostBundleResponse bundle = postBundleService.viewPostBundle(id, commentParams);
+            model.addAttribute("post", bundle.getPost());
+            model.addAttribute("bundle", bundle);
+        } catch (ResponseStatusException e) {
+            model.addAttribute("post", postService.findPostById(id));
+        }
         return "post/view";
     }
 
 
     // 신규 게시글 생성
     @PostMapping("/post/save.do")
-    public String savePost(final PostRequest params, Model model) {
+    public String savePost(final PostRequest params, @SessionAttribute(name = "loginMember", required = false) final MemberResponse loginMember, Model model) {
         Long id = postService.savePost(params);
+        deleteDraft(loginMember, null);
         List<FileRequest> files = fileUtils.uploadFiles(params.getFiles());
         fileService.saveFiles(id, files);
         MessageDto message = new MessageDto("게시글 생성이 완료되었습니다.", "/post/list.do", RequestMethod.GET, null);
@@ -85,10 +131,12 @@ public class PostController {
 
     // 기존 게시글 수정
     @PostMapping("/post/update.do")
-    public String updatePost(final PostRequest params, final SearchDto queryParams, Model model) {
+    public String updatePost(final PostRequest params, final SearchDto queryParams,
+                             @SessionAttribute(name = "loginMember", required = false) final MemberResponse loginMember, Model model) {
 
-        // 1. 게시글 정보 수정
+        // 1. 게시글 정보 수정 (완료 후 임시 저장 글 삭제)
         postService.updatePost(params);
+        deleteDraft(loginMember, params.getId());
 
         // 2. 파일 업로드 (to disk)
         List<FileRequest> uploadFiles = fileUtils.uploadFiles(params.getFiles());
@@ -96,13 +144,7 @@ public class PostController {
         // 3. 파일 정보 저장 (to database)
         fileService.saveFiles(params.getId(), uploadFiles);
 
-        // 4. 삭제할 파일 정보 조회 (from database)
-        List<FileResponse> deleteFiles = fileService.findAllFileByIds(params.getRemoveFileIds());
-
-        // 5. 파일 삭제 (from disk)
-        fileUtils.deleteFiles(deleteFiles);
-
-        // 6. 파일 삭제 (from database)
+        // 4. 파일 삭제 (from database, 디스크의 파일은 FileReaper가 비동기로 정리)
         fileService.deleteAllFileByIds(params.getRemoveFileIds());
 
         MessageDto message = new MessageDto("게시글 수정이 완료되었습니다.", "/post/list.do", RequestMethod.GET, queryParamsToMap(queryParams));
@@ -0,0 +1,27 @@
+package com.study.domain.post;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 리스트 응답 (내용 제외)
+ * 리스트 조회는 내용(content) 대신 저장 시 만들어 둔 짧은 요약(excerpt)만 조회한다.
+ */
+@Getter
+public class PostListResponse {
+
+    private Long id;                       // PK
+    private String title;                  // 제목
+    private String writer;                 // 작성자
+    private int viewCnt;                   // 조회 수
+    private Boolean noticeYn;              // 공지글 여부
+    private Boolean deleteYn;              // 삭제 여부
+    private LocalDateTime createdDate;     // 생성일시
+    private LocalDateTime modifiedDate;    // 최종 수정일시
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String excerpt;                // 내용 요약
+
+}
@@ -2,7 +2,10 @@ package com.study.domain.post;
 
 import com.study.common.dto.SearchDto;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
@@ -23,6 +26,38 @@ public interface PostMapper {
      */
     PostResponse findById(Long id);
 
+    /**
+     * 아카이브된 게시글 상세정보 조회
+     *
+     * @param id - PK
+     * @return 게시글 상세정보
+     */
+    PostResponse findArchivedById(Long id);
+
+    /**
+     * 게시글 존재 여부 (운영 테이블, 삭제되지 않은 게시글)
+     *
+     * @param id - PK
+     * @return 존재 여부
+     */
+    boolean existsById(Long id);
+
+    /**
+     * 조회 수 증가
+     *
+     * @param id - PK
+     */
+    void increaseViewCount(Long id);
+
+    /**
+     * 인기글 후보 리스트 조회
+     *
+     * @param since - 조회 기준일시 (이후 작성된 게시글)
+     * @param limit - 최대 조회 수
+     * @return 인기글 후보 리스트 (조회 수 내림차순)
+     */
+    List<PopularPostResponse> findAllPopularCandidates(@Param("since") LocalDateTime since, @Param("limit") int limit);
+
     /**
      * 게시글 수정
      *
@@ -42,7 +77,29 @@ public interface PostMapper {
      *
      * @return 게시글 리스트
      */
-    List<PostResponse> findAll(SearchDto params);
+    List<PostListResponse> findAll(SearchDto params);
+
+    /**
+     * 게시글 리스트 조회 (PK 리스트)
+     *
+     * @param ids - PK 리스트
+     * @return 게시글 리스트 (순서 보장 안 됨)
+     */
+    List<PostListResponse> findAllByIds(List<Long> ids);
+
+    /**
+     * 게시글 제목 전체 조회 (제목 자동완성 색인 용도, 1건씩 handler로 전달)
+     *
+     * @param handler - 결과 처리 handler
+     */
+    void findAllTitles(ResultHandler<PostListResponse> handler);
+
+    /**
+     * 공지글 리스트 조회
+     *
+     * @return 공지글 리스트
+     */
+    List<PostListResponse> findAllNotice();
 
     /**
      * 게시글 수 카운팅
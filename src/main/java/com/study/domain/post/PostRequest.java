@@ -11,6 +11,8 @@ import java.util.List;
 @Setter
 public class PostRequest {
 
+    public static final int EXCERPT_LENGTH = 100;
+
     private Long id;                                          // PK
     private String title;                                     // 제목
     private String content;                                   // 내용
@@ -19,4 +21,29 @@ public class PostRequest {
     private List<MultipartFile> files = new ArrayList<>();    // 첨부파일 List
     private List<Long> removeFileIds = new ArrayList<>();     // 삭제할 첨부파일 id List
 
+    /**
+     * 내용 요약 (리스트 조회 용도로 저장)
+     * @return 공백을 정리한 내용의 앞부분
+     */
+    public String getExcerpt() {
+        return excerptOf(content);
+    }
+
+    /**
+     * 내용 요약 생성
+     * @param content - 내용
+     * @return 공백을 정리한 내용의 앞부분 (최대 EXCERPT_LENGTH자)
+     */
+    public static String excerptOf(final String content) {
+        if (content == null) {
+            return null;
+        }
+        String excerpt = content.replaceAll("\\s+", " ").trim();
+        if (excerpt.length() <= EXCERPT_LENGTH) {
+            return excerpt;
+        }
+        int end = Character.isHighSurrogate(excerpt.charAt(EXCERPT_LENGTH - 1)) ? EXCERPT_LENGTH - 1 : EXCERPT_LENGTH;
+        return excerpt.substring(0, end);
+    }
+
 }
\ No newline at end of file
@@ -2,19 +2,12 @@ package com.study.domain.post;
 
 import lombok.Getter;
 
-import java.time.LocalDateTime;
-
+/**
+ * 게시글 상세 응답 (리스트 응답 + 내용)
+ */
 @Getter
-public class PostResponse {
+public class PostResponse extends PostListResponse {
 
-    private Long id;                       // PK
-    private String title;                  // 제목
     private String content;                // 내용
-    private String writer;                 // 작성자
-    private int viewCnt;                   // 조회 수
-    private Boolean noticeYn;              // 공지글 여부
-    private Boolean deleteYn;              // 삭제 여부
-    private LocalDateTime createdDate;     // 생성일시
-    private LocalDateTime modifiedDate;    // 최종 수정일시
 
 }
@@ -0,0 +1,227 @@
+package com.study.domain.post;
+
+import com.study.common.dto.SearchDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 검색 결과 캐시
+ * (검색 유형, 키워드, 페이지, 페이지당 데이터 수)별로 게시글 번호 리스트와 전체 데이터 수만 저장한다.
+ * 게시글이 저장/수정/삭제되면 세대(generation)를 올려 이전 세대의 결과를 모두 무효화하며, 그 외에는 짧은 TTL 동안 유지한다.
+ * 조회 전에 읽은 세대로 저장하므로, 조회 도중 변경이 발생한 결과는 저장되더라도 사용되지 않는다.
+ */
+@Slf4j
+@Component
+public class PostSearchCache {
+
+    private static final Set<String> SEARCH_TYPES = Set.of("title", "content", "writer");    // 집계할 검색 유형 (그 외는 other)
+
+    private final AtomicLong generation = new AtomicLong();
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong[]> stats = new ConcurrentHashMap<>();    // 키워드 분류 : [hit, miss]
+
+    @Value("${board.search-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${board.search-cache.ttl-ms:30000}")
+    private long ttlMs;
+
+    @Value("${board.search-cache.max-entries:10000}")
+    private int maxEntries;
+
+    /**
+     * 현재 세대 조회 (검색 전에 조회하여 저장 시 전달)
+     * @return 세대
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * 캐시 전체 무효화 (게시글 변경 시)
+     * 트랜잭션 안에서 호출된 경우, 커밋 전에 다른 요청이 이전 데이터를 다시 저장할 수 있으므로 커밋 후에 한 번 더 무효화한다.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    generation.incrementAndGet();
+                }
+            });
+        }
+    }
+
+    /**
+     * 검색 결과 조회
+     * @param params - search conditions
+     * @return 검색 결과 (없거나 만료/무효화된 경우 null)
+     */
+    public Result find(final SearchDto params) {
+        if (enabled == false) {
+            return null;
+        }
+
+        Entry entry = entries.get(new Key(params));
+        boolean hit = entry != null && entry.generation == generation.get() && entry.expiresAt > System.currentTimeMillis();
+        AtomicLong[] counters = stats.computeIfAbsent(classify(params), name -> new AtomicLong[] { new AtomicLong(), new AtomicLong() });
+        counters[hit ? 0 : 1].incrementAndGet();
+        return hit ? entry.result : null;
+    }
+
+    /**
+     * 검색 결과 저장
+     * @param params - search conditions (페이지 번호는 Pagination 계산 전 요청 값)
+     * @param generation - 검색 전에 조회한 세대
+     * @param result - 검색 결과
+     */
+    public void put(final SearchDto params, final long generation, final Result result) {
+        if (enabled == false || generation != this.generation.get()) {
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            evict();
+        }
+        entries.put(new Key(params), new Entry(generation, System.currentTimeMillis() + ttlMs, result));
+    }
+
+    // 만료/무효화된 결과 제거 (그래도 가득 찬 경우 전체 제거)
+    private void evict() {
+        long current = generation.get();
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.generation != current || entry.expiresAt <= now);
+        if (entries.size() >= maxEntries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * 키워드 분류 (검색 유형 : 키워드 길이 구간)
+     * 짧은 키워드는 LIKE 검색 결과가 많고, 반복 검색되는 경향이 있어 별도로 집계한다.
+     * 검색 유형은 요청 값이므로, 정해진 유형 외의 값은 other로 묶어 분류 수를 제한한다.
+     * @param params - search conditions
+     * @return 키워드 분류
+     */
+    private String classify(final SearchDto params) {
+        String keyword = params.getKeyword();
+        if (StringUtils.hasText(keyword) == false) {
+            return "none";
+        }
+        String searchType = StringUtils.hasText(params.getSearchType()) == false ? "all"
+                : SEARCH_TYPES.contains(params.getSearchType()) ? params.getSearchType() : "other";
+        int length = keyword.trim().length();
+        String size = (length <= 1) ? "1" : (length <= 3) ? "2-3" : (length <= 7) ? "4-7" : "8+";
+        return searchType + ":" + size;
+    }
+
+    /**
+     * 만료/무효화된 결과 정리 및 적중률 로깅
+     */
+    @Scheduled(fixedDelayString = "${board.search-cache.report-interval-ms:300000}")
+    public void report() {
+        evict();
+        if (stats.isEmpty() == false) {
+            log.info("PostSearchCache ===> entries : " + entries.size() + ", hit rates : " + getHitRates());
+        }
+    }
+
+    /**
+     * 키워드 분류별 적중률 조회
+     * @return 키워드 분류 : 적중률 (0 ~ 1)
+     */
+    public Map<String, Double> getHitRates() {
+        Map<String, Double> rates = new TreeMap<>();
+        stats.forEach((name, counters) -> {
+            long hits = counters[0].get();
+            long total = hits + counters[1].get();
+            rates.put(name, (total == 0) ? 0d : (double) hits / total);
+        });
+        return rates;
+    }
+
+    /**
+     * 검색 결과 (게시글 번호 리스트, 전체 데이터 수)
+     */
+    public static class Result {
+
+        private final List<Long> ids;
+        private final int total;
+
+        public Result(final List<Long> ids, final int total) {
+            this.ids = List.copyOf(ids);
+            this.total = total;
+        }
+
+        public List<Long> getIds() {
+            return ids;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+    }
+
+    private static class Entry {
+
+        private final long generation;
+        private final long expiresAt;
+        private final Result result;
+
+        Entry(final long generation, final long expiresAt, final Result result) {
+            this.generation = generation;
+            this.expiresAt = expiresAt;
+            this.result = result;
+        }
+
+    }
+
+    private static class Key {
+
+        private final String searchType;
+        private final String keyword;
+        private final int page;
+        private final int recordSize;
+
+        Key(final SearchDto params) {
+            this.searchType = params.getSearchType();
+            this.keyword = params.getKeyword();
+            this.page = params.getPage();
+            this.recordSize = params.getRecordSize();
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o instanceof Key == false) {
+                return false;
+            }
+            Key key = (Key) o;
+            return page == key.page && recordSize == key.recordSize
+                    && Objects.equals(searchType, key.searchType) && Objects.equals(keyword, key.keyword);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(searchType, keyword, page, recordSize);
+        }
+
+    }
+
+}
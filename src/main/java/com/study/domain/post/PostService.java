@@ -3,18 +3,36 @@ package com.study.domain.post;
 import com.study.common.dto.SearchDto;
 import com.study.common.paging.Pagination;
 import com.study.common.paging.PagingResponse;
+import com.study.domain.changelog.ChangeEntity;
+import com.study.domain.changelog.ChangeLogWriter;
+import com.study.domain.changelog.ChangeOperation;
+import com.study.domain.file.FileService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ResponseStatusException;
 
 import javax.transaction.Transactional;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class PostService {
 
     private final PostMapper postMapper;
+    private final NoticeStore noticeStore;
+    private final PopularPostRanker popularPostRanker;
+    private final PostSearchCache postSearchCache;
+    private final TitleAutocomplete titleAutocomplete;
+    private final ChangeLogWriter changeLogWriter;
+    private final FileService fileService;
 
     /**
      * 게시글 저장
@@ -24,59 +42,209 @@ public class PostService {
     @Transactional
     public Long savePost(final PostRequest params) {
         postMapper.save(params);
+        changeLogWriter.append(ChangeEntity.POST, params.getId(), ChangeOperation.INSERT);
+        postSearchCache.invalidate();
+        titleAutocomplete.put(params.getId(), params.getTitle(), 0);
+        if (Boolean.TRUE.equals(params.getNoticeYn())) {
+            noticeStore.put(findListPostById(params.getId()));
+        }
         return params.getId();
     }
 
     /**
-     * 게시글 상세정보 조회
+     * 게시글 상세정보 조회 (운영 테이블에 없는 경우 아카이브 테이블 조회)
+     * 아카이브된 게시글도 조회되므로 읽기(상세/번들) 용도로만 사용한다.
      * @param id - PK
      * @return 게시글 상세정보
      */
     public PostResponse findPostById(final Long id) {
+        PostResponse post = postMapper.findById(id);
+        return (post != null) ? post : postMapper.findArchivedById(id);
+    }
+
+    /**
+     * 게시글 상세정보 조회 (운영 테이블만)
+     * 아카이브된 게시글은 읽기 전용이므로, 수정/첨부/임시 저장 등 쓰기 용도에서는 이 메서드로 조회한다.
+     * @param id - PK
+     * @return 게시글 상세정보 (아카이브된 게시글은 null)
+     */
+    public PostResponse findLivePostById(final Long id) {
         return postMapper.findById(id);
     }
 
+    /**
+     * 게시글 존재 여부 (운영 테이블, 삭제되지 않은 게시글)
+     * @param id - PK
+     * @return 존재 여부 (아카이브/삭제된 게시글은 false)
+     */
+    public boolean existsLivePost(final Long id) {
+        return postMapper.existsById(id);
+    }
+
+    /**
+     * 게시글 조회 (상세 페이지)
+     * 조회 수를 증가시키고 인기글 랭킹에 조회 이벤트를 반영한다.
+     * @param id - PK
+     * @return 게시글 상세정보
+     */
+    @Transactional
+    public PostResponse viewPost(final Long id) {
+        postMapper.increaseViewCount(id);
+        PostResponse post = postMapper.findById(id);
+        if (post == null) {
+            return postMapper.findArchivedById(id);
+        }
+        if (Boolean.TRUE.equals(post.getDeleteYn()) == false) {
+            popularPostRanker.recordView(post);
+            titleAutocomplete.recordView(id, post.getViewCnt());
+        }
+        return post;
+    }
+
+    /**
+     * 인기글 리스트 조회 (from 메모리)
+     * @param limit - 조회 수
+     * @return 인기글 리스트
+     */
+    public List<PopularPostResponse> findAllPopularPost(final int limit) {
+        return popularPostRanker.findAll(limit);
+    }
+
     /**
      * 게시글 수정
+     * 운영 테이블에 없는 게시글(아카이브된 게시글)은 수정할 수 없으므로 404 (변경 내역은 롤백)
      * @param params - 게시글 정보
      * @return PK
      */
     @Transactional
     public Long updatePost(final PostRequest params) {
         postMapper.update(params);
+        changeLogWriter.append(ChangeEntity.POST, params.getId(), ChangeOperation.UPDATE);
+        PostResponse post = postMapper.findById(params.getId());
+        if (post == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "post not found : " + params.getId());
+        }
+        postSearchCache.invalidate();
+        noticeStore.remove(params.getId());
+        if (Boolean.TRUE.equals(params.getNoticeYn())) {
+            noticeStore.put(findListPostById(params.getId()));
+        }
+        popularPostRanker.update(post);
+        titleAutocomplete.put(params.getId(), params.getTitle(), post.getViewCnt());
         return params.getId();
     }
 
     /**
      * 게시글 삭제
+     * 첨부파일도 같은 트랜잭션에서 삭제 처리한다. (디스크의 파일은 FileReaper가 비동기로 정리)
      * @param id - PK
      * @return PK
      */
+    @Transactional
     public Long deletePost(final Long id) {
         postMapper.deleteById(id);
+        changeLogWriter.append(ChangeEntity.POST, id, ChangeOperation.DELETE);
+        fileService.deleteAllFileByPostId(id);
+        postSearchCache.invalidate();
+        noticeStore.remove(id);
+        popularPostRanker.remove(id);
+        titleAutocomplete.remove(id);
         return id;
     }
 
+    /**
+     * 게시글 제목 추천 리스트 조회 (from 메모리)
+     * @param keyword - 입력 중인 검색어
+     * @param limit - 조회 수
+     * @param sort - 정렬 기준 (recent : 최신순, views : 조회 수 순)
+     * @return 추천 리스트
+     */
+    public List<PostSuggestionResponse> findAllTitleSuggestion(final String keyword, final int limit, final String sort) {
+        return titleAutocomplete.findAll(keyword, limit, sort);
+    }
+
     /**
      * 게시글 리스트 조회
+     * 검색 키워드가 없는 경우, 공지글은 페이징 대상에서 제외하고 첫 페이지 상단에 고정한다. (공지글은 메모리에서 조회)
+     * 검색 결과(게시글 번호 리스트, 전체 데이터 수)는 PostSearchCache에 저장하며, 캐시된 경우 게시글 번호로 상세정보만 조회한다.
      * @param params - search conditions
      * @return list & pagination information
      */
-    public PagingResponse<PostResponse> findAllPost(final SearchDto params) {
+    public PagingResponse<PostListResponse> findAllPost(final SearchDto params) {
+
+        // 공지글 고정 여부
+        boolean pinNotice = StringUtils.hasText(params.getKeyword()) == false;
+        params.setExcludeNotice(pinNotice);
 
-        // 조건에 해당하는 데이터가 없는 경우, 응답 데이터에 비어있는 리스트와 null을 담아 반환
-        int count = postMapper.count(params);
+        // 캐시된 검색 결과 조회 (Pagination 계산 시 페이지 번호가 바뀔 수 있으므로 먼저 조회)
+        long generation = postSearchCache.getGeneration();
+        PostSearchCache.Result cached = postSearchCache.find(params);
+        SearchDto cacheKey = copyOf(params);
+
+        // 조건에 해당하는 데이터가 없는 경우, 응답 데이터에 비어있는 리스트(또는 공지글)와 null을 담아 반환
+        int count = (cached != null) ? cached.getTotal() : postMapper.count(params);
         if (count < 1) {
-            return new PagingResponse<>(Collections.emptyList(), null);
+            if (cached == null) {
+                postSearchCache.put(cacheKey, generation, new PostSearchCache.Result(Collections.emptyList(), 0));
+            }
+            List<PostListResponse> notices = pinNotice ? noticeStore.findAll() : Collections.emptyList();
+            return new PagingResponse<>(notices, null);
         }
 
         // Pagination 객체를 생성해서 페이지 정보 계산 후 SearchDto 타입의 객체인 params에 계산된 페이지 정보 저장
         Pagination pagination = new Pagination(count, params);
         params.setPagination(pagination);
 
-        // 계산된 페이지 정보의 일부(limitStart, recordSize)를 기준으로 리스트 데이터 조회 후 응답 데이터 반환
-        List<PostResponse> list = postMapper.findAll(params);
+        // 계산된 페이지 정보의 일부(limitStart, recordSize)를 기준으로 리스트 데이터 조회 (캐시된 경우 게시글 번호로 조회)
+        List<PostListResponse> list;
+        if (cached != null) {
+            list = findAllPostByIds(cached.getIds());
+        } else {
+            list = postMapper.findAll(params);
+            List<Long> ids = list.stream().map(PostListResponse::getId).collect(Collectors.toList());
+            postSearchCache.put(cacheKey, generation, new PostSearchCache.Result(ids, count));
+        }
+
+        // 첫 페이지인 경우, 공지글을 리스트 상단에 추가한 후 응답 데이터 반환
+        if (pinNotice && params.getPage() == 1) {
+            List<PostListResponse> merged = new ArrayList<>(noticeStore.findAll());
+            merged.addAll(list);
+            list = merged;
+        }
         return new PagingResponse<>(list, pagination);
     }
 
+    /**
+     * 게시글 번호 리스트로 상세정보 조회 (번호 순서 유지)
+     * @param ids - PK 리스트
+     * @return 게시글 리스트
+     */
+    private List<PostListResponse> findAllPostByIds(final List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, PostListResponse> posts = postMapper.findAllByIds(ids).stream()
+                .collect(Collectors.toMap(PostListResponse::getId, Function.identity()));
+        return ids.stream().map(posts::get).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    // 게시글 리스트 정보 조회 (공지글 저장소 용도, 내용 제외, 삭제된 게시글은 null)
+    private PostListResponse findListPostById(final Long id) {
+        List<PostListResponse> posts = postMapper.findAllByIds(Collections.singletonList(id));
+        if (posts.isEmpty() || Boolean.TRUE.equals(posts.get(0).getDeleteYn())) {
+            return null;
+        }
+        return posts.get(0);
+    }
+
+    // 캐시 키 용도의 검색 조건 복사 (Pagination 계산 전 페이지 번호 유지)
+    private SearchDto copyOf(final SearchDto params) {
+        SearchDto copy = new SearchDto();
+        copy.setPage(params.getPage());
+        copy.setRecordSize(params.getRecordSize());
+        copy.setKeyword(params.getKeyword());
+        copy.setSearchType(params.getSearchType());
+        return copy;
+    }
+
 }
@@ -0,0 +1,17 @@
+package com.study.domain.post;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class PostSuggestionResponse {
+
+    private Long id;         // PK
+    private String title;    // 제목
+    private int viewCnt;     // 조회 수
+
+}
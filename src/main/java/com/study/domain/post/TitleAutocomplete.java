@@ -0,0 +1,473 @@
+package com.study.domain.post;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 제목 자동완성 (in-memory)
+ * 자모 단위로 정규화한 제목을 radix trie(간선에 문자열을 저장하는 압축 trie)로 색인한다.
+ * 각 노드는 서브트리에 속한 게시글 중 최신 게시글 번호 (cache-size)개를 정렬된 long 배열로 보관하므로,
+ * 검색은 접두어 노드까지 내려가 배열을 읽는 것으로 끝나며, 서브트리를 순회하거나 DB를 조회하지 않는다.
+ *
+ * 애플리케이션 시작 시 전체 제목을 로딩하고, 게시글 저장/수정/삭제 시 갱신한다.
+ * 트랜잭션 안에서 갱신하는 경우 커밋 후에 반영하므로, 롤백된 게시글은 추천되지 않는다.
+ * 조회 수 순 정렬은 접두어에 해당하는 최신 게시글 (cache-size)개 안에서의 순위이다.
+ */
+@Slf4j
+@Component
+public class TitleAutocomplete {
+
+    private static final long[] NO_IDS = new long[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final PostMapper postMapper;
+    private final int cacheSize;
+    private final int maxWords;
+    private final int maxKeyLength;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<Long, Entry> entries = new HashMap<>();    // 게시글 번호 : 제목/조회 수
+    private Node root = new Node("");
+
+    public TitleAutocomplete(final PostMapper postMapper,
+                             @Value("${board.autocomplete.cache-size:16}") final int cacheSize,
+                             @Value("${board.autocomplete.max-words:8}") final int maxWords,
+                             @Value("${board.autocomplete.max-key-length:48}") final int maxKeyLength) {
+        this.postMapper = postMapper;
+        this.cacheSize = cacheSize;
+        this.maxWords = maxWords;
+        this.maxKeyLength = maxKeyLength;
+    }
+
+    /**
+     * 색인 초기화 (from Database)
+     * 새 색인을 만든 후 교체하므로, 초기화 중에도 기존 색인으로 검색할 수 있다.
+     */
+    @PostConstruct
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        Map<Long, Entry> newEntries = new HashMap<>();
+        Node newRoot = new Node("");
+        postMapper.findAllTitles(context -> {
+            PostListResponse post = context.getResultObject();
+            Entry entry = new Entry(post.getTitle(), post.getViewCnt());
+            newEntries.put(post.getId(), entry);
+            for (String key : keysOf(entry.title)) {
+                insert(newRoot, key, post.getId());
+            }
+        });
+
+        lock.writeLock().lock();
+        try {
+            entries = newEntries;
+            root = newRoot;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("TitleAutocomplete ===> indexed " + newEntries.size() + " titles in " + (System.currentTimeMillis() - start) + " ms");
+    }
+
+    /**
+     * 제목 추가 (이미 존재하는 경우 교체, 트랜잭션 안에서 호출된 경우 커밋 후 반영)
+     * @param id - PK
+     * @param title - 제목
+     * @param viewCnt - 조회 수
+     */
+    public void put(final Long id, final String title, final int viewCnt) {
+        runAfterCommit(() -> putNow(id, title, viewCnt));
+    }
+
+    /**
+     * 제목 제거 (트랜잭션 안에서 호출된 경우 커밋 후 반영)
+     * @param id - PK
+     */
+    public void remove(final Long id) {
+        runAfterCommit(() -> removeNow(id));
+    }
+
+    private void putNow(final Long id, final String title, final int viewCnt) {
+        lock.writeLock().lock();
+        try {
+            Entry previous = entries.put(id, new Entry(title, viewCnt));
+            if (previous != null) {
+                for (String key : keysOf(previous.title)) {
+                    delete(root, key, id);
+                }
+            }
+            for (String key : keysOf(title)) {
+                insert(root, key, id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeNow(final Long id) {
+        lock.writeLock().lock();
+        try {
+            Entry previous = entries.remove(id);
+            if (previous != null) {
+                for (String key : keysOf(previous.title)) {
+                    delete(root, key, id);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 조회 수 갱신
+     * @param id - PK
+     * @param viewCnt - 조회 수
+     */
+    public void recordView(final Long id, final int viewCnt) {
+        lock.readLock().lock();
+        try {
+            Entry entry = entries.get(id);
+            if (entry != null) {
+                entry.viewCnt = viewCnt;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 제목 추천 리스트 조회
+     * @param keyword - 입력 중인 검색어
+     * @param limit - 조회 수 (최대 cache-size)
+     * @param sort - 정렬 기준 (recent : 최신순, views : 조회 수 순)
+     * @return 추천 리스트
+     */
+    public List<PostSuggestionResponse> findAll(final String keyword, final int limit, final String sort) {
+        String prefix = TitleNormalizer.normalize(keyword);
+        if (prefix.isEmpty() || limit < 1) {
+            return Collections.emptyList();
+        }
+        if (prefix.length() > maxKeyLength) {
+            prefix = prefix.substring(0, maxKeyLength);
+        }
+
+        List<PostSuggestionResponse> suggestions = new ArrayList<>(cacheSize);
+        lock.readLock().lock();
+        try {
+            Node node = find(root, prefix);
+            if (node == null) {
+                return Collections.emptyList();
+            }
+            for (long id : node.top) {
+                Entry entry = entries.get(id);
+                if (entry != null) {
+                    suggestions.add(new PostSuggestionResponse(id, entry.title, entry.viewCnt));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if ("views".equals(sort)) {
+            suggestions.sort(Comparator.comparingInt(PostSuggestionResponse::getViewCnt).reversed()
+                    .thenComparing(Comparator.comparingLong(PostSuggestionResponse::getId).reversed()));
+        }
+        return suggestions.stream().limit(limit).collect(Collectors.toList());
+    }
+
+    /**
+     * 노드 수 (루트 포함, 색인 크기 확인 용도)
+     * @return 노드 수
+     */
+    int countNodes() {
+        lock.readLock().lock();
+        try {
+            int count = 0;
+            List<Node> nodes = new ArrayList<>();
+            nodes.add(root);
+            while (nodes.isEmpty() == false) {
+                Node node = nodes.remove(nodes.size() - 1);
+                count++;
+                nodes.addAll(Arrays.asList(node.children));
+            }
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 트랜잭션 안에서 호출된 경우 커밋 후 실행 (롤백 시 실행하지 않음), 그 외에는 즉시 실행
+    private static void runAfterCommit(final Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive() == false) {
+            update.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+        });
+    }
+
+    // 제목의 색인 키 리스트
+    private List<String> keysOf(final String title) {
+        return TitleNormalizer.keys(title, maxWords, maxKeyLength);
+    }
+
+    /**
+     * 키 추가
+     * 경로상의 모든 노드의 최신 게시글 배열에 게시글 번호를 추가하고, 간선 중간에서 갈라지는 경우 간선을 분할한다.
+     * @param root - 루트 노드
+     * @param key - 색인 키
+     * @param id - PK
+     */
+    private void insert(final Node root, final String key, final long id) {
+        Node node = root;
+        node.top = addTop(node.top, id);
+        int i = 0;
+        while (i < key.length()) {
+            int index = indexOfChild(node, key.charAt(i));
+            if (index < 0) {
+                Node leaf = new Node(key.substring(i));
+                leaf.ids = new long[] { id };
+                leaf.top = leaf.ids;
+                addChild(node, leaf);
+                return;
+            }
+
+            Node child = node.children[index];
+            int common = commonPrefixLength(child.label, key, i);
+            if (common < child.label.length()) {
+                Node middle = new Node(child.label.substring(0, common));
+                middle.children = new Node[] { child };
+                middle.top = child.top;
+                child.label = child.label.substring(common);
+                node.children[index] = middle;
+                child = middle;
+            }
+            child.top = addTop(child.top, id);
+            node = child;
+            i += common;
+        }
+        node.ids = addId(node.ids, id);
+    }
+
+    /**
+     * 키 제거
+     * 종료 노드에서 게시글 번호를 제거한 후, 경로를 거슬러 올라가며 최신 게시글 배열을 자식 노드로부터 다시 계산한다.
+     * 빈 노드(종료 게시글과 자식이 없는 노드)는 제거하고, 종료 게시글 없이 자식이 하나만 남은 노드는 자식과 합친다.
+     * @param root - 루트 노드
+     * @param key - 색인 키
+     * @param id - PK
+     */
+    private void delete(final Node root, final String key, final long id) {
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            int index = indexOfChild(node, key.charAt(i));
+            if (index < 0 || key.startsWith(node.children[index].label, i) == false) {
+                return;
+            }
+            node = node.children[index];
+            path.add(node);
+            i += node.label.length();
+        }
+
+        node.ids = removeId(node.ids, id);
+        for (int depth = path.size() - 1; depth >= 0; depth--) {
+            Node current = path.get(depth);
+            if (depth > 0 && current.ids.length == 0 && current.children.length == 0) {
+                removeChild(path.get(depth - 1), current);
+                continue;
+            }
+            if (depth > 0 && current.ids.length == 0 && current.children.length == 1) {
+                Node child = current.children[0];
+                child.label = current.label + child.label;
+                replaceChild(path.get(depth - 1), current, child);
+                continue;
+            }
+            current.top = mergeTop(current);
+        }
+    }
+
+    // 접두어에 해당하는 노드 조회 (접두어가 간선 중간에서 끝나는 경우 간선 끝의 노드)
+    private Node find(final Node root, final String prefix) {
+        Node node = root;
+        int i = 0;
+        while (i < prefix.length()) {
+            int index = indexOfChild(node, prefix.charAt(i));
+            if (index < 0) {
+                return null;
+            }
+            Node child = node.children[index];
+            int common = commonPrefixLength(child.label, prefix, i);
+            if (i + common == prefix.length()) {
+                return child;
+            }
+            if (common < child.label.length()) {
+                return null;
+            }
+            node = child;
+            i += common;
+        }
+        return node;
+    }
+
+    // 노드의 최신 게시글 배열 재계산 (종료 게시글 + 자식 노드의 최신 게시글 배열 병합)
+    private long[] mergeTop(final Node node) {
+        long[] merged = node.ids.clone();
+        for (Node child : node.children) {
+            long[] top = child.top;
+            int offset = merged.length;
+            merged = Arrays.copyOf(merged, offset + top.length);
+            System.arraycopy(top, 0, merged, offset, top.length);
+        }
+        Arrays.sort(merged);
+
+        long[] top = new long[Math.min(cacheSize, merged.length)];
+        int size = 0;
+        for (int i = merged.length - 1; i >= 0 && size < top.length; i--) {
+            if (size == 0 || top[size - 1] != merged[i]) {
+                top[size++] = merged[i];
+            }
+        }
+        return (size == top.length) ? top : Arrays.copyOf(top, size);
+    }
+
+    // 최신 게시글 배열에 추가 (내림차순 유지, 중복 무시, cache-size 초과분 제거)
+    private long[] addTop(final long[] top, final long id) {
+        int position = 0;
+        while (position < top.length && top[position] > id) {
+            position++;
+        }
+        if ((position < top.length && top[position] == id) || position >= cacheSize) {
+            return top;
+        }
+
+        long[] added = new long[Math.min(cacheSize, top.length + 1)];
+        System.arraycopy(top, 0, added, 0, position);
+        added[position] = id;
+        System.arraycopy(top, position, added, position + 1, added.length - position - 1);
+        return added;
+    }
+
+    private static long[] addId(final long[] ids, final long id) {
+        for (long value : ids) {
+            if (value == id) {
+                return ids;
+            }
+        }
+        long[] added = Arrays.copyOf(ids, ids.length + 1);
+        added[ids.length] = id;
+        return added;
+    }
+
+    private static long[] removeId(final long[] ids, final long id) {
+        long[] removed = Arrays.stream(ids).filter(value -> value != id).toArray();
+        return (removed.length == 0) ? NO_IDS : removed;
+    }
+
+    // 첫 글자로 자식 노드 조회 (자식 노드는 첫 글자 오름차순)
+    private static int indexOfChild(final Node node, final char c) {
+        int low = 0;
+        int high = node.children.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char first = node.children[mid].label.charAt(0);
+            if (first < c) {
+                low = mid + 1;
+            } else if (first > c) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private static void addChild(final Node node, final Node child) {
+        char first = child.label.charAt(0);
+        int position = 0;
+        while (position < node.children.length && node.children[position].label.charAt(0) < first) {
+            position++;
+        }
+        Node[] children = new Node[node.children.length + 1];
+        System.arraycopy(node.children, 0, children, 0, position);
+        children[position] = child;
+        System.arraycopy(node.children, position, children, position + 1, node.children.length - position);
+        node.children = children;
+    }
+
+    // 자식 노드 교체 (첫 글자가 같은 노드로 교체하므로 순서 유지)
+    private static void replaceChild(final Node node, final Node child, final Node replacement) {
+        for (int i = 0; i < node.children.length; i++) {
+            if (node.children[i] == child) {
+                node.children[i] = replacement;
+                return;
+            }
+        }
+    }
+
+    private static void removeChild(final Node node, final Node child) {
+        Node[] children = Arrays.stream(node.children).filter(value -> value != child).toArray(Node[]::new);
+        node.children = (children.length == 0) ? NO_CHILDREN : children;
+    }
+
+    // key[offset..]와 label의 공통 접두어 길이
+    private static int commonPrefixLength(final String label, final String key, final int offset) {
+        int length = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < length && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * 색인된 제목
+     */
+    private static class Entry {
+
+        private final String title;
+        private volatile int viewCnt;
+
+        Entry(final String title, final int viewCnt) {
+            this.title = title;
+            this.viewCnt = viewCnt;
+        }
+
+    }
+
+    /**
+     * trie 노드
+     */
+    private static class Node {
+
+        private String label;                     // 부모 노드로부터의 간선 문자열
+        private Node[] children = NO_CHILDREN;    // 자식 노드 (첫 글자 오름차순)
+        private long[] ids = NO_IDS;              // 이 노드에서 끝나는 키의 게시글 번호
+        private long[] top = NO_IDS;              // 서브트리의 최신 게시글 번호 (내림차순, 최대 cache-size)
+
+        Node(final String label) {
+            this.label = label;
+        }
+
+    }
+
+}
@@ -0,0 +1,110 @@
+package com.study.domain.post;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 제목 자동완성용 문자열 정규화
+ * 한글 음절을 자모 단위로 분해하므로, 입력 중인 글자("하" → "한" → "한ㄱ" → "한그")도 완성된 제목("한글")의 접두어로 일치한다.
+ * 겹모음/겹받침은 입력 순서대로 분해하고(ㅘ → ㅗㅏ, ㄺ → ㄹㄱ), 공백은 제거하며, 영문은 소문자로 변환한다.
+ */
+final class TitleNormalizer {
+
+    private static final char SYLLABLE_BEGIN = 0xAC00;
+    private static final char SYLLABLE_END = 0xD7A3;
+
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ",
+            "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    private static final String COMPOUND_JAMO = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_JAMO_SPLIT = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"
+    };
+
+    private TitleNormalizer() {
+    }
+
+    /**
+     * 문자열 정규화 (검색어)
+     * @param value - 원본 문자열
+     * @return 정규화된 문자열 (공백 제거)
+     */
+    static String normalize(final String value) {
+        return String.join("", words(value));
+    }
+
+    /**
+     * 색인 키 생성
+     * 단어 중간부터 입력해도 검색되도록, 각 단어의 시작 위치부터 끝까지를 키로 사용한다.
+     * @param title - 제목
+     * @param maxWords - 최대 단어 수 (앞에서부터)
+     * @param maxLength - 키 최대 길이 (자모 수)
+     * @return 키 리스트 (중복 제거)
+     */
+    static List<String> keys(final String title, final int maxWords, final int maxLength) {
+        List<String> words = words(title);
+        Set<String> keys = new LinkedHashSet<>();
+        for (int i = 0; i < Math.min(words.size(), maxWords); i++) {
+            StringBuilder key = new StringBuilder(maxLength);
+            for (int j = i; j < words.size() && key.length() < maxLength; j++) {
+                key.append(words.get(j));
+            }
+            keys.add(key.length() > maxLength ? key.substring(0, maxLength) : key.toString());
+        }
+        return new ArrayList<>(keys);
+    }
+
+    // 단어별 정규화 (NFC 조합 → 소문자 변환 → 자모 분해)
+    private static List<String> words(final String value) {
+        List<String> words = new ArrayList<>();
+        if (value == null) {
+            return words;
+        }
+
+        String composed = Normalizer.normalize(value, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < composed.length(); i++) {
+            char c = composed.charAt(i);
+            if (Character.isWhitespace(c)) {
+                if (word.length() > 0) {
+                    words.add(word.toString());
+                    word.setLength(0);
+                }
+                continue;
+            }
+            decompose(c, word);
+        }
+        if (word.length() > 0) {
+            words.add(word.toString());
+        }
+        return words;
+    }
+
+    // 한 글자 자모 분해
+    private static void decompose(final char c, final StringBuilder out) {
+        if (c >= SYLLABLE_BEGIN && c <= SYLLABLE_END) {
+            int offset = c - SYLLABLE_BEGIN;
+            out.append(CHOSEONG.charAt(offset / 588))
+               .append(JUNGSEONG[(offset % 588) / 28])
+               .append(JONGSEONG[offset % 28]);
+            return;
+        }
+
+        int compound = COMPOUND_JAMO.indexOf(c);
+        if (compound >= 0) {
+            out.append(COMPOUND_JAMO_SPLIT[compound]);
+            return;
+        }
+        out.append(c);
+    }
+
+}
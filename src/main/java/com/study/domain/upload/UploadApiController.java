@@ -0,0 +1,84 @@
+package com.study.domain.upload;
+
+import com.study.domain.file.FileRequest;
+import com.study.domain.member.MemberResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.SessionAttribute;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+public class UploadApiController {
+
+    private final UploadService uploadService;
+
+    // 분할 업로드 시작 (게시글에 첨부할 파일의 크기만큼 디스크 용량 예약)
+    @PostMapping("/uploads")
+    public UploadResponse initiateUpload(@SessionAttribute(name = "loginMember", required = false) final MemberResponse loginMember,
+                                         @RequestBody final UploadRequest params) {
+        return uploadService.initiateUpload(getMemberId(loginMember), params);
+    }
+
+
+    // 조각 업로드 (요청 본문 = 조각 데이터, X-Chunk-Checksum = 조각의 SHA-256)
+    @PutMapping("/uploads/{uploadId}/chunks/{index}")
+    public void uploadChunk(@SessionAttribute(name = "loginMember", required = false) final MemberResponse loginMember,
+                            @PathVariable final String uploadId, @PathVariable final int index,
+                            @RequestHeader("X-Chunk-Checksum") final String checksum, HttpServletRequest request) throws IOException {
+        uploadService.uploadChunk(getMemberId(loginMember), uploadId, index, checksum, request.getInputStream());
+    }
+
+
+    // 업로드 현황 조회 (받지 않은 조각 번호)
+    @GetMapping("/uploads/{uploadId}")
+    public UploadResponse findUpload(@SessionAttribute(name = "loginMember", required = false) final MemberResponse loginMember,
+                                     @PathVariable final String uploadId) {
+        return uploadService.findUpload(getMemberId(loginMember), uploadId);
+    }
+
+
+    // 업로드 완료 (첨부파일 등록)
+    @PostMapping("/uploads/{uploadId}/complete")
+    public FileRequest completeUpload(@SessionAttribute(name = "loginMember", required = false) final MemberResponse loginMember,
+                                      @PathVariable final String uploadId) {
+        return uploadService.completeUpload(getMemberId(loginMember), uploadId);
+    }
+
+
+    // 업로드 취소
+    @DeleteMapping("/uploads/{uploadId}")
+    public void cancelUpload(@SessionAttribute(name = "loginMember", required = false) final MemberResponse loginMember,
+                             @PathVariable final String uploadId) {
+        uploadService.cancelUpload(getMemberId(loginMember), uploadId);
+    }
+
+
+    // 분할 업로드 현황 조회 (진행 중인 세션 수, 누적 수신/거부 조각 수)
+    @GetMapping("/uploads/status")
+    public Map<String, Object> findUploadStatus() {
+        return uploadService.getStatus();
+    }
+
+
+    // 로그인 회원 번호 (세션 만료 시 401)
+    private Long getMemberId(final MemberResponse loginMember) {
+        if (loginMember == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "login required");
+        }
+        return loginMember.getId();
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.study.domain.upload;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UploadRequest {
+
+    private Long postId;          // 게시글 번호 (FK)
+    private String filename;      // 원본 파일명
+    private long size;            // 파일 크기
+    private Integer chunkSize;    // 조각 크기 (없는 경우 기본 크기)
+
+}
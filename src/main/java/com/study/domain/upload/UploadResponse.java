@@ -0,0 +1,23 @@
+package com.study.domain.upload;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class UploadResponse {
+
+    private String uploadId;               // 업로드 ID
+    private Long postId;                   // 게시글 번호 (FK)
+    private String filename;               // 원본 파일명
+    private long size;                     // 파일 크기
+    private int chunkSize;                 // 조각 크기 (마지막 조각은 나머지 크기)
+    private int chunkCount;                // 조각 수
+    private int receivedChunks;            // 받은 조각 수
+    private List<Integer> missingChunks;   // 받지 않은 조각 번호 (이어 올리기 대상)
+    private LocalDateTime expiredDate;     // 만료 예정일시 (마지막 요청 기준)
+
+}
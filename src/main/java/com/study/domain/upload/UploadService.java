@@ -0,0 +1,456 @@
+package com.study.domain.upload;
+
+import com.study.common.file.FileUtils;
+import com.study.common.jfr.FileTransferEvent;
+import com.study.domain.file.FileRequest;
+import com.study.domain.file.FileService;
+import com.study.domain.file.StorageType;
+import com.study.domain.post.PostResponse;
+import com.study.domain.post.PostService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 분할 업로드 (이어 올리기)
+ * 대용량 첨부파일을 조각 단위로 나누어 받으므로, 네트워크가 끊겨도 받지 않은 조각만 다시 올리면 된다.
+ * 조각 요청은 짧게 끝나므로 컨테이너 스레드와 DB 트랜잭션을 오래 점유하지 않으며, DB에는 완료 시점에만 파일 정보를 저장한다.
+ *
+ * 세션은 노드별 메모리에 보관하므로, 같은 업로드의 요청은 같은 노드로 전달되어야 한다.
+ * 세션 수(전체/회원별)와 디스크 용량은 확인과 예약을 원자적으로 처리하므로, 동시에 시작한 업로드가 제한을 넘지 않는다.
+ * 디스크 용량은 진행 중인 세션이 아직 기록하지 않은 용량을 모두 예약한 것으로 계산한다. (임시 파일은 sparse 파일이므로 미리 할당되지 않음)
+ * 만료된 세션과 세션 없이 남은 임시 파일(재시작 등)은 주기적으로 삭제한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UploadService {
+
+    private static final String CHECKSUM_ALGORITHM = "SHA-256";
+    private static final String PART_EXTENSION = ".part";
+    private static final int FILENAME_LENGTH = 255;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FileUtils fileUtils;
+    private final FileService fileService;
+    private final PostService postService;
+
+    private final Map<String, UploadSession> sessions = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> memberSessions = new ConcurrentHashMap<>();    // 회원 번호 : 예약된 세션 수
+    private final AtomicInteger activeSessions = new AtomicInteger();               // 예약된 세션 수
+    private final AtomicLong reservedBytes = new AtomicLong();                      // 예약 용량 (세션별 아직 기록하지 않은 용량의 합)
+    private final AtomicLong initiated = new AtomicLong();         // 누적 시작 수
+    private final AtomicLong completed = new AtomicLong();         // 누적 완료 수
+    private final AtomicLong expired = new AtomicLong();           // 누적 만료 수
+    private final AtomicLong receivedChunks = new AtomicLong();    // 누적 수신 조각 수
+    private final AtomicLong rejectedChunks = new AtomicLong();    // 누적 거부 조각 수 (크기/체크섬 불일치 등)
+    private final AtomicLong receivedBytes = new AtomicLong();     // 누적 수신 용량 (byte)
+    private final AtomicLong abandonedFiles = new AtomicLong();    // 누적 삭제 임시 파일 수 (세션 없음)
+
+    @Value("${board.upload.max-size:2147483648}")
+    private long maxSize;
+
+    @Value("${board.upload.default-chunk-size:4194304}")
+    private int defaultChunkSize;
+
+    @Value("${board.upload.min-chunk-size:262144}")
+    private int minChunkSize;
+
+    @Value("${board.upload.max-chunk-size:16777216}")
+    private int maxChunkSize;
+
+    @Value("${board.upload.max-sessions:100}")
+    private int maxSessions;
+
+    @Value("${board.upload.max-sessions-per-member:5}")
+    private int maxSessionsPerMember;
+
+    @Value("${board.upload.expire-minutes:60}")
+    private long expireMinutes;
+
+    /**
+     * 분할 업로드 시작 (세션 자리와 파일 크기만큼의 디스크 용량 예약 후 임시 파일 생성)
+     * @param memberId - 회원 번호
+     * @param params - 업로드 정보
+     * @return 업로드 현황
+     */
+    public UploadResponse initiateUpload(final Long memberId, final UploadRequest params) {
+        String filename = StringUtils.getFilename(StringUtils.cleanPath(String.valueOf(params.getFilename())));
+        if (params.getFilename() == null || StringUtils.hasText(filename) == false || filename.length() > FILENAME_LENGTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "invalid filename : " + params.getFilename());
+        }
+        if (params.getSize() <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "invalid size : " + params.getSize());
+        }
+        if (params.getSize() > maxSize) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "file is too large : " + params.getSize());
+        }
+        int chunkSize = (params.getChunkSize() == null) ? defaultChunkSize : params.getChunkSize();
+        if (chunkSize < minChunkSize || chunkSize > maxChunkSize) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "chunk size must be between " + minChunkSize + " and " + maxChunkSize);
+        }
+        PostResponse post = (params.getPostId() == null) ? null : postService.findLivePostById(params.getPostId());
+        if (post == null || Boolean.TRUE.equals(post.getDeleteYn())) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "post not found : " + params.getPostId());
+        }
+        if (reserveSlot(memberId) == false) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "too many uploads in progress");
+        }
+
+        Path root = fileUtils.getChunkRoot();
+        boolean opened = false;
+        try {
+            Files.createDirectories(root);
+            reserveSpace(root, params.getSize());
+            String id = UUID.randomUUID().toString().replaceAll("-", "");
+            UploadSession session;
+            try {
+                session = UploadSession.open(id, memberId, post.getId(), filename, params.getSize(), chunkSize, root.resolve(id + PART_EXTENSION));
+            } catch (IOException e) {
+                reservedBytes.addAndGet(-params.getSize());
+                throw e;
+            }
+            sessions.put(id, session);
+            opened = true;
+            initiated.incrementAndGet();
+            return toResponse(session);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        } finally {
+            if (opened == false) {
+                releaseSlot(memberId);
+            }
+        }
+    }
+
+    // 세션 자리 예약 (증가 후 확인, 제한을 넘은 경우 되돌림)
+    private boolean reserveSlot(final Long memberId) {
+        int total = activeSessions.incrementAndGet();
+        int member = memberSessions.merge(memberId, 1, Integer::sum);
+        if (total > maxSessions || member > maxSessionsPerMember) {
+            releaseSlot(memberId);
+            return false;
+        }
+        return true;
+    }
+
+    private void releaseSlot(final Long memberId) {
+        memberSessions.computeIfPresent(memberId, (key, count) -> (count <= 1) ? null : count - 1);
+        activeSessions.decrementAndGet();
+    }
+
+    // 디스크 용량 예약 (여유 공간 - 다른 세션의 예약 용량이 파일 크기 이상인 경우)
+    private void reserveSpace(final Path root, final long size) throws IOException {
+        long reserved = reservedBytes.addAndGet(size);
+        if (Files.getFileStore(root).getUsableSpace() < reserved) {
+            reservedBytes.addAndGet(-size);
+            throw new ResponseStatusException(HttpStatus.INSUFFICIENT_STORAGE, "not enough disk space : " + size);
+        }
+    }
+
+    // 세션 제거 (세션 자리와 남은 예약 용량 반환, 쓰기 락 안에서 호출)
+    private boolean removeSession(final UploadSession session) {
+        if (sessions.remove(session.getId(), session) == false) {
+            return false;
+        }
+        reservedBytes.addAndGet(-session.getOutstandingBytes());
+        releaseSlot(session.getMemberId());
+        return true;
+    }
+
+    /**
+     * 조각 업로드 (조각 번호 위치에 기록 후 체크섬 확인)
+     * 이미 받은 조각과 체크섬이 같은 경우(재전송) 다시 기록하지 않는다.
+     * @param memberId - 회원 번호
+     * @param uploadId - 업로드 ID
+     * @param index - 조각 번호 (0부터 시작)
+     * @param checksum - 조각 체크섬 (SHA-256, 16진수)
+     * @param in - 조각 데이터
+     */
+    public void uploadChunk(final Long memberId, final String uploadId, final int index, final String checksum, final InputStream in) throws IOException {
+        UploadSession session = getSession(memberId, uploadId);
+        if (index < 0 || index >= session.getChunkCount()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "chunk index out of range : " + index);
+        }
+        if (session.readLock().tryLock() == false) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "upload is closing : " + uploadId);
+        }
+
+        try {
+            if (session.isClosed()) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "upload not found : " + uploadId);
+            }
+            session.touch();
+            String expected = checksum.trim().toLowerCase(Locale.ROOT);
+            if (expected.equals(session.getChecksum(index))) {
+                return;
+            }
+            if (session.startChunk(index) == false) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "chunk is being written : " + index);
+            }
+
+            String verified = null;
+            FileTransferEvent event = new FileTransferEvent();
+            event.begin();
+            try {
+                String actual = writeChunk(session, index, in);
+                if (actual.equals(expected) == false) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "checksum mismatch : chunk " + index);
+                }
+                verified = actual;
+            } finally {
+                reservedBytes.addAndGet(-session.finishChunk(index, verified));
+                event.finish(FileTransferEvent.UPLOAD, StorageType.DISK.name(), uploadId + "#" + index, session.getChunkLength(index), verified == null);
+                if (verified == null) {
+                    rejectedChunks.incrementAndGet();
+                }
+            }
+            receivedChunks.incrementAndGet();
+            receivedBytes.addAndGet(session.getChunkLength(index));
+        } finally {
+            session.readLock().unlock();
+        }
+    }
+
+    /**
+     * 조각 기록 (버퍼 단위로 읽으면서 체크섬 계산)
+     * @param session - 분할 업로드 세션
+     * @param index - 조각 번호
+     * @param in - 조각 데이터
+     * @return 기록한 조각의 체크섬
+     */
+    private String writeChunk(final UploadSession session, final int index, final InputStream in) throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long position = session.getPosition(index);
+        int length = session.getChunkLength(index);
+        int written = 0;
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            if (written + read > length) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "chunk " + index + " is larger than " + length);
+            }
+            digest.update(buffer, 0, read);
+            session.write(ByteBuffer.wrap(buffer, 0, read), position + written);
+            written += read;
+        }
+        if (written != length) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "chunk " + index + " size mismatch : " + written + " / " + length);
+        }
+        return toHex(digest.digest());
+    }
+
+    /**
+     * 업로드 현황 조회 (이어 올리기 용도)
+     * @param memberId - 회원 번호
+     * @param uploadId - 업로드 ID
+     * @return 업로드 현황
+     */
+    public UploadResponse findUpload(final Long memberId, final String uploadId) {
+        UploadSession session = getSession(memberId, uploadId);
+        session.touch();
+        return toResponse(session);
+    }
+
+    /**
+     * 업로드 완료 (모든 조각 확인 후 디스크 저장소로 이동, 첨부파일 등록)
+     * 파일 정보 저장에 실패한 경우, 이동한 파일은 고아 파일 정리(FileReaper)에서 삭제된다.
+     * @param memberId - 회원 번호
+     * @param uploadId - 업로드 ID
+     * @return 등록된 파일 정보
+     */
+    public FileRequest completeUpload(final Long memberId, final String uploadId) {
+        UploadSession session = getSession(memberId, uploadId);
+        if (session.writeLock().tryLock() == false) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "chunks are being written : " + uploadId);
+        }
+
+        try {
+            if (session.isClosed()) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "upload not found : " + uploadId);
+            }
+            int missing = session.getChunkCount() - session.countReceived();
+            if (missing > 0) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "missing chunks : " + missing);
+            }
+
+            FileRequest file;
+            try {
+                session.close();
+                file = fileUtils.moveFile(session.getPath(), session.getOriginalName());
+            } catch (IOException e) {
+                discard(session);
+                throw new RuntimeException(e);
+            } finally {
+                removeSession(session);
+            }
+            fileService.saveFiles(session.getPostId(), List.of(file));
+            completed.incrementAndGet();
+            return file;
+        } finally {
+            session.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 업로드 취소 (임시 파일 삭제)
+     * @param memberId - 회원 번호
+     * @param uploadId - 업로드 ID
+     */
+    public void cancelUpload(final Long memberId, final String uploadId) {
+        UploadSession session = getSession(memberId, uploadId);
+        if (session.writeLock().tryLock() == false) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "chunks are being written : " + uploadId);
+        }
+        try {
+            if (removeSession(session)) {
+                discard(session);
+            }
+        } finally {
+            session.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 만료된 세션 및 세션 없이 남은 임시 파일 삭제
+     * 기록 중인 조각이 있는 세션은 다음 주기에 다시 확인한다.
+     */
+    @Scheduled(fixedDelayString = "${board.upload.cleanup-interval-ms:60000}")
+    public void cleanup() {
+        long expiredAt = System.currentTimeMillis() - expireMinutes * 60_000L;
+        for (UploadSession session : sessions.values()) {
+            if (session.getLastAccessedAt() >= expiredAt || session.writeLock().tryLock() == false) {
+                continue;
+            }
+            try {
+                if (removeSession(session)) {
+                    discard(session);
+                    expired.incrementAndGet();
+                    log.info("UploadService ===> expired upload : " + session.getId() + " (" + session.countReceived() + " / " + session.getChunkCount() + " chunks)");
+                }
+            } finally {
+                session.writeLock().unlock();
+            }
+        }
+        removeAbandonedFiles(expiredAt);
+    }
+
+    // 세션 없이 남은 임시 파일 삭제 (다른 노드의 세션과 경합하지 않도록 만료 시간 동안 기록되지 않은 파일만 삭제)
+    private void removeAbandonedFiles(final long expiredAt) {
+        Path root = fileUtils.getChunkRoot();
+        if (Files.isDirectory(root) == false) {
+            return;
+        }
+        try (Stream<Path> paths = Files.list(root)) {
+            paths.filter(path -> path.getFileName().toString().endsWith(PART_EXTENSION))
+                    .filter(path -> sessions.containsKey(path.getFileName().toString().replace(PART_EXTENSION, "")) == false)
+                    .filter(path -> path.toFile().lastModified() < expiredAt)
+                    .forEach(path -> {
+                        if (path.toFile().delete()) {
+                            abandonedFiles.incrementAndGet();
+                        }
+                    });
+        } catch (IOException e) {
+            log.error("UploadService ===> abandoned file scan failed : " + root, e);
+        }
+    }
+
+    /**
+     * 종료 전 임시 파일 닫기 (임시 파일은 만료 시간이 지난 후 삭제)
+     */
+    @PreDestroy
+    public void close() {
+        for (UploadSession session : sessions.values()) {
+            try {
+                session.close();
+            } catch (IOException e) {
+                log.error("UploadService ===> close failed : " + session.getPath(), e);
+            }
+        }
+    }
+
+    /**
+     * 분할 업로드 현황
+     * @return 진행 중인 세션 수, 예약 용량, 누적 시작/완료/만료 수, 누적 수신/거부 조각 수 등
+     */
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("sessions", sessions.size());
+        status.put("maxSessions", maxSessions);
+        status.put("reservedBytes", reservedBytes.get());
+        status.put("initiated", initiated.get());
+        status.put("completed", completed.get());
+        status.put("expired", expired.get());
+        status.put("receivedChunks", receivedChunks.get());
+        status.put("rejectedChunks", rejectedChunks.get());
+        status.put("receivedBytes", receivedBytes.get());
+        status.put("abandonedFiles", abandonedFiles.get());
+        return status;
+    }
+
+    // 회원의 세션 조회 (다른 회원의 세션은 없는 것으로 처리)
+    private UploadSession getSession(final Long memberId, final String uploadId) {
+        UploadSession session = sessions.get(uploadId);
+        if (session == null || session.getMemberId().equals(memberId) == false) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "upload not found : " + uploadId);
+        }
+        return session;
+    }
+
+    private void discard(final UploadSession session) {
+        try {
+            session.discard();
+        } catch (IOException e) {
+            log.error("UploadService ===> discard failed : " + session.getPath(), e);
+        }
+    }
+
+    private UploadResponse toResponse(final UploadSession session) {
+        LocalDateTime expiredDate = LocalDateTime.ofInstant(Instant.ofEpochMilli(session.getLastAccessedAt() + expireMinutes * 60_000L), ZoneId.systemDefault());
+        return new UploadResponse(session.getId(), session.getPostId(), session.getOriginalName(), session.getSize(), session.getChunkSize(),
+                session.getChunkCount(), session.countReceived(), session.findMissing(), expiredDate);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(CHECKSUM_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(final byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+}
@@ -0,0 +1,242 @@
+package com.study.domain.upload;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 분할 업로드 세션
+ * 파일 크기로 길이를 지정한 임시 파일에, 조각 번호로 계산한 위치(index * chunkSize)에 조각을 기록한다.
+ * 길이 지정(setLength)은 대부분의 파일 시스템에서 디스크 블록을 할당하지 않으므로(sparse), 블록은 조각을 기록할 때 할당된다.
+ * 아직 기록하지 않은 용량(outstandingBytes)은 UploadService가 디스크 여유 공간에서 미리 예약해 둔다.
+ * 위치 지정 쓰기(FileChannel.write(buffer, position))는 채널의 현재 위치를 사용하지 않으므로, 여러 조각을 동시에 기록할 수 있다.
+ *
+ * 조각 기록은 읽기 락, 완료/만료 처리는 쓰기 락을 사용하므로, 기록 중인 조각이 있는 동안에는 세션을 닫지 않는다.
+ */
+class UploadSession {
+
+    private final String id;
+    private final Long memberId;
+    private final Long postId;
+    private final String originalName;
+    private final long size;
+    private final int chunkSize;
+    private final int chunkCount;
+    private final Path path;
+    private final RandomAccessFile file;
+    private final FileChannel channel;
+
+    private final BitSet received;                   // 받은 조각 (체크섬 확인 완료)
+    private final String[] checksums;                // 조각별 체크섬 (SHA-256)
+    private final BitSet written;                    // 한 번이라도 기록을 마친 조각 (디스크 블록 할당 완료)
+    private final Set<Integer> writing = new HashSet<>();    // 기록 중인 조각
+    private long outstandingBytes;                   // 아직 기록하지 않은 용량 (예약 용량)
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile long lastAccessedAt;
+    private volatile boolean closed;
+
+    private UploadSession(final String id, final Long memberId, final Long postId, final String originalName, final long size, final int chunkSize, final Path path, final RandomAccessFile file) {
+        this.id = id;
+        this.memberId = memberId;
+        this.postId = postId;
+        this.originalName = originalName;
+        this.size = size;
+        this.chunkSize = chunkSize;
+        this.chunkCount = (int) ((size + chunkSize - 1) / chunkSize);
+        this.path = path;
+        this.file = file;
+        this.channel = file.getChannel();
+        this.received = new BitSet(chunkCount);
+        this.written = new BitSet(chunkCount);
+        this.outstandingBytes = size;
+        this.checksums = new String[chunkCount];
+        this.lastAccessedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * 세션 생성 (임시 파일 생성 및 길이 지정)
+     * @param id - 업로드 ID
+     * @param memberId - 회원 번호
+     * @param postId - 게시글 번호
+     * @param originalName - 원본 파일명
+     * @param size - 파일 크기
+     * @param chunkSize - 조각 크기
+     * @param path - 임시 파일 경로
+     * @return 분할 업로드 세션
+     */
+    static UploadSession open(final String id, final Long memberId, final Long postId, final String originalName, final long size, final int chunkSize, final Path path) throws IOException {
+        RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw");
+        try {
+            file.setLength(size);
+        } catch (IOException e) {
+            file.close();
+            Files.deleteIfExists(path);
+            throw e;
+        }
+        return new UploadSession(id, memberId, postId, originalName, size, chunkSize, path, file);
+    }
+
+    /**
+     * 조각 위치 반환
+     * @param index - 조각 번호
+     * @return 파일 내 위치
+     */
+    long getPosition(final int index) {
+        return (long) index * chunkSize;
+    }
+
+    /**
+     * 조각 크기 반환 (마지막 조각은 나머지 크기)
+     * @param index - 조각 번호
+     * @return 조각 크기
+     */
+    int getChunkLength(final int index) {
+        return (int) Math.min(chunkSize, size - getPosition(index));
+    }
+
+    /**
+     * 조각 기록 시작 (같은 조각을 다시 받는 경우, 기록이 끝날 때까지 받지 않은 조각으로 처리)
+     * @param index - 조각 번호
+     * @return 기록 시작 여부 (같은 조각을 기록 중인 경우 false)
+     */
+    synchronized boolean startChunk(final int index) {
+        if (writing.add(index) == false) {
+            return false;
+        }
+        received.clear(index);
+        checksums[index] = null;
+        return true;
+    }
+
+    /**
+     * 조각 기록 종료
+     * @param index - 조각 번호
+     * @param checksum - 조각 체크섬 (기록에 실패한 경우 null)
+     * @return 처음 기록을 마친 조각인 경우 조각 크기 (예약에서 제외할 용량), 그 외에는 0
+     */
+    synchronized long finishChunk(final int index, final String checksum) {
+        writing.remove(index);
+        if (checksum == null) {
+            return 0;
+        }
+        received.set(index);
+        checksums[index] = checksum;
+        if (written.get(index)) {
+            return 0;
+        }
+        written.set(index);
+        outstandingBytes -= getChunkLength(index);
+        return getChunkLength(index);
+    }
+
+    /**
+     * 위치 지정 쓰기 (채널이 일부만 기록한 경우 나머지를 이어서 기록)
+     * @param buffer - 기록할 데이터
+     * @param position - 파일 내 위치
+     */
+    void write(final ByteBuffer buffer, final long position) throws IOException {
+        long offset = position;
+        while (buffer.hasRemaining()) {
+            offset += channel.write(buffer, offset);
+        }
+    }
+
+    synchronized String getChecksum(final int index) {
+        return checksums[index];
+    }
+
+    synchronized long getOutstandingBytes() {
+        return outstandingBytes;
+    }
+
+    synchronized int countReceived() {
+        return received.cardinality();
+    }
+
+    synchronized List<Integer> findMissing() {
+        List<Integer> missing = new ArrayList<>();
+        for (int index = received.nextClearBit(0); index < chunkCount; index = received.nextClearBit(index + 1)) {
+            missing.add(index);
+        }
+        return missing;
+    }
+
+    /**
+     * 임시 파일 닫기 (완료 처리 전, 또는 삭제 전)
+     */
+    void close() throws IOException {
+        closed = true;
+        channel.close();
+        file.close();
+    }
+
+    /**
+     * 임시 파일 닫기 및 삭제 (취소, 만료)
+     */
+    void discard() throws IOException {
+        close();
+        Files.deleteIfExists(path);
+    }
+
+    void touch() {
+        lastAccessedAt = System.currentTimeMillis();
+    }
+
+    ReentrantReadWriteLock.ReadLock readLock() {
+        return lock.readLock();
+    }
+
+    ReentrantReadWriteLock.WriteLock writeLock() {
+        return lock.writeLock();
+    }
+
+    String getId() {
+        return id;
+    }
+
+    Long getMemberId() {
+        return memberId;
+    }
+
+    Long getPostId() {
+        return postId;
+    }
+
+    String getOriginalName() {
+        return originalName;
+    }
+
+    long getSize() {
+        return size;
+    }
+
+    int getChunkSize() {
+        return chunkSize;
+    }
+
+    int getChunkCount() {
+        return chunkCount;
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    long getLastAccessedAt() {
+        return lastAccessedAt;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+}
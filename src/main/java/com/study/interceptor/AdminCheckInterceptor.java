@@ -0,0 +1,42 @@
+package com.study.interceptor;
+
+import com.study.domain.member.MemberResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+import java.util.Set;
+
+/**
+ * 관리자 확인 (서버 파일/진단 정보에 접근하는 요청)
+ * 관리자는 설정된 로그인 ID(board.admin.login-ids)로 판단하며, 로그인 확인(LoginCheckInterceptor) 이후에 실행된다.
+ */
+public class AdminCheckInterceptor implements HandlerInterceptor {
+
+    private final Set<String> adminLoginIds;
+
+    public AdminCheckInterceptor(final Set<String> adminLoginIds) {
+        this.adminLoginIds = adminLoginIds;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+
+        // 1. 세션에서 회원 정보 조회
+        HttpSession session = request.getSession(false);
+        MemberResponse member = (session == null) ? null : (MemberResponse) session.getAttribute("loginMember");
+
+        // 2. 관리자가 아닌 경우 403 응답
+        if (member == null || adminLoginIds.contains(member.getLoginId()) == false) {
+            response.setStatus(HttpStatus.FORBIDDEN.value());
+            response.setContentType("text/plain;charset=UTF-8");
+            response.getWriter().write("admin only");
+            return false;
+        }
+
+        return HandlerInterceptor.super.preHandle(request, response, handler);
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.study.interceptor;
+
+import com.study.common.bulkhead.Bulkhead;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+public class BulkheadInterceptor implements HandlerInterceptor {
+
+    private static final String ACQUIRED = BulkheadInterceptor.class.getName() + ".acquired";
+
+    private final Bulkhead bulkhead;
+
+    public BulkheadInterceptor(final Bulkhead bulkhead) {
+        this.bulkhead = bulkhead;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+
+        // 1. 대상 요청 확인 (GET 제외, 비동기 재처리 제외)
+        if ("GET".equals(request.getMethod()) || request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+
+        // 2. 허용량이 없는 경우 요청 본문을 읽지 않고 503 응답
+        if (bulkhead.tryAcquire() == false) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setHeader(HttpHeaders.CONNECTION, "close");
+            response.setContentType("text/plain;charset=UTF-8");
+            response.getWriter().write("bulkhead is full : " + bulkhead.getName());
+            return false;
+        }
+
+        request.setAttribute(ACQUIRED, Boolean.TRUE);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) throws Exception {
+        if (request.getAttribute(ACQUIRED) != null) {
+            request.removeAttribute(ACQUIRED);
+            bulkhead.release();
+        }
+    }
+
+}
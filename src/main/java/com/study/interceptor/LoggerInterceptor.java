@@ -1,28 +1,92 @@
 package com.study.interceptor;
 
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
 import org.springframework.web.servlet.HandlerInterceptor;
-import org.springframework.web.servlet.ModelAndView;
 
+import javax.servlet.DispatcherType;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
 
 @Slf4j
-public class LoggerInterceptor implements HandlerInterceptor {
+public class LoggerInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String CORRELATION_ID = "cid";
+    public static final String CORRELATION_HEADER = "X-Request-Id";
+    public static final String TRACE = "trace";
+
+    private static final Pattern VALID_CORRELATION_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+    private static final String STARTED_AT = LoggerInterceptor.class.getName() + ".startedAt";
+    private static final String REQUEST_CORRELATION_ID = LoggerInterceptor.class.getName() + ".correlationId";
+    private static final String TRACED = LoggerInterceptor.class.getName() + ".traced";
+
+    private final double traceSampleRate;
+
+    public LoggerInterceptor(final double traceSampleRate) {
+        this.traceSampleRate = traceSampleRate;
+    }
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
-        log.debug("===============================================");
-        log.debug("==================== BEGIN ====================");
-        log.debug("Request URI ===> " + request.getRequestURI());
+
+        // 이전 요청의 MDC 값이 남아 있을 수 있으므로 먼저 정리 (스레드 재사용)
+        MDC.remove(TRACE);
+
+        // 비동기 재디스패치(ASYNC)는 최초 요청의 correlation id, 샘플링 여부, 시작 시각을 그대로 사용
+        if (request.getDispatcherType() == DispatcherType.ASYNC && request.getAttribute(REQUEST_CORRELATION_ID) != null) {
+            MDC.put(CORRELATION_ID, (String) request.getAttribute(REQUEST_CORRELATION_ID));
+            if (Boolean.TRUE.equals(request.getAttribute(TRACED))) {
+                MDC.put(TRACE, "on");
+            }
+            return true;
+        }
+
+        // 1. correlation id 설정 (요청 헤더에 유효한 값이 있으면 이어서 사용)
+        String correlationId = request.getHeader(CORRELATION_HEADER);
+        if (correlationId == null || VALID_CORRELATION_ID.matcher(correlationId).matches() == false) {
+            correlationId = UUID.randomUUID().toString().replace("-", "").substring(0, 16);
+        }
+        MDC.put(CORRELATION_ID, correlationId);
+        request.setAttribute(REQUEST_CORRELATION_ID, correlationId);
+        response.setHeader(CORRELATION_HEADER, correlationId);
+
+        // 2. DEBUG 로그 샘플링 (샘플링된 요청만 DEBUG 로그 기록)
+        if (traceSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < traceSampleRate) {
+            MDC.put(TRACE, "on");
+            request.setAttribute(TRACED, Boolean.TRUE);
+        }
+
+        request.setAttribute(STARTED_AT, System.nanoTime());
+        log.debug("request method={} uri={}", request.getMethod(), request.getRequestURI());
         return HandlerInterceptor.super.preHandle(request, response, handler);
     }
 
+    /**
+     * 비동기 처리 시작 (요청 스레드 반환)
+     * afterCompletion은 비동기 재디스패치에서 호출되므로, 반환되는 요청 스레드의 MDC를 여기서 정리한다.
+     */
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        MDC.remove(CORRELATION_ID);
+        MDC.remove(TRACE);
+    }
+
     @Override
-    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler, ModelAndView modelAndView) throws Exception {
-        log.debug("==================== END ======================");
-        log.debug("===============================================");
-        HandlerInterceptor.super.postHandle(request, response, handler, modelAndView);
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) throws Exception {
+        try {
+            if (log.isDebugEnabled()) {
+                Object startedAt = request.getAttribute(STARTED_AT);
+                long elapsedMs = (startedAt == null) ? -1L : (System.nanoTime() - (Long) startedAt) / 1_000_000L;
+                log.debug("response status={} elapsedMs={}", response.getStatus(), elapsedMs);
+            }
+        } finally {
+            MDC.remove(CORRELATION_ID);
+            MDC.remove(TRACE);
+        }
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,48 @@
+package com.study.interceptor;
+
+import com.study.common.ratelimit.RateLimiter;
+import com.study.domain.member.MemberResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final RateLimiter rateLimiter;
+
+    public RateLimitInterceptor(final RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+
+        // 1. 요청 주체 확인 (IP는 항상, 로그인 회원은 회원 번호도 함께 제한)
+        HttpSession session = request.getSession(false);
+        MemberResponse member = (session == null) ? null : (MemberResponse) session.getAttribute("loginMember");
+        String ip = "ip:" + request.getRemoteAddr();
+
+        // 2. 토큰 사용 (토큰이 없는 경우 429 응답)
+        //    경로는 Spring MVC가 핸들러를 찾을 때와 같은 방식으로 정규화 (디코딩, ';' 파라미터 제거, 중복 '/' 제거)
+        String path = UrlPathHelper.defaultInstance.getLookupPathForRequest(request);
+        long wait = (member != null)
+                ? rateLimiter.tryAcquire(request.getMethod(), path, ip, "member:" + member.getId())
+                : rateLimiter.tryAcquire(request.getMethod(), path, ip);
+        if (wait > 0) {
+            long retryAfter = RateLimiter.toRetryAfterSeconds(wait);
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+            response.setContentType("text/plain;charset=UTF-8");
+            response.getWriter().write("too many requests");
+            return false;
+        }
+
+        return HandlerInterceptor.super.preHandle(request, response, handler);
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.study.interceptor;
+
+import com.study.common.jfr.ViewRenderEvent;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+public class ViewRenderInterceptor implements HandlerInterceptor {
+
+    private static final String EVENT = ViewRenderInterceptor.class.getName() + ".event";
+    private static final String VIEW_NAME = ViewRenderInterceptor.class.getName() + ".viewName";
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler, ModelAndView modelAndView) throws Exception {
+
+        // 화면을 렌더링하는 요청이고, 이벤트가 활성화된 경우에만 렌더링 시작 시점 기록
+        if (modelAndView == null || modelAndView.hasView() == false) {
+            return;
+        }
+        ViewRenderEvent event = new ViewRenderEvent();
+        if (event.isEnabled() == false) {
+            return;
+        }
+        event.begin();
+        request.setAttribute(EVENT, event);
+        request.setAttribute(VIEW_NAME, modelAndView.getViewName());
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) throws Exception {
+        ViewRenderEvent event = (ViewRenderEvent) request.getAttribute(EVENT);
+        if (event == null) {
+            return;
+        }
+        request.removeAttribute(EVENT);
+        event.finish((String) request.getAttribute(VIEW_NAME), request.getRequestURI(), ex != null);
+    }
+
+}
@@ -0,0 +1,14 @@
+-- 게시글 임시 저장 (자동 저장)
+-- 편집 중인 글은 서버 메모리에 (회원, 게시글)별 최신 버전만 보관하고, 변경된 글만 주기적으로 모아서 저장한다.
+-- 게시글 저장/수정이 완료되면 삭제하며, 보관 기간이 지난 글은 주기적으로 삭제한다.
+
+CREATE TABLE IF NOT EXISTS tb_post_draft (
+      member_id     BIGINT       NOT NULL COMMENT '회원 번호'
+    , post_id       BIGINT       NOT NULL DEFAULT 0 COMMENT '게시글 번호 (신규 게시글 = 0)'
+    , title         VARCHAR(100) NULL COMMENT '제목'
+    , writer        VARCHAR(20)  NULL COMMENT '작성자'
+    , content       MEDIUMTEXT   NULL COMMENT '내용'
+    , modified_date DATETIME     NOT NULL COMMENT '최종 저장일시'
+    , PRIMARY KEY (member_id, post_id)
+    , KEY ix_post_draft_modified (modified_date)
+) COMMENT '게시글 임시 저장';
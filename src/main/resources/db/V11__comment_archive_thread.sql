@@ -0,0 +1,20 @@
+-- 댓글 아카이브 스레드 정보 (tb_comment와 같은 materialized path 컬럼)
+-- 아카이브된 게시글의 댓글도 운영 테이블과 같은 방식(루트 댓글 페이지 + 스레드 내 경로순)으로 조회한다.
+
+ALTER TABLE tb_comment_archive
+      ADD COLUMN parent_id BIGINT       NULL COMMENT '부모 댓글 번호' AFTER post_id
+    , ADD COLUMN root_id   BIGINT       NULL COMMENT '루트 댓글 번호' AFTER parent_id
+    , ADD COLUMN depth     INT          NOT NULL DEFAULT 0 COMMENT '깊이 (루트 댓글 = 0)' AFTER root_id
+    , ADD COLUMN path      VARCHAR(255) CHARACTER SET ascii NOT NULL DEFAULT '' COMMENT '경로' AFTER depth
+    , ADD COLUMN reply_cnt INT          NOT NULL DEFAULT 0 COMMENT '노출되는 답글 수' AFTER path
+    , ADD KEY ix_comment_archive_root (post_id, depth, id)
+    , ADD KEY ix_comment_archive_thread (post_id, root_id, path)
+    , DROP KEY ix_comment_archive_post_id;
+
+-- 기존 아카이브 댓글은 모두 루트 댓글 (스레드 정보 없이 복사됨)
+UPDATE tb_comment_archive
+SET
+      root_id = id
+    , path = LPAD(id, 10, '0')
+WHERE
+    root_id IS NULL;
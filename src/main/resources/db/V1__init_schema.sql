@@ -0,0 +1,51 @@
+-- 게시판 기본 스키마 (mappers/*.xml 기준)
+
+CREATE TABLE IF NOT EXISTS tb_post (
+      id            BIGINT        NOT NULL AUTO_INCREMENT COMMENT 'PK'
+    , title         VARCHAR(100)  NOT NULL COMMENT '제목'
+    , content       VARCHAR(3000) NOT NULL COMMENT '내용'
+    , writer        VARCHAR(20)   NOT NULL COMMENT '작성자'
+    , view_cnt      INT           NOT NULL DEFAULT 0 COMMENT '조회 수'
+    , notice_yn     TINYINT(1)    NOT NULL DEFAULT 0 COMMENT '공지글 여부'
+    , delete_yn     TINYINT(1)    NOT NULL DEFAULT 0 COMMENT '삭제 여부'
+    , created_date  DATETIME      NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시'
+    , modified_date DATETIME      NULL COMMENT '최종 수정일시'
+    , PRIMARY KEY (id)
+) COMMENT '게시글';
+
+CREATE TABLE IF NOT EXISTS tb_comment (
+      id            BIGINT        NOT NULL AUTO_INCREMENT COMMENT '댓글 번호 (PK)'
+    , post_id       BIGINT        NOT NULL COMMENT '게시글 번호 (FK)'
+    , content       VARCHAR(1000) NOT NULL COMMENT '내용'
+    , writer        VARCHAR(20)   NOT NULL COMMENT '작성자'
+    , delete_yn     TINYINT(1)    NOT NULL DEFAULT 0 COMMENT '삭제 여부'
+    , created_date  DATETIME      NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시'
+    , modified_date DATETIME      NULL COMMENT '최종 수정일시'
+    , PRIMARY KEY (id)
+) COMMENT '댓글';
+
+CREATE TABLE IF NOT EXISTS tb_file (
+      id            BIGINT        NOT NULL AUTO_INCREMENT COMMENT '파일 번호 (PK)'
+    , post_id       BIGINT        NOT NULL COMMENT '게시글 번호 (FK)'
+    , original_name VARCHAR(255)  NOT NULL COMMENT '원본 파일명'
+    , save_name     VARCHAR(40)   NOT NULL COMMENT '저장 파일명'
+    , size          INT           NOT NULL COMMENT '파일 크기'
+    , delete_yn     TINYINT(1)    NOT NULL DEFAULT 0 COMMENT '삭제 여부'
+    , created_date  DATETIME      NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시'
+    , deleted_date  DATETIME      NULL COMMENT '삭제일시'
+    , PRIMARY KEY (id)
+) COMMENT '첨부파일';
+
+CREATE TABLE IF NOT EXISTS tb_member (
+      id            BIGINT        NOT NULL AUTO_INCREMENT COMMENT '회원 번호 (PK)'
+    , login_id      VARCHAR(20)   NOT NULL COMMENT '로그인 ID'
+    , password      VARCHAR(60)   NOT NULL COMMENT '비밀번호'
+    , name          VARCHAR(20)   NOT NULL COMMENT '이름'
+    , gender        ENUM('M', 'F') NOT NULL COMMENT '성별'
+    , birthday      DATE          NOT NULL COMMENT '생년월일'
+    , delete_yn     TINYINT(1)    NOT NULL DEFAULT 0 COMMENT '삭제 여부'
+    , created_date  DATETIME      NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시'
+    , modified_date DATETIME      NULL COMMENT '최종 수정일시'
+    , PRIMARY KEY (id)
+    , UNIQUE KEY uix_member_login_id (login_id)
+) COMMENT '회원';
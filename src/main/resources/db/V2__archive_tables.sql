@@ -0,0 +1,28 @@
+-- 아카이브 테이블 (삭제/오래된 게시글 및 댓글 보관용)
+
+CREATE TABLE IF NOT EXISTS tb_post_archive (
+      id            BIGINT        NOT NULL COMMENT 'PK (tb_post.id)'
+    , title         VARCHAR(100)  NOT NULL COMMENT '제목'
+    , content       VARCHAR(3000) NOT NULL COMMENT '내용'
+    , writer        VARCHAR(20)   NOT NULL COMMENT '작성자'
+    , view_cnt      INT           NOT NULL DEFAULT 0 COMMENT '조회 수'
+    , notice_yn     TINYINT(1)    NOT NULL DEFAULT 0 COMMENT '공지글 여부'
+    , delete_yn     TINYINT(1)    NOT NULL DEFAULT 0 COMMENT '삭제 여부'
+    , created_date  DATETIME      NOT NULL COMMENT '생성일시'
+    , modified_date DATETIME      NULL COMMENT '최종 수정일시'
+    , archived_date DATETIME      NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '아카이브 일시'
+    , PRIMARY KEY (id)
+) COMMENT '게시글 아카이브';
+
+CREATE TABLE IF NOT EXISTS tb_comment_archive (
+      id            BIGINT        NOT NULL COMMENT '댓글 번호 (tb_comment.id)'
+    , post_id       BIGINT        NOT NULL COMMENT '게시글 번호 (FK)'
+    , content       VARCHAR(1000) NOT NULL COMMENT '내용'
+    , writer        VARCHAR(20)   NOT NULL COMMENT '작성자'
+    , delete_yn     TINYINT(1)    NOT NULL DEFAULT 0 COMMENT '삭제 여부'
+    , created_date  DATETIME      NOT NULL COMMENT '생성일시'
+    , modified_date DATETIME      NULL COMMENT '최종 수정일시'
+    , archived_date DATETIME      NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '아카이브 일시'
+    , PRIMARY KEY (id)
+    , KEY ix_comment_archive_post_id (post_id)
+) COMMENT '댓글 아카이브';
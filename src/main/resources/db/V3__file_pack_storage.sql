@@ -0,0 +1,7 @@
+-- 첨부파일 팩 저장소 (작은 파일을 세그먼트 파일에 저장)
+
+ALTER TABLE tb_file
+      ADD COLUMN storage_type VARCHAR(10) NOT NULL DEFAULT 'DISK' COMMENT '저장소 유형 (DISK, PACK)' AFTER size
+    , ADD COLUMN pack_id      BIGINT      NULL COMMENT '팩 세그먼트 번호' AFTER storage_type
+    , ADD COLUMN pack_offset  BIGINT      NULL COMMENT '팩 세그먼트 내 위치' AFTER pack_id
+    , ADD KEY ix_file_pack (storage_type, pack_id, delete_yn);
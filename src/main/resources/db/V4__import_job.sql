@@ -0,0 +1,13 @@
+-- 대량 가져오기(import) 작업 및 체크포인트
+
+CREATE TABLE IF NOT EXISTS tb_import_job (
+      id                BIGINT       NOT NULL AUTO_INCREMENT COMMENT '작업 번호 (PK)'
+    , source            VARCHAR(500) NOT NULL COMMENT '입력 파일 경로'
+    , format            VARCHAR(10)  NOT NULL COMMENT '입력 형식 (NDJSON, CSV)'
+    , status            VARCHAR(10)  NOT NULL COMMENT '상태 (RUNNING, COMPLETED, FAILED)'
+    , committed_records BIGINT       NOT NULL DEFAULT 0 COMMENT '반영 완료된 레코드 수 (체크포인트)'
+    , message           VARCHAR(1000) NULL COMMENT '오류 메시지'
+    , created_date      DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시'
+    , modified_date     DATETIME     NULL COMMENT '최종 수정일시'
+    , PRIMARY KEY (id)
+) COMMENT '가져오기 작업';
@@ -0,0 +1,20 @@
+-- 댓글 답글 (materialized path)
+-- path : 루트 댓글부터 자신까지의 댓글 번호(10자리)를 '/'로 연결한 경로 (예 : 0000000012/0000000034)
+-- 스레드 전체는 (post_id, root_id, path) 인덱스 범위 조회 한 번으로 깊이 우선 순서로 조회된다.
+
+ALTER TABLE tb_comment
+      ADD COLUMN parent_id BIGINT       NULL COMMENT '부모 댓글 번호' AFTER post_id
+    , ADD COLUMN root_id   BIGINT       NULL COMMENT '루트 댓글 번호' AFTER parent_id
+    , ADD COLUMN depth     INT          NOT NULL DEFAULT 0 COMMENT '깊이 (루트 댓글 = 0)' AFTER root_id
+    , ADD COLUMN path      VARCHAR(255) CHARACTER SET ascii NOT NULL DEFAULT '' COMMENT '경로' AFTER depth
+    , ADD COLUMN reply_cnt INT          NOT NULL DEFAULT 0 COMMENT '노출되는 답글 수' AFTER path
+    , ADD KEY ix_comment_root (post_id, depth, id)
+    , ADD KEY ix_comment_thread (post_id, root_id, path);
+
+-- 기존 댓글은 모두 루트 댓글
+UPDATE tb_comment
+SET
+      root_id = id
+    , path = LPAD(id, 10, '0')
+WHERE
+    root_id IS NULL;
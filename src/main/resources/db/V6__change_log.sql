@@ -0,0 +1,20 @@
+-- 변경 로그 (노드 간 캐시 무효화)
+-- 서비스의 쓰기 트랜잭션 안에서 (대상, 대상 번호, 작업)을 기록하며, 로그 번호가 변경 버전(순서)이 된다.
+-- 각 노드는 자신의 마지막 조회 위치(high-water mark) 이후의 로그를 주기적으로 조회하여 구독자에게 전달한다.
+
+CREATE TABLE IF NOT EXISTS tb_change_log (
+      id           BIGINT      NOT NULL AUTO_INCREMENT COMMENT '로그 번호 (PK, 변경 버전)'
+    , entity       VARCHAR(10) CHARACTER SET ascii NOT NULL COMMENT '대상 (POST, COMMENT, FILE, POST_FILES)'
+    , entity_id    BIGINT      NOT NULL COMMENT '대상 번호'
+    , operation    VARCHAR(6)  CHARACTER SET ascii NOT NULL COMMENT '작업 (INSERT, UPDATE, DELETE)'
+    , node_id      VARCHAR(100) NOT NULL COMMENT '변경이 발생한 노드'
+    , created_date DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3) COMMENT '생성일시'
+    , PRIMARY KEY (id)
+) COMMENT '변경 로그';
+
+CREATE TABLE IF NOT EXISTS tb_change_log_cursor (
+      node_id      VARCHAR(100) NOT NULL COMMENT '노드 (PK)'
+    , position     BIGINT      NOT NULL COMMENT '반영 완료된 로그 번호 (high-water mark)'
+    , updated_date DATETIME    NOT NULL COMMENT '최종 갱신일시'
+    , PRIMARY KEY (node_id)
+) COMMENT '변경 로그 노드별 조회 위치';
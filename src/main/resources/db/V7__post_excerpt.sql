@@ -0,0 +1,12 @@
+-- 게시글 내용 요약 (리스트 조회 용도)
+-- 리스트 조회는 내용(content) 대신 저장 시 만들어 둔 요약(최대 100자, 공백 정리)만 조회한다.
+
+ALTER TABLE tb_post
+    ADD COLUMN excerpt VARCHAR(100) NULL COMMENT '내용 요약 (리스트 용도)' AFTER content;
+
+-- 기존 게시글 요약 생성
+UPDATE tb_post
+SET
+    excerpt = LEFT(TRIM(REGEXP_REPLACE(content, '[[:space:]]+', ' ')), 100)
+WHERE
+    excerpt IS NULL;
@@ -0,0 +1,15 @@
+-- 긴 본문 저장 (내용 컬럼 확장)
+-- 기준 크기 이상인 내용은 애플리케이션에서 압축(deflate + Base64, 형식 표시 '\x01z1:')하여 저장하므로 텍스트 컬럼을 유지한다.
+-- 큰 값은 InnoDB에서 행 밖(off-page)에 저장되므로, 리스트 조회(요약만 조회)에는 영향이 없다.
+
+ALTER TABLE tb_post
+    MODIFY COLUMN content MEDIUMTEXT NOT NULL COMMENT '내용 (압축된 경우 형식 표시로 시작)';
+
+ALTER TABLE tb_post_archive
+    MODIFY COLUMN content MEDIUMTEXT NOT NULL COMMENT '내용 (압축된 경우 형식 표시로 시작)';
+
+ALTER TABLE tb_comment
+    MODIFY COLUMN content TEXT NOT NULL COMMENT '내용 (압축된 경우 형식 표시로 시작)';
+
+ALTER TABLE tb_comment_archive
+    MODIFY COLUMN content TEXT NOT NULL COMMENT '내용 (압축된 경우 형식 표시로 시작)';
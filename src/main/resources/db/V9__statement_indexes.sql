@@ -0,0 +1,26 @@
+-- 매퍼 구문별 인덱스 (mappers/*.xml 기준)
+-- 각 구문의 실행 계획은 MapperExplainTest에서 검증한다. (전체 스캔/filesort는 허용 목록에 등록된 구문만 허용)
+-- InnoDB 보조 인덱스는 PK(id)를 포함하므로, (조건 컬럼, id) 인덱스는 id 정렬 + LIMIT 조회를 정렬 없이 처리한다.
+
+-- 게시글 리스트/수 (검색어 없음, 공지글 제외), 공지글 리스트 : notice_yn, delete_yn 일치 → id 역순
+-- 게시글 리스트/수 (검색어 있음, 공지글 포함) : delete_yn 일치 → id 역순
+-- 인기글 후보 : delete_yn 일치 → created_date 범위
+ALTER TABLE tb_post
+      ADD KEY ix_post_notice (notice_yn, delete_yn, id)
+    , ADD KEY ix_post_list (delete_yn, id)
+    , ADD KEY ix_post_popular (delete_yn, created_date);
+
+-- 아카이브 대상 댓글 : 삭제되었고 답글이 없는 댓글 → id 순
+ALTER TABLE tb_comment
+    ADD KEY ix_comment_archivable (delete_yn, reply_cnt, id);
+
+-- 게시글별 파일 리스트/삭제 : post_id, delete_yn 일치 → id 순
+-- 디스크 정리 대상 : delete_yn 일치 → id 순
+-- 고아 파일 확인 : save_name 일치
+-- 팩 세그먼트별 파일 리스트 : storage_type, pack_id, delete_yn 일치 → pack_offset 순 (기존 인덱스 확장)
+ALTER TABLE tb_file
+      ADD KEY ix_file_post (post_id, delete_yn, id)
+    , ADD KEY ix_file_deleted (delete_yn, id)
+    , ADD KEY ix_file_save_name (save_name)
+    , DROP KEY ix_file_pack
+    , ADD KEY ix_file_pack (storage_type, pack_id, delete_yn, pack_offset);
@@ -0,0 +1,112 @@
+package com.study;
+
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.session.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * 내장 MariaDB (MariaDB4j) 테스트 DB
+ * 빈 DB를 만들고 db/V*.sql을 버전 순서로 적용한다. (MariaDB4j 바이너리 실행에 libaio, libncurses 등 OS 라이브러리가 필요)
+ * 내장 DB 테스트는 실행 시간이 길어 기본 빌드에서는 건너뛰며, -Dboard.db-tests=true로 실행한다.
+ */
+final class EmbeddedDatabase implements AutoCloseable {
+
+    static final String ENABLED_PROPERTY = "board.db-tests";
+
+    private final DB db;
+    private final Connection connection;
+
+    private EmbeddedDatabase(final DB db, final Connection connection) {
+        this.db = db;
+        this.connection = connection;
+    }
+
+    /**
+     * 내장 DB 시작 및 스키마 적용
+     * @param name - DB 이름
+     * @return 내장 DB
+     */
+    static EmbeddedDatabase start(final String name) throws Exception {
+        DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder();
+        config.setPort(0);
+        DB db = DB.newEmbeddedDB(config.build());
+        db.start();
+        db.createDB(name);
+        String url = "jdbc:mariadb://localhost:" + db.getConfiguration().getPort() + "/" + name + "?useUnicode=true&characterEncoding=utf8";
+        Connection connection = DriverManager.getConnection(url, "root", "");
+
+        EmbeddedDatabase database = new EmbeddedDatabase(db, connection);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER DATABASE " + name + " CHARACTER SET utf8mb4 COLLATE utf8mb4_general_ci");
+        }
+        database.migrate();
+        return database;
+    }
+
+    /**
+     * SQL 실행 (데이터 준비)
+     * @param sqls - 실행할 SQL
+     */
+    void execute(final String... sqls) throws Exception {
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : sqls) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    Connection getConnection() {
+        return connection;
+    }
+
+    @Override
+    public void close() throws Exception {
+        try {
+            connection.close();
+        } finally {
+            db.stop();
+        }
+    }
+
+    // 스키마 적용 (db/V{버전}__{설명}.sql, 버전 순)
+    private void migrate() throws Exception {
+        Resource[] scripts = new PathMatchingResourcePatternResolver().getResources("classpath:db/V*__*.sql");
+        Arrays.sort(scripts, Comparator.comparingInt(script -> {
+            String filename = Objects.requireNonNull(script.getFilename());
+            return Integer.parseInt(filename.substring(1, filename.indexOf("__")));
+        }));
+        for (Resource script : scripts) {
+            ScriptUtils.executeSqlScript(connection, new EncodedResource(script, StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * 매퍼 XML 로딩 (다른 매퍼의 sql/resultMap 참조는 전체 로딩 후 해석)
+     * @return MyBatis 설정 (매핑 구문 포함)
+     */
+    static Configuration loadMappers() throws Exception {
+        Configuration configuration = new Configuration();
+        configuration.setMapUnderscoreToCamelCase(true);
+        for (Resource mapper : new PathMatchingResourcePatternResolver().getResources("classpath:/mappers/**/*Mapper.xml")) {
+            try (InputStream in = mapper.getInputStream()) {
+                new XMLMapperBuilder(in, configuration, mapper.toString(), configuration.getSqlFragments()).parse();
+            }
+        }
+        return configuration;
+    }
+
+}
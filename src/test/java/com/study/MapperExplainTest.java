@@ -0,0 +1,251 @@
+package com.study;
+
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.reflection.ParamNameResolver;
+import org.apache.ibatis.scripting.defaults.DefaultParameterHandler;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 매퍼 구문 실행 계획 테스트
+ * 내장 MariaDB(MariaDB4j)에 db/V*.sql을 버전 순서로 적용하고 운영과 비슷한 규모의 데이터를 넣은 후,
+ * mappers/*.xml의 모든 구문(INSERT ... VALUES 제외)을 EXPLAIN하여 허용 목록에 없는 전체 스캔/filesort가 있으면 실패한다.
+ *
+ * 전체 스캔 : type=ALL, 또는 LIMIT 없는 type=index (파생 테이블 &lt;derivedN&gt;, &lt;unionN&gt;은 제외)
+ * 검색어(LIKE '%키워드%') 조건은 인덱스를 사용할 수 없으므로, 게시글 검색 구문은 검색어 없이 검증한다.
+ * (MariaDB4j 바이너리 실행에 libaio, libncurses 등 OS 라이브러리가 필요)
+ *
+ * 내장 DB 버전은 운영 대상 버전(MariaDB 10.11 LTS)과 맞춘다. (mariaDB4j 3.0.x)
+ * DB 바이너리를 내려받아 시작하고 수십만 건을 넣으므로 기본 빌드에서는 건너뛴다.
+ * 실행 : ./gradlew test --tests com.study.MapperExplainTest -Dboard.db-tests=true
+ */
+@EnabledIfSystemProperty(named = EmbeddedDatabase.ENABLED_PROPERTY, matches = "true")
+class MapperExplainTest {
+
+    private static final String DB_NAME = "board";
+    private static final Pattern INSERT_SELECT = Pattern.compile("(?is)^\\s*INSERT\\b.*\\bSELECT\\b");
+    private static final Pattern LIMIT = Pattern.compile("(?i)\\bLIMIT\\b");
+
+    // 전체 스캔 허용 구문 : 사유
+    private static final Map<String, String> ALLOWED_FULL_SCANS = Map.of(
+            "com.study.domain.post.PostMapper.findAllTitles", "자동완성 색인 재구성 (시작 시 전체 조회)",
+            "com.study.domain.post.PostMapper.count", "삭제되지 않은 게시글 대부분을 카운팅 (인덱스만 조회)",
+            "com.study.domain.archive.ArchiveMapper.findArchivablePostIds", "아카이브 배치 (OR 조건)",
+            "com.study.domain.file.FileMapper.deleteAllOfDeletedPosts", "삭제 게시글 파일 정리 배치",
+            "com.study.domain.file.FileMapper.findAllPackUsage", "팩 정리 배치 (팩 파일 전체 집계)",
+            "com.study.domain.export.ExportMapper.findAllPost", "전체 내보내기",
+            "com.study.domain.changelog.ChangeLogMapper.findMinPosition", "노드 수만큼의 행",
+            "com.study.domain.changelog.ChangeLogMapper.deleteStaleCursors", "노드 수만큼의 행"
+    );
+
+    // filesort 허용 구문 : 사유
+    private static final Map<String, String> ALLOWED_FILESORTS = Map.of(
+            "com.study.domain.post.PostMapper.findAllPopularCandidates", "최근 게시글 후보만 조회 수 순으로 정렬",
+            "com.study.domain.comment.CommentMapper.findAll", "한 페이지의 스레드만 정렬 (루트 역순 + 경로 순)",
+            "com.study.domain.comment.CommentMapper.findAllThread", "한 게시글의 댓글만 정렬 (정렬 방향 혼합)",
+            "com.study.domain.comment.CommentMapper.findAllArchived", "한 페이지의 스레드만 정렬 (루트 역순 + 경로 순)",
+            "com.study.domain.comment.CommentMapper.findAllArchivedThread", "한 게시글의 댓글만 정렬 (정렬 방향 혼합)",
+            "com.study.domain.archive.ArchiveMapper.findArchivablePostIds", "아카이브 배치 (OR 조건)",
+            "com.study.domain.file.FileMapper.findAllPackUsage", "팩 정리 배치 (팩 파일 전체 집계)",
+            "com.study.domain.export.ExportMapper.findAllPost", "전체 내보내기",
+            "com.study.domain.export.ExportMapper.findAllComment", "게시글별 내보내기 (한 게시글의 댓글만 정렬)"
+    );
+
+    // 운영과 비슷한 비율의 데이터 (게시글 5만, 댓글 20만, 파일 5만 등)
+    private static final String[] SEED = {
+            "INSERT INTO tb_post (id, title, content, excerpt, writer, view_cnt, notice_yn, delete_yn, created_date, modified_date) "
+                    + "SELECT seq, CONCAT('title ', seq), CONCAT('content ', seq), CONCAT('content ', seq), CONCAT('writer', seq % 500), "
+                    + "seq % 1000, seq % 1000 = 0, seq % 40 = 0, NOW() - INTERVAL (50000 - seq) * 30 MINUTE, NULL FROM seq_1_to_50000",
+
+            "INSERT INTO tb_post_archive (id, title, content, writer, view_cnt, notice_yn, delete_yn, created_date, modified_date, archived_date) "
+                    + "SELECT 100000 + seq, CONCAT('title ', seq), CONCAT('content ', seq), CONCAT('writer', seq % 500), "
+                    + "seq % 1000, 0, seq % 5 = 0, NOW() - INTERVAL 3 YEAR, NULL, NOW() FROM seq_1_to_10000",
+
+            // 스레드 4만 개 (루트 1 + 답글 4), 게시글 1만 개에 분산
+            "INSERT INTO tb_comment (id, post_id, parent_id, root_id, depth, path, reply_cnt, content, writer, delete_yn, created_date, modified_date) "
+                    + "SELECT seq, 1 + ((seq - 1) DIV 5) % 10000, "
+                    + "IF((seq - 1) % 5 = 0, NULL, seq - (seq - 1) % 5), seq - (seq - 1) % 5, IF((seq - 1) % 5 = 0, 0, 1), "
+                    + "IF((seq - 1) % 5 = 0, LPAD(seq, 10, '0'), CONCAT(LPAD(seq - (seq - 1) % 5, 10, '0'), '/', LPAD(seq, 10, '0'))), "
+                    + "IF((seq - 1) % 5 = 0, 4, 0), CONCAT('comment ', seq), CONCAT('writer', seq % 500), seq % 100 = 0, NOW(), NULL "
+                    + "FROM seq_1_to_200000",
+
+            // 아카이브 스레드 4천 개 (루트 1 + 답글 4)
+            "INSERT INTO tb_comment_archive (id, post_id, parent_id, root_id, depth, path, reply_cnt, content, writer, delete_yn, created_date, modified_date, archived_date) "
+                    + "SELECT 300000 + seq, 100000 + 1 + ((seq - 1) DIV 5) % 10000, "
+                    + "IF((seq - 1) % 5 = 0, NULL, 300000 + seq - (seq - 1) % 5), 300000 + seq - (seq - 1) % 5, IF((seq - 1) % 5 = 0, 0, 1), "
+                    + "IF((seq - 1) % 5 = 0, LPAD(300000 + seq, 10, '0'), CONCAT(LPAD(300000 + seq - (seq - 1) % 5, 10, '0'), '/', LPAD(300000 + seq, 10, '0'))), "
+                    + "IF((seq - 1) % 5 = 0, 4, 0), CONCAT('comment ', seq), 'writer', 0, NOW() - INTERVAL 3 YEAR, NULL, NOW() "
+                    + "FROM seq_1_to_20000",
+
+            "INSERT INTO tb_file (id, post_id, original_name, save_name, size, storage_type, pack_id, pack_offset, delete_yn, created_date, deleted_date) "
+                    + "SELECT seq, 1 + seq % 20000, CONCAT('file', seq, '.png'), MD5(seq), 1024 + seq % 100000, "
+                    + "IF(seq % 3 = 0, 'PACK', 'DISK'), IF(seq % 3 = 0, seq % 50, NULL), IF(seq % 3 = 0, seq * 1024, NULL), "
+                    + "seq % 40 = 0, NOW(), IF(seq % 40 = 0, NOW(), NULL) FROM seq_1_to_50000",
+
+            "INSERT INTO tb_member (id, login_id, password, name, gender, birthday, delete_yn, created_date, modified_date) "
+                    + "SELECT seq, CONCAT('user', seq), REPEAT('x', 60), CONCAT('name', seq), IF(seq % 2 = 0, 'M', 'F'), '1990-01-01', 0, NOW(), NULL "
+                    + "FROM seq_1_to_5000",
+
+            "INSERT INTO tb_change_log (id, entity, entity_id, operation, node_id, created_date) "
+                    + "SELECT seq, 'POST', 1 + seq % 50000, 'UPDATE', CONCAT('node-', seq % 3), NOW(3) - INTERVAL (100000 - seq) SECOND "
+                    + "FROM seq_1_to_100000",
+
+            "INSERT INTO tb_change_log_cursor (node_id, position, updated_date) "
+                    + "SELECT CONCAT('node-', seq), 99000 + seq, NOW() FROM seq_0_to_2",
+
+            "INSERT INTO tb_import_job (id, source, format, status, committed_records, message, created_date, modified_date) "
+                    + "SELECT seq, CONCAT('/imports/', seq, '.ndjson'), 'NDJSON', 'COMPLETED', 1000, NULL, NOW(), NULL FROM seq_1_to_100",
+
+            "INSERT INTO tb_post_draft (member_id, post_id, title, writer, content, modified_date) "
+                    + "SELECT 1 + seq % 5000, IF(seq <= 5000, 0, seq), CONCAT('title ', seq), 'writer', CONCAT('content ', seq), NOW() - INTERVAL seq MINUTE "
+                    + "FROM seq_1_to_20000",
+
+            "ANALYZE TABLE tb_post, tb_post_archive, tb_comment, tb_comment_archive, tb_file, tb_member, tb_change_log, tb_change_log_cursor, tb_import_job, tb_post_draft"
+    };
+
+    private static EmbeddedDatabase database;
+    private static Connection connection;
+    private static Configuration configuration;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        database = EmbeddedDatabase.start(DB_NAME);
+        connection = database.getConnection();
+        database.execute(SEED);
+        configuration = EmbeddedDatabase.loadMappers();
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        if (database != null) {
+            database.close();
+        }
+    }
+
+    @Test
+    void explainAllStatements() throws Exception {
+        List<String> violations = new ArrayList<>();
+        Map<String, List<String>> plans = new TreeMap<>();
+
+        for (MappedStatement ms : findAllStatements()) {
+            Object parameter = parameterOf(ms);
+            BoundSql boundSql = ms.getBoundSql(parameter);
+            String sql = boundSql.getSql();
+            if (ms.getSqlCommandType() == SqlCommandType.INSERT && INSERT_SELECT.matcher(sql).find() == false) {
+                continue;
+            }
+
+            List<String> rows = new ArrayList<>();
+            try (PreparedStatement ps = connection.prepareStatement("EXPLAIN " + sql)) {
+                new DefaultParameterHandler(ms, parameter, boundSql).setParameters(ps);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        String table = rs.getString("table");
+                        String type = rs.getString("type");
+                        String extra = Objects.toString(rs.getString("Extra"), "");
+                        rows.add(table + " type=" + type + " key=" + rs.getString("key") + " rows=" + rs.getString("rows") + " extra=" + extra);
+
+                        boolean derived = table != null && table.startsWith("<");
+                        boolean fullScan = "ALL".equals(type) || ("index".equals(type) && LIMIT.matcher(sql).find() == false);
+                        if (derived == false && fullScan && ALLOWED_FULL_SCANS.containsKey(ms.getId()) == false) {
+                            violations.add(ms.getId() + " : full scan on " + table + " (type=" + type + ")");
+                        }
+                        if (extra.contains("Using filesort") && ALLOWED_FILESORTS.containsKey(ms.getId()) == false) {
+                            violations.add(ms.getId() + " : filesort on " + table);
+                        }
+                    }
+                }
+            }
+            plans.put(ms.getId(), rows);
+        }
+
+        plans.forEach((id, rows) -> System.out.println(id + "\n    " + String.join("\n    ", rows)));
+        assertThat(plans).isNotEmpty();
+        assertThat(violations).as("실행 계획 위반 (인덱스 추가 또는 허용 목록 등록 필요)").isEmpty();
+    }
+
+    @Test
+    void allowedStatementsExist() {
+        for (String id : ALLOWED_FULL_SCANS.keySet()) {
+            assertThat(configuration.hasStatement(id)).as(id).isTrue();
+        }
+        for (String id : ALLOWED_FILESORTS.keySet()) {
+            assertThat(configuration.hasStatement(id)).as(id).isTrue();
+        }
+    }
+
+    // 전체 구문 (namespace.id 기준, selectKey 제외)
+    private static List<MappedStatement> findAllStatements() {
+        List<MappedStatement> statements = new ArrayList<>();
+        for (String name : new ArrayList<>(configuration.getMappedStatementNames())) {
+            if (name.contains(".") && name.contains("!selectKey") == false) {
+                statements.add(configuration.getMappedStatement(name));
+            }
+        }
+        statements.sort(Comparator.comparing(MappedStatement::getId));
+        return statements;
+    }
+
+    /**
+     * 구문별 파라미터 (parameterType 기준)
+     * DTO/@Param 구문은 조건에 사용되는 이름을 모두 담은 Map으로 대신한다. (SET 절의 값은 실행 계획과 무관하므로 null)
+     * @param ms - 매핑 구문
+     * @return 파라미터
+     */
+    private static Object parameterOf(final MappedStatement ms) {
+        Class<?> type = ms.getParameterMap().getType();
+        if (type == Long.class) {
+            return 1L;
+        }
+        if (type == Integer.class) {
+            return 100;
+        }
+        if (type == String.class) {
+            return "user1";
+        }
+        if (type == LocalDateTime.class) {
+            return LocalDateTime.now().minusDays(1);
+        }
+        if (type != null && List.class.isAssignableFrom(type)) {
+            return ParamNameResolver.wrapToMapIfCollection(List.of(1L, 2L, 3L), null);
+        }
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("id", 1L);
+        params.put("postId", 1L);
+        params.put("memberId", 1L);
+        params.put("packId", 1L);
+        params.put("packOffset", 0L);
+        params.put("position", 99000L);
+        params.put("limit", 100);
+        params.put("since", LocalDateTime.now().minusDays(7));
+        params.put("cutoffDate", LocalDateTime.now().minusYears(1));
+        params.put("nodeId", "node-1");
+        params.put("saveNames", List.of("c4ca4238a0b923820dcc509a6f75849b", "c81e728d9d4c2f636f067f89cc14862c"));
+        params.put("excludeNotice", true);
+        params.put("recordSize", 10);
+        params.put("pagination", Map.of("limitStart", 0));
+        return params;
+    }
+
+}
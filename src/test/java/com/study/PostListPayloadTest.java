@@ -0,0 +1,124 @@
+package com.study;
+
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.scripting.defaults.DefaultParameterHandler;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 리스트 전송량 테스트
+ * 리스트 조회(PostMapper.findAll, 요약만 조회)와 같은 페이지를 전체 컬럼(내용 포함, 요약 도입 전 조회 방식)으로 조회한 경우의
+ * 서버 전송량(Bytes_sent 세션 상태 변수의 증가량)을 비교한다.
+ *
+ * 실행 : ./gradlew test --tests com.study.PostListPayloadTest -Dboard.db-tests=true
+ */
+@EnabledIfSystemProperty(named = EmbeddedDatabase.ENABLED_PROPERTY, matches = "true")
+class PostListPayloadTest {
+
+    private static final String DB_NAME = "board_payload";
+    private static final int RECORD_SIZE = 10;
+
+    // 요약 도입 전 리스트 조회 컬럼 (postColumns)
+    private static final String FULL_COLUMNS = "p.id, p.title, p.content, p.writer, p.view_cnt, p.notice_yn, p.delete_yn, p.created_date, p.modified_date";
+
+    // 내용 약 2,400자 (한글 7,200바이트)의 게시글 1천 개
+    private static final String[] SEED = {
+            "INSERT INTO tb_post (id, title, content, excerpt, writer, view_cnt, notice_yn, delete_yn, created_date, modified_date) "
+                    + "SELECT seq, CONCAT('title ', seq), REPEAT('가나다라마바사 ', 300), LEFT(REPEAT('가나다라마바사 ', 300), 100), "
+                    + "CONCAT('writer', seq % 50), seq, 0, 0, NOW() - INTERVAL (1000 - seq) MINUTE, NULL FROM seq_1_to_1000",
+
+            "ANALYZE TABLE tb_post"
+    };
+
+    private static EmbeddedDatabase database;
+    private static Connection connection;
+    private static Configuration configuration;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        database = EmbeddedDatabase.start(DB_NAME);
+        connection = database.getConnection();
+        database.execute(SEED);
+        configuration = EmbeddedDatabase.loadMappers();
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        if (database != null) {
+            database.close();
+        }
+    }
+
+    @Test
+    void listSendsExcerptInsteadOfContent() throws Exception {
+        MappedStatement ms = configuration.getMappedStatement("com.study.domain.post.PostMapper.findAll");
+        Map<String, Object> params = new HashMap<>();
+        params.put("excludeNotice", true);
+        params.put("recordSize", RECORD_SIZE);
+        params.put("pagination", Map.of("limitStart", 0));
+        BoundSql boundSql = ms.getBoundSql(params);
+
+        // 같은 페이지 (같은 조건, 같은 정렬, 같은 LIMIT)
+        String listSql = boundSql.getSql();
+        String fullSql = "SELECT " + FULL_COLUMNS + " FROM tb_post p INNER JOIN (" + listSql + ") page ON page.id = p.id ORDER BY p.id DESC";
+
+        long overhead = measure(null, null, null);
+        long listBytes = measure(listSql, ms, boundSql) - overhead;
+        long fullBytes = measure(fullSql, ms, boundSql) - overhead;
+
+        System.out.println("list page (" + RECORD_SIZE + " rows) : excerpt " + listBytes + " bytes, full " + fullBytes + " bytes ("
+                + (fullBytes / Math.max(listBytes, 1)) + "x)");
+        assertThat(listBytes).isPositive();
+        assertThat(listBytes * 5).as("리스트 전송량은 전체 컬럼 조회의 1/5 미만").isLessThan(fullBytes);
+    }
+
+    /**
+     * 구문 실행 전후의 서버 전송량 차이 (결과를 모두 읽음)
+     * 측정용 SHOW 구문 자체의 전송량은 구문 없이 측정한 값(overhead)을 빼서 제외한다.
+     * @param sql - 측정할 SQL (null이면 측정 구문만 실행)
+     * @param ms - 매핑 구문 (파라미터 바인딩 용도)
+     * @param boundSql - 바인딩된 SQL (파라미터 바인딩 용도)
+     * @return 전송량 (바이트)
+     */
+    private static long measure(final String sql, final MappedStatement ms, final BoundSql boundSql) throws Exception {
+        long before = readBytesSent();
+        if (sql != null) {
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                new DefaultParameterHandler(ms, boundSql.getParameterObject(), boundSql).setParameters(ps);
+                try (ResultSet rs = ps.executeQuery()) {
+                    int columnCount = rs.getMetaData().getColumnCount();
+                    int rows = 0;
+                    while (rs.next()) {
+                        for (int i = 1; i <= columnCount; i++) {
+                            rs.getString(i);
+                        }
+                        rows++;
+                    }
+                    assertThat(rows).isEqualTo(RECORD_SIZE);
+                }
+            }
+        }
+        return readBytesSent() - before;
+    }
+
+    private static long readBytesSent() throws Exception {
+        try (PreparedStatement ps = connection.prepareStatement("SHOW SESSION STATUS LIKE 'Bytes_sent'");
+             ResultSet rs = ps.executeQuery()) {
+            rs.next();
+            return rs.getLong(2);
+        }
+    }
+
+}
@@ -0,0 +1,137 @@
+package com.study.common.mybatis;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.Deflater;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompressedTextTypeHandlerTest {
+
+    private static final int THRESHOLD = 256;
+
+    @BeforeEach
+    void setUp() {
+        CompressedTextTypeHandler.configure(true, THRESHOLD, 6);
+    }
+
+    @AfterEach
+    void tearDown() {
+        CompressedTextTypeHandler.configure(false, 4096, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    // 압축이 잘 되는 본문 (한글 포함, 기준 크기 이상)
+    private static String longContent() {
+        return "게시판 본문 내용입니다. Lorem ipsum dolor sit amet. ".repeat(50);
+    }
+
+    @Test
+    void roundTripAboveThreshold() {
+        String content = longContent();
+        String stored = CompressedTextTypeHandler.encode(content);
+
+        assertThat(stored).startsWith(CompressedTextTypeHandler.FORMAT_MARKER);
+        assertThat(stored.length()).isLessThan(content.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(CompressedTextTypeHandler.decode(stored)).isEqualTo(content);
+    }
+
+    @Test
+    void storePlainBelowThreshold() {
+        String content = "짧은 본문";
+        assertThat(CompressedTextTypeHandler.encode(content)).isEqualTo(content);
+        assertThat(CompressedTextTypeHandler.decode(content)).isEqualTo(content);
+    }
+
+    @Test
+    void storePlainWhenIncompressible() {
+        byte[] random = new byte[THRESHOLD * 2];
+        new Random(42).nextBytes(random);
+        String content = Base64.getEncoder().encodeToString(random);
+        assertThat(CompressedTextTypeHandler.encode(content)).isEqualTo(content);
+    }
+
+    @Test
+    void storePlainWhenDisabled() {
+        String content = longContent();
+        String compressed = CompressedTextTypeHandler.encode(content);
+
+        // 비활성화 후에도 이미 압축된 값은 해제하여 조회
+        CompressedTextTypeHandler.configure(false, THRESHOLD, 6);
+        assertThat(CompressedTextTypeHandler.encode(content)).isEqualTo(content);
+        assertThat(CompressedTextTypeHandler.decode(compressed)).isEqualTo(content);
+    }
+
+    @Test
+    void readLegacyPlainRows() {
+        assertThat(CompressedTextTypeHandler.decode(null)).isNull();
+        assertThat(CompressedTextTypeHandler.decode("")).isEqualTo("");
+        assertThat(CompressedTextTypeHandler.decode("압축 적용 이전에 저장된 본문")).isEqualTo("압축 적용 이전에 저장된 본문");
+        assertThat(CompressedTextTypeHandler.decode(longContent())).isEqualTo(longContent());
+    }
+
+    @Test
+    void compressInputStartingWithMarker() {
+        // 형식 표시로 시작하는 원본은 크기, 설정과 관계없이 압축해야 조회 시 원본과 구분됨
+        String content = CompressedTextTypeHandler.FORMAT_MARKER + "abc";
+        String stored = CompressedTextTypeHandler.encode(content);
+        assertThat(stored).startsWith(CompressedTextTypeHandler.FORMAT_MARKER);
+        assertThat(stored).isNotEqualTo(content);
+        assertThat(CompressedTextTypeHandler.decode(stored)).isEqualTo(content);
+
+        CompressedTextTypeHandler.configure(false, THRESHOLD, 6);
+        assertThat(CompressedTextTypeHandler.decode(CompressedTextTypeHandler.encode(content))).isEqualTo(content);
+    }
+
+    @Test
+    void rejectTruncatedPayload() {
+        String stored = CompressedTextTypeHandler.encode(longContent());
+        String payload = stored.substring(CompressedTextTypeHandler.FORMAT_MARKER.length());
+        // 앞쪽 절반 (Base64로는 유효하도록 4의 배수 길이)
+        String truncated = CompressedTextTypeHandler.FORMAT_MARKER + payload.substring(0, payload.length() / 8 * 4);
+
+        assertThatThrownBy(() -> CompressedTextTypeHandler.decode(truncated))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("truncated");
+    }
+
+    @Test
+    void rejectCorruptPayload() {
+        // Base64가 아닌 값
+        assertThatThrownBy(() -> CompressedTextTypeHandler.decode(CompressedTextTypeHandler.FORMAT_MARKER + "not base64 !!"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("invalid");
+
+        // deflate 형식이 아닌 값
+        byte[] garbage = new byte[64];
+        Arrays.fill(garbage, (byte) 0xFF);
+        assertThatThrownBy(() -> CompressedTextTypeHandler.decode(CompressedTextTypeHandler.FORMAT_MARKER + Base64.getEncoder().encodeToString(garbage)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void recordFetchTimeInStats() throws Exception {
+        String stored = CompressedTextTypeHandler.encode(longContent());
+        ResultSet rs = (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] { ResultSet.class },
+                (proxy, method, args) -> "getString".equals(method.getName()) ? stored : null);
+        long before = (Long) CompressedTextTypeHandler.getStats().get("fetches");
+
+        CompressedTextTypeHandler handler = new CompressedTextTypeHandler();
+        assertThat(handler.getNullableResult(rs, "content")).isEqualTo(longContent());
+        assertThat(handler.getNullableResult(rs, 1)).isEqualTo(longContent());
+
+        Map<String, Object> stats = CompressedTextTypeHandler.getStats();
+        assertThat((Long) stats.get("fetches") - before).isEqualTo(2L);
+        assertThat(stats).containsKey("avgFetchMicros");
+    }
+
+}
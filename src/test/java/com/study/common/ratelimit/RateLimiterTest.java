@@ -0,0 +1,104 @@
+package com.study.common.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimiterTest {
+
+    private static RateLimiter create(final String routes, final int maxBuckets) {
+        RateLimiter rateLimiter = new RateLimiter(routes);
+        ReflectionTestUtils.setField(rateLimiter, "enabled", true);
+        ReflectionTestUtils.setField(rateLimiter, "maxBuckets", maxBuckets);
+        return rateLimiter;
+    }
+
+    @Test
+    void roundRetryAfterUp() {
+        assertThat(RateLimiter.toRetryAfterSeconds(1L)).isEqualTo(1L);
+        assertThat(RateLimiter.toRetryAfterSeconds(TimeUnit.MILLISECONDS.toNanos(500))).isEqualTo(1L);
+        assertThat(RateLimiter.toRetryAfterSeconds(TimeUnit.SECONDS.toNanos(1))).isEqualTo(1L);
+        assertThat(RateLimiter.toRetryAfterSeconds(TimeUnit.SECONDS.toNanos(1) + 1)).isEqualTo(2L);
+        assertThat(RateLimiter.toRetryAfterSeconds(TimeUnit.MILLISECONDS.toNanos(2500))).isEqualTo(3L);
+    }
+
+    @Test
+    void limitPerRuleAndSubject() {
+        RateLimiter rateLimiter = create("POST:/post/save.do:2:0.01", 100);
+
+        assertThat(rateLimiter.tryAcquire("POST", "/post/save.do", "ip:a")).isEqualTo(0L);
+        assertThat(rateLimiter.tryAcquire("POST", "/post/save.do", "ip:a")).isEqualTo(0L);
+        assertThat(rateLimiter.tryAcquire("POST", "/post/save.do", "ip:a")).isPositive();
+
+        // 다른 주체, 대상이 아닌 메서드/경로는 제한 없음
+        assertThat(rateLimiter.tryAcquire("POST", "/post/save.do", "ip:b")).isEqualTo(0L);
+        assertThat(rateLimiter.tryAcquire("GET", "/post/save.do", "ip:a")).isEqualTo(0L);
+        assertThat(rateLimiter.tryAcquire("POST", "/post/delete.do", "ip:a")).isEqualTo(0L);
+
+        assertThat(rateLimiter.getThrottledCounts()).containsEntry("POST /post/save.do", 1L);
+        assertThat(rateLimiter.getAllowedCount()).isEqualTo(3L);
+    }
+
+    @Test
+    void limitMemberByIpToo() {
+        RateLimiter rateLimiter = create("POST:/comments:2:0.01", 100);
+
+        // 같은 IP의 다른 회원도 IP 버킷을 함께 사용
+        assertThat(rateLimiter.tryAcquire("POST", "/comments", "ip:a", "member:1")).isEqualTo(0L);
+        assertThat(rateLimiter.tryAcquire("POST", "/comments", "ip:a", "member:2")).isEqualTo(0L);
+        assertThat(rateLimiter.tryAcquire("POST", "/comments", "ip:a", "member:3")).isPositive();
+    }
+
+    @Test
+    void evictFullBucketsFirst() throws Exception {
+        RateLimiter rateLimiter = create("POST:/comments:1:1000", 10);
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.tryAcquire("POST", "/comments", "ip:" + i);
+        }
+        assertThat(rateLimiter.getBucketCount()).isEqualTo(10);
+
+        // 모든 버킷이 다시 가득 찬 후 새 주체 : 가득 찬 버킷은 모두 제거
+        TimeUnit.MILLISECONDS.sleep(20);
+        rateLimiter.tryAcquire("POST", "/comments", "ip:new");
+        assertThat(rateLimiter.getBucketCount()).isEqualTo(1);
+        assertThat(rateLimiter.getEvictedCount()).isEqualTo(10L);
+    }
+
+    @Test
+    void evictDownToNinetyPercentWhenNoneFull() {
+        RateLimiter rateLimiter = create("POST:/comments:1:0.01", 10);
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.tryAcquire("POST", "/comments", "ip:" + i);
+        }
+
+        // 가득 찬 버킷이 없으면 한도의 90%까지 임의로 제거한 후 새 버킷 추가
+        rateLimiter.tryAcquire("POST", "/comments", "ip:new");
+        assertThat(rateLimiter.getBucketCount()).isEqualTo(10);
+        assertThat(rateLimiter.getEvictedCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void rejectInvalidRule() {
+        assertThatThrownBy(() -> RateLimitRule.parse("POST:/post/save.do:10:0"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("refill");
+        assertThatThrownBy(() -> RateLimitRule.parse("POST:/post/save.do:10:-1"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RateLimitRule.parse("POST:/post/save.do:0:1"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("capacity");
+        assertThatThrownBy(() -> RateLimitRule.parse("POST:/post/save.do:10"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RateLimiter("POST:/post/save.do:10:1, POST:/comments:5:0"))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        RateLimitRule rule = RateLimitRule.parse(" post:/post/save.do:10:0.5 ");
+        assertThat(rule.getName()).isEqualTo("POST /post/save.do");
+        assertThat(rule.getCapacity()).isEqualTo(10);
+    }
+
+}
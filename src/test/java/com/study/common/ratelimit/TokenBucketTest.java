@@ -0,0 +1,79 @@
+package com.study.common.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void allowBurstUpToCapacity() {
+        long now = 1_000 * SECOND;
+        TokenBucket bucket = new TokenBucket(3, 1, now);
+
+        assertThat(bucket.tryConsume(now)).isEqualTo(0L);
+        assertThat(bucket.tryConsume(now)).isEqualTo(0L);
+        assertThat(bucket.tryConsume(now)).isEqualTo(0L);
+
+        // 용량 초과 : 토큰 1개가 충전될 때까지 대기
+        assertThat(bucket.tryConsume(now)).isEqualTo(SECOND);
+    }
+
+    @Test
+    void refillOverTime() {
+        long now = 1_000 * SECOND;
+        TokenBucket bucket = new TokenBucket(2, 2, now);
+        bucket.tryConsume(now);
+        bucket.tryConsume(now);
+        assertThat(bucket.tryConsume(now)).isEqualTo(SECOND / 2);
+
+        // 0.25초 후 : 아직 충전되지 않음 (남은 시간 감소)
+        assertThat(bucket.tryConsume(now + SECOND / 4)).isEqualTo(SECOND / 4);
+
+        // 0.5초 후 : 토큰 1개 충전
+        assertThat(bucket.tryConsume(now + SECOND / 2)).isEqualTo(0L);
+        assertThat(bucket.tryConsume(now + SECOND / 2)).isPositive();
+
+        // 충분히 지난 후 : 용량까지만 충전
+        long later = now + 60 * SECOND;
+        assertThat(bucket.isFull(later)).isTrue();
+        assertThat(bucket.tryConsume(later)).isEqualTo(0L);
+        assertThat(bucket.tryConsume(later)).isEqualTo(0L);
+        assertThat(bucket.tryConsume(later)).isPositive();
+    }
+
+    @Test
+    void rejectedRequestDoesNotConsume() {
+        long now = 1_000 * SECOND;
+        TokenBucket bucket = new TokenBucket(1, 1, now);
+        bucket.tryConsume(now);
+        for (int i = 0; i < 10; i++) {
+            assertThat(bucket.tryConsume(now)).isEqualTo(SECOND);
+        }
+        assertThat(bucket.tryConsume(now + SECOND)).isEqualTo(0L);
+    }
+
+    @Test
+    void fullOnlyAfterRefill() {
+        long now = 1_000 * SECOND;
+        TokenBucket bucket = new TokenBucket(5, 10, now);
+        assertThat(bucket.isFull(now)).isTrue();
+
+        bucket.tryConsume(now);
+        assertThat(bucket.isFull(now)).isFalse();
+        assertThat(bucket.isFull(now + SECOND / 10)).isTrue();
+    }
+
+    @Test
+    void fractionalRefill() {
+        long now = 1_000 * SECOND;
+        TokenBucket bucket = new TokenBucket(1, 0.5, now);
+        bucket.tryConsume(now);
+        assertThat(bucket.tryConsume(now)).isEqualTo(2 * SECOND);
+    }
+
+}
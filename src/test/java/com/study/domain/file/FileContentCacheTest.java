@@ -0,0 +1,189 @@
+package com.study.domain.file;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileContentCacheTest {
+
+    private static final int ADMIT_THRESHOLD = 3;
+
+    private FileContentCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new FileContentCache();
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "maxBytes", 20L);
+        ReflectionTestUtils.setField(cache, "maxFileSize", 10L);
+        ReflectionTestUtils.setField(cache, "admitThreshold", ADMIT_THRESHOLD);
+        ReflectionTestUtils.setField(cache, "maxTracked", 1000);
+    }
+
+    private static FileResponse file(final long id, final long postId, final int size) {
+        FileResponse file = new FileResponse();
+        ReflectionTestUtils.setField(file, "id", id);
+        ReflectionTestUtils.setField(file, "postId", postId);
+        ReflectionTestUtils.setField(file, "saveName", "file" + id);
+        ReflectionTestUtils.setField(file, "size", (long) size);
+        return file;
+    }
+
+    private static Resource content(final int size) {
+        return new ByteArrayResource(new byte[size]);
+    }
+
+    // 다운로드 (횟수 기록 후 캐시에 없으면 저장 시도)
+    private void download(final FileResponse file, final int times) {
+        for (int i = 0; i < times; i++) {
+            if (cache.find(file.getId()) == null) {
+                cache.admit(file, content((int) file.getSize()), cache.getGeneration());
+            }
+        }
+    }
+
+    private Object status(final String key) {
+        return cache.getStatus().get(key);
+    }
+
+    @Test
+    void admitOnlyAtThreshold() {
+        FileResponse file = file(1L, 1L, 8);
+        Resource original = content(8);
+
+        for (int i = 1; i < ADMIT_THRESHOLD; i++) {
+            cache.find(1L);
+            assertThat(cache.admit(file, original, cache.getGeneration())).isSameAs(original);
+        }
+        assertThat(status("entries")).isEqualTo(0);
+
+        cache.find(1L);
+        assertThat(cache.admit(file, original, cache.getGeneration())).isNotSameAs(original);
+        assertThat(cache.find(1L)).isNotNull();
+        assertThat(status("usedBytes")).isEqualTo(8L);
+    }
+
+    @Test
+    void skipLargeFiles() {
+        download(file(1L, 1L, 11), ADMIT_THRESHOLD + 2);
+        assertThat(status("entries")).isEqualTo(0);
+    }
+
+    @Test
+    void skipWhenSizeDiffers() {
+        // DB의 크기와 실제 내용의 크기가 다른 경우 저장하지 않음
+        FileResponse file = file(1L, 1L, 8);
+        for (int i = 0; i < ADMIT_THRESHOLD; i++) {
+            cache.find(1L);
+        }
+        Resource shorter = content(6);
+        assertThat(cache.admit(file, shorter, cache.getGeneration())).isSameAs(shorter);
+        assertThat(status("entries")).isEqualTo(0);
+    }
+
+    @Test
+    void rejectWhenVictimsAreMoreFrequent() {
+        download(file(1L, 1L, 8), 6);
+        download(file(2L, 1L, 8), 5);
+
+        // 용량이 부족하고 기존 파일의 횟수가 더 많음 : 제거 대상 없음 (저장 거부)
+        download(file(3L, 1L, 8), ADMIT_THRESHOLD);
+        assertThat(cache.find(3L)).isNull();
+        assertThat(status("entries")).isEqualTo(2);
+        assertThat(status("rejected")).isEqualTo(1L);
+        assertThat(status("evicted")).isEqualTo(0L);
+    }
+
+    @Test
+    void evictLessFrequent() {
+        download(file(1L, 1L, 8), ADMIT_THRESHOLD);
+        download(file(2L, 1L, 8), 6);
+
+        // 3번째 다운로드는 1번과 횟수가 같아 거부, 4번째 다운로드에서 1번 제거 후 저장
+        download(file(3L, 1L, 8), 4);
+        assertThat(status("rejected")).isEqualTo(1L);
+        assertThat(status("evicted")).isEqualTo(1L);
+        assertThat(status("usedBytes")).isEqualTo(16L);
+        assertThat(cache.find(1L)).isNull();
+        assertThat(cache.find(2L)).isNotNull();
+        assertThat(cache.find(3L)).isNotNull();
+    }
+
+    @Test
+    void skipAdmitAfterInvalidation() {
+        FileResponse file = file(1L, 1L, 8);
+        for (int i = 0; i < ADMIT_THRESHOLD; i++) {
+            cache.find(1L);
+        }
+
+        // DB 조회 전에 받은 세대 이후 파일이 삭제됨 : 저장하지 않음
+        long generation = cache.getGeneration();
+        cache.invalidate(List.of(1L));
+        cache.admit(file, content(8), generation);
+        assertThat(status("entries")).isEqualTo(0);
+    }
+
+    @Test
+    void skipAdmitWhenInvalidatedDuringRead() {
+        FileResponse file = file(1L, 1L, 8);
+        for (int i = 0; i < ADMIT_THRESHOLD; i++) {
+            cache.find(1L);
+        }
+
+        // 저장 가능 확인 후 내용을 읽는 동안 파일이 삭제됨 : 읽은 후 세대를 다시 확인하여 저장하지 않음
+        Resource racing = new ByteArrayResource(new byte[8]) {
+            @Override
+            public ReadableByteChannel readableChannel() throws IOException {
+                cache.invalidate(List.of(1L));
+                return super.readableChannel();
+            }
+        };
+        cache.admit(file, racing, cache.getGeneration());
+        assertThat(status("entries")).isEqualTo(0);
+        assertThat(status("admitted")).isEqualTo(0L);
+    }
+
+    @Test
+    void invalidatePostFiles() {
+        download(file(1L, 1L, 4), ADMIT_THRESHOLD);
+        download(file(2L, 1L, 4), ADMIT_THRESHOLD);
+        download(file(3L, 2L, 4), ADMIT_THRESHOLD);
+
+        cache.invalidatePost(1L);
+        assertThat(cache.find(1L)).isNull();
+        assertThat(cache.find(2L)).isNull();
+        assertThat(cache.find(3L)).isNotNull();
+        assertThat(status("usedBytes")).isEqualTo(4L);
+    }
+
+    @Test
+    void rerankOnDecay() {
+        download(file(1L, 1L, 8), ADMIT_THRESHOLD);
+        download(file(2L, 1L, 8), 4);
+
+        // 1번의 횟수가 늘어도 제거 순서는 저장 시점의 횟수(3) 기준 : 1번이 먼저 확인되어(현재 10회) 3번은 저장 거부
+        for (int i = 0; i < 7; i++) {
+            cache.find(1L);
+        }
+        download(file(3L, 1L, 8), 5);
+        assertThat(cache.find(3L)).isNull();
+        assertThat(status("evicted")).isEqualTo(0L);
+
+        // decay 후 (1번 5회, 2번 2회, 3번 3회) : 제거 순서가 갱신되어 2번이 제거 대상
+        cache.decay();
+        download(file(3L, 1L, 8), 1);
+        assertThat(status("evicted")).isEqualTo(1L);
+        assertThat(cache.find(2L)).isNull();
+        assertThat(cache.find(1L)).isNotNull();
+        assertThat(cache.find(3L)).isNotNull();
+    }
+
+}
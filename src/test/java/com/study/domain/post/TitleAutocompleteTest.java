@@ -0,0 +1,152 @@
+package com.study.domain.post;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TitleAutocompleteTest {
+
+    // 색인 재구성(rebuild)은 호출하지 않으므로 PostMapper 없이 생성
+    private static TitleAutocomplete create(final int cacheSize) {
+        return new TitleAutocomplete(null, cacheSize, 8, 48);
+    }
+
+    private static List<Long> findIds(final TitleAutocomplete autocomplete, final String keyword, final String sort) {
+        return autocomplete.findAll(keyword, 10, sort).stream().map(PostSuggestionResponse::getId).collect(Collectors.toList());
+    }
+
+    @Test
+    void splitEdgeOnInsert() {
+        TitleAutocomplete autocomplete = create(16);
+        autocomplete.put(1L, "abc", 0);
+        assertThat(autocomplete.countNodes()).isEqualTo(2);
+
+        // "abc" 간선이 "ab" + {"c", "d"}로 분할
+        autocomplete.put(2L, "abd", 0);
+        assertThat(autocomplete.countNodes()).isEqualTo(4);
+        assertThat(findIds(autocomplete, "ab", "recent")).containsExactly(2L, 1L);
+        assertThat(findIds(autocomplete, "a", "recent")).containsExactly(2L, 1L);
+        assertThat(findIds(autocomplete, "abc", "recent")).containsExactly(1L);
+        assertThat(findIds(autocomplete, "abe", "recent")).isEmpty();
+    }
+
+    @Test
+    void mergeEdgeOnDelete() {
+        TitleAutocomplete autocomplete = create(16);
+        autocomplete.put(1L, "abc", 0);
+        autocomplete.put(2L, "abd", 0);
+
+        // "d" 노드 제거 후, 자식이 하나만 남은 "ab" 노드는 "c"와 합쳐짐
+        autocomplete.remove(2L);
+        assertThat(autocomplete.countNodes()).isEqualTo(2);
+        assertThat(findIds(autocomplete, "ab", "recent")).containsExactly(1L);
+        assertThat(findIds(autocomplete, "abd", "recent")).isEmpty();
+
+        // 합쳐진 간선도 다시 분할됨
+        autocomplete.put(3L, "abx", 0);
+        assertThat(autocomplete.countNodes()).isEqualTo(4);
+        assertThat(findIds(autocomplete, "abc", "recent")).containsExactly(1L);
+        assertThat(findIds(autocomplete, "abx", "recent")).containsExactly(3L);
+
+        autocomplete.remove(1L);
+        autocomplete.remove(3L);
+        assertThat(autocomplete.countNodes()).isEqualTo(1);
+        assertThat(findIds(autocomplete, "a", "recent")).isEmpty();
+    }
+
+    @Test
+    void keepTopOnInsertAndDelete() {
+        TitleAutocomplete autocomplete = create(3);
+        autocomplete.put(1L, "apple", 0);
+        autocomplete.put(2L, "apply", 0);
+        autocomplete.put(3L, "apple", 0);
+        autocomplete.put(4L, "apricot", 0);
+        assertThat(findIds(autocomplete, "ap", "recent")).containsExactly(4L, 3L, 2L);
+
+        // 최신 게시글이 제거되면 자식 노드로부터 다시 계산 (cache-size 밖이던 게시글 복원)
+        autocomplete.remove(4L);
+        assertThat(findIds(autocomplete, "ap", "recent")).containsExactly(3L, 2L, 1L);
+        assertThat(findIds(autocomplete, "appl", "recent")).containsExactly(3L, 2L, 1L);
+        assertThat(findIds(autocomplete, "apple", "recent")).containsExactly(3L, 1L);
+
+        autocomplete.remove(3L);
+        assertThat(findIds(autocomplete, "ap", "recent")).containsExactly(2L, 1L);
+        assertThat(autocomplete.findAll("ap", 1, "recent")).hasSize(1);
+    }
+
+    @Test
+    void replaceTitleOnPut() {
+        TitleAutocomplete autocomplete = create(16);
+        autocomplete.put(1L, "old title", 0);
+        autocomplete.put(1L, "new title", 0);
+        assertThat(findIds(autocomplete, "old", "recent")).isEmpty();
+        assertThat(findIds(autocomplete, "new", "recent")).containsExactly(1L);
+        assertThat(findIds(autocomplete, "title", "recent")).containsExactly(1L);
+    }
+
+    @Test
+    void sortByViews() {
+        TitleAutocomplete autocomplete = create(16);
+        autocomplete.put(1L, "java", 10);
+        autocomplete.put(2L, "javascript", 50);
+        autocomplete.put(3L, "java spring", 5);
+        assertThat(findIds(autocomplete, "java", "views")).containsExactly(2L, 1L, 3L);
+
+        autocomplete.recordView(3L, 100);
+        assertThat(findIds(autocomplete, "java", "views")).containsExactly(3L, 2L, 1L);
+        assertThat(findIds(autocomplete, "java", "recent")).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    void matchJamoPrefixWhileTyping() {
+        TitleAutocomplete autocomplete = create(16);
+        autocomplete.put(1L, "한글 맞춤법", 0);
+        autocomplete.put(2L, "Spring Boot", 0);
+
+        assertThat(findIds(autocomplete, "ㅎ", "recent")).containsExactly(1L);
+        assertThat(findIds(autocomplete, "하", "recent")).containsExactly(1L);
+        assertThat(findIds(autocomplete, "한ㄱ", "recent")).containsExactly(1L);
+        assertThat(findIds(autocomplete, "한그", "recent")).containsExactly(1L);
+        assertThat(findIds(autocomplete, "한 글 맞", "recent")).containsExactly(1L);
+        assertThat(findIds(autocomplete, "맞춤", "recent")).containsExactly(1L);
+        assertThat(findIds(autocomplete, "BOOT", "recent")).containsExactly(2L);
+
+        // 단어 중간, 초성 나열은 일치하지 않음
+        assertThat(findIds(autocomplete, "춤법", "recent")).isEmpty();
+        assertThat(findIds(autocomplete, "ㅎㄱ", "recent")).isEmpty();
+    }
+
+    @Test
+    void applyAfterCommit() {
+        TitleAutocomplete autocomplete = create(16);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            autocomplete.put(1L, "commit", 0);
+            assertThat(findIds(autocomplete, "commit", "recent")).isEmpty();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(findIds(autocomplete, "commit", "recent")).containsExactly(1L);
+    }
+
+    @Test
+    void skipOnRollback() {
+        TitleAutocomplete autocomplete = create(16);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            autocomplete.put(1L, "rollback", 0);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(findIds(autocomplete, "rollback", "recent")).isEmpty();
+    }
+
+}
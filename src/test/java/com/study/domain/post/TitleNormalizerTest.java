@@ -0,0 +1,59 @@
+package com.study.domain.post;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TitleNormalizerTest {
+
+    @Test
+    void decomposeSyllables() {
+        assertThat(TitleNormalizer.normalize("한글")).isEqualTo("ㅎㅏㄴㄱㅡㄹ");
+    }
+
+    @Test
+    void composingSyllableIsPrefix() {
+        String title = TitleNormalizer.normalize("한글");
+        assertThat(title).startsWith(TitleNormalizer.normalize("ㅎ"));
+        assertThat(title).startsWith(TitleNormalizer.normalize("하"));
+        assertThat(title).startsWith(TitleNormalizer.normalize("한"));
+        assertThat(title).startsWith(TitleNormalizer.normalize("한ㄱ"));
+        assertThat(title).startsWith(TitleNormalizer.normalize("한그"));
+    }
+
+    @Test
+    void splitCompoundJamo() {
+        // 겹모음/겹받침은 입력 순서대로 분해 (과 = ㄱ + ㅗ + ㅏ, 닭 = ㄷ + ㅏ + ㄹ + ㄱ)
+        assertThat(TitleNormalizer.normalize("과")).isEqualTo("ㄱㅗㅏ");
+        assertThat(TitleNormalizer.normalize("닭")).isEqualTo("ㄷㅏㄹㄱ");
+        assertThat(TitleNormalizer.normalize("ㄺ")).isEqualTo("ㄹㄱ");
+        assertThat(TitleNormalizer.normalize("닭")).startsWith(TitleNormalizer.normalize("달"));
+    }
+
+    @Test
+    void removeWhitespaceAndLowerCase() {
+        assertThat(TitleNormalizer.normalize("  Spring   Boot ")).isEqualTo("springboot");
+        assertThat(TitleNormalizer.normalize(null)).isEmpty();
+    }
+
+    @Test
+    void composeDecomposedInput() {
+        String decomposed = Normalizer.normalize("한글", Normalizer.Form.NFD);
+        assertThat(TitleNormalizer.normalize(decomposed)).isEqualTo("ㅎㅏㄴㄱㅡㄹ");
+    }
+
+    @Test
+    void keysStartAtEachWord() {
+        assertThat(TitleNormalizer.keys("Spring Boot 입문", 8, 48))
+                .containsExactly("springbootㅇㅣㅂㅁㅜㄴ", "bootㅇㅣㅂㅁㅜㄴ", "ㅇㅣㅂㅁㅜㄴ");
+    }
+
+    @Test
+    void keysLimitedByWordsAndLength() {
+        assertThat(TitleNormalizer.keys("a b c", 2, 2)).containsExactly("ab", "bc");
+        assertThat(TitleNormalizer.keys("a a", 8, 48)).containsExactly("aa", "a");
+    }
+
+}
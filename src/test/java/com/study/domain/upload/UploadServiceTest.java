@@ -0,0 +1,194 @@
+package com.study.domain.upload;
+
+import com.study.common.file.FileUtils;
+import com.study.domain.file.FileService;
+import com.study.domain.post.PostResponse;
+import com.study.domain.post.PostService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UploadServiceTest {
+
+    private static final long MEMBER_ID = 1L;
+    private static final int CHUNK_SIZE = 4;
+
+    private Path root;
+    private UploadService uploadService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        root = Files.createTempDirectory("upload-service");
+        FileUtils fileUtils = mock(FileUtils.class);
+        when(fileUtils.getChunkRoot()).thenReturn(root);
+        PostResponse post = mock(PostResponse.class);
+        when(post.getId()).thenReturn(10L);
+        PostService postService = mock(PostService.class);
+        when(postService.findLivePostById(10L)).thenReturn(post);
+
+        uploadService = new UploadService(fileUtils, mock(FileService.class), postService);
+        ReflectionTestUtils.setField(uploadService, "maxSize", 1024L);
+        ReflectionTestUtils.setField(uploadService, "defaultChunkSize", CHUNK_SIZE);
+        ReflectionTestUtils.setField(uploadService, "minChunkSize", 1);
+        ReflectionTestUtils.setField(uploadService, "maxChunkSize", 1024);
+        ReflectionTestUtils.setField(uploadService, "maxSessions", 10);
+        ReflectionTestUtils.setField(uploadService, "maxSessionsPerMember", 5);
+        ReflectionTestUtils.setField(uploadService, "expireMinutes", 60L);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        uploadService.close();
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    // 10바이트 파일 업로드 시작 (4 + 4 + 2)
+    private String initiate() {
+        UploadRequest params = new UploadRequest();
+        ReflectionTestUtils.setField(params, "postId", 10L);
+        ReflectionTestUtils.setField(params, "filename", "a.bin");
+        ReflectionTestUtils.setField(params, "size", 10L);
+        return uploadService.initiateUpload(MEMBER_ID, params).getUploadId();
+    }
+
+    private void upload(final String uploadId, final int index, final String data) throws Exception {
+        uploadService.uploadChunk(MEMBER_ID, uploadId, index, sha256(data), new ByteArrayInputStream(data.getBytes()));
+    }
+
+    private long reservedBytes() {
+        return (Long) uploadService.getStatus().get("reservedBytes");
+    }
+
+    @Test
+    void reserveUntilChunksWritten() throws Exception {
+        String uploadId = initiate();
+        assertThat(reservedBytes()).isEqualTo(10L);
+
+        upload(uploadId, 0, "abcd");
+        assertThat(reservedBytes()).isEqualTo(6L);
+        upload(uploadId, 2, "ij");
+        assertThat(reservedBytes()).isEqualTo(4L);
+        assertThat(uploadService.findUpload(MEMBER_ID, uploadId).getMissingChunks()).containsExactly(1);
+    }
+
+    @Test
+    void skipResendWithSameChecksum() throws Exception {
+        String uploadId = initiate();
+        upload(uploadId, 0, "abcd");
+        upload(uploadId, 0, "abcd");
+
+        assertThat(uploadService.getStatus().get("receivedChunks")).isEqualTo(1L);
+        assertThat(reservedBytes()).isEqualTo(6L);
+    }
+
+    @Test
+    void overwriteResendWithDifferentChecksum() throws Exception {
+        String uploadId = initiate();
+        upload(uploadId, 0, "abcd");
+        upload(uploadId, 0, "wxyz");
+
+        // 같은 위치에 다시 기록 : 예약 용량은 처음 기록할 때만 줄어듦
+        assertThat(uploadService.getStatus().get("receivedChunks")).isEqualTo(2L);
+        assertThat(reservedBytes()).isEqualTo(6L);
+        byte[] content = Files.readAllBytes(root.resolve(uploadId + ".part"));
+        assertThat(new String(content, 0, 4)).isEqualTo("wxyz");
+    }
+
+    @Test
+    void rejectChecksumMismatchAndKeepMissing() throws Exception {
+        String uploadId = initiate();
+        assertThatThrownBy(() -> uploadService.uploadChunk(MEMBER_ID, uploadId, 1, sha256("other"), new ByteArrayInputStream("efgh".getBytes())))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("checksum mismatch");
+
+        assertThat(uploadService.findUpload(MEMBER_ID, uploadId).getMissingChunks()).containsExactly(0, 1, 2);
+        assertThat(uploadService.getStatus().get("rejectedChunks")).isEqualTo(1L);
+    }
+
+    @Test
+    void checkLastChunkLength() throws Exception {
+        String uploadId = initiate();
+
+        // 마지막 조각은 나머지 크기(2바이트)만 허용
+        assertThatThrownBy(() -> upload(uploadId, 2, "ijkl"))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("larger than 2");
+        assertThatThrownBy(() -> upload(uploadId, 2, "i"))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("size mismatch");
+        assertThat(reservedBytes()).isEqualTo(10L);
+
+        upload(uploadId, 2, "ij");
+        assertThat(uploadService.findUpload(MEMBER_ID, uploadId).getMissingChunks()).containsExactly(0, 1);
+    }
+
+    @Test
+    void rejectCompleteWithMissingChunks() throws Exception {
+        String uploadId = initiate();
+        upload(uploadId, 0, "abcd");
+        upload(uploadId, 2, "ij");
+
+        assertThatThrownBy(() -> uploadService.completeUpload(MEMBER_ID, uploadId))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("missing chunks : 1");
+
+        // 세션은 유지되므로 빠진 조각을 이어서 올릴 수 있음
+        assertThat(uploadService.findUpload(MEMBER_ID, uploadId).getMissingChunks()).containsExactly(1);
+        assertThat(Files.exists(root.resolve(uploadId + ".part"))).isTrue();
+    }
+
+    @Test
+    void cleanupExpiredSession() throws Exception {
+        String uploadId = initiate();
+        upload(uploadId, 0, "abcd");
+        ReflectionTestUtils.setField(uploadService, "expireMinutes", 0L);
+        Thread.sleep(5);
+
+        uploadService.cleanup();
+
+        // 세션, 임시 파일 삭제 및 세션 자리/남은 예약 용량 반환
+        assertThat(uploadService.getStatus().get("sessions")).isEqualTo(0);
+        assertThat(uploadService.getStatus().get("expired")).isEqualTo(1L);
+        assertThat(reservedBytes()).isEqualTo(0L);
+        assertThat(Files.exists(root.resolve(uploadId + ".part"))).isFalse();
+        assertThatThrownBy(() -> uploadService.findUpload(MEMBER_ID, uploadId))
+                .isInstanceOf(ResponseStatusException.class);
+
+        ReflectionTestUtils.setField(uploadService, "expireMinutes", 60L);
+        ReflectionTestUtils.setField(uploadService, "maxSessionsPerMember", 1);
+        assertThat(initiate()).isNotNull();
+    }
+
+    @Test
+    void rejectOtherMembersUpload() {
+        String uploadId = initiate();
+        assertThatThrownBy(() -> uploadService.findUpload(2L, uploadId))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("upload not found");
+    }
+
+    private static String sha256(final String data) throws Exception {
+        StringBuilder hex = new StringBuilder();
+        for (byte b : MessageDigest.getInstance("SHA-256").digest(data.getBytes())) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+}
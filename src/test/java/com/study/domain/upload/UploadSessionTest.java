@@ -0,0 +1,112 @@
+package com.study.domain.upload;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UploadSessionTest {
+
+    private Path root;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        root = Files.createTempDirectory("upload-session");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    // 10바이트 파일, 4바이트 조각 (4 + 4 + 2)
+    private UploadSession open() throws Exception {
+        return UploadSession.open("u1", 1L, 1L, "a.bin", 10, 4, root.resolve("u1.part"));
+    }
+
+    @Test
+    void lastChunkIsRemainder() throws Exception {
+        UploadSession session = open();
+        try {
+            assertThat(session.getChunkCount()).isEqualTo(3);
+            assertThat(session.getChunkLength(0)).isEqualTo(4);
+            assertThat(session.getChunkLength(2)).isEqualTo(2);
+            assertThat(session.getPosition(2)).isEqualTo(8L);
+            assertThat(Files.size(session.getPath())).isEqualTo(10L);
+        } finally {
+            session.discard();
+        }
+    }
+
+    @Test
+    void releaseReservationOnlyOnFirstWrite() throws Exception {
+        UploadSession session = open();
+        try {
+            assertThat(session.getOutstandingBytes()).isEqualTo(10L);
+
+            session.startChunk(2);
+            assertThat(session.finishChunk(2, "c2")).isEqualTo(2L);
+            assertThat(session.getOutstandingBytes()).isEqualTo(8L);
+
+            // 같은 조각 재기록 (블록은 이미 할당됨) : 예약에서 다시 빼지 않음
+            session.startChunk(2);
+            assertThat(session.finishChunk(2, "c2'")).isEqualTo(0L);
+            assertThat(session.getOutstandingBytes()).isEqualTo(8L);
+        } finally {
+            session.discard();
+        }
+    }
+
+    @Test
+    void failedWriteKeepsReservation() throws Exception {
+        UploadSession session = open();
+        try {
+            session.startChunk(0);
+            assertThat(session.finishChunk(0, null)).isEqualTo(0L);
+            assertThat(session.getOutstandingBytes()).isEqualTo(10L);
+            assertThat(session.countReceived()).isEqualTo(0);
+            assertThat(session.getChecksum(0)).isNull();
+        } finally {
+            session.discard();
+        }
+    }
+
+    @Test
+    void resendClearsReceivedUntilFinished() throws Exception {
+        UploadSession session = open();
+        try {
+            session.startChunk(0);
+            session.finishChunk(0, "c0");
+            assertThat(session.getChecksum(0)).isEqualTo("c0");
+
+            // 다른 체크섬으로 재전송 : 기록이 끝날 때까지 받지 않은 조각, 같은 조각의 동시 기록은 거부
+            assertThat(session.startChunk(0)).isTrue();
+            assertThat(session.startChunk(0)).isFalse();
+            assertThat(session.getChecksum(0)).isNull();
+            assertThat(session.findMissing()).containsExactly(0, 1, 2);
+
+            session.finishChunk(0, "c0'");
+            assertThat(session.getChecksum(0)).isEqualTo("c0'");
+            assertThat(session.findMissing()).containsExactly(1, 2);
+        } finally {
+            session.discard();
+        }
+    }
+
+    @Test
+    void discardDeletesFile() throws Exception {
+        UploadSession session = open();
+        session.discard();
+        assertThat(session.isClosed()).isTrue();
+        assertThat(Files.exists(session.getPath())).isFalse();
+    }
+
+}